@@ -34,6 +34,8 @@ public class QAlarmInterior extends EntityPathBase<AlarmInterior> {
 
     public final BooleanPath status = createBoolean("status");
 
+    public final StringPath type = createString("type");
+
     public final QUser user;
 
     public QAlarmInterior(String variable) {
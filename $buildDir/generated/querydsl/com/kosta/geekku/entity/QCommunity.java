@@ -26,6 +26,10 @@ public class QCommunity extends EntityPathBase<Community> {
 
     public final StringPath address2 = createString("address2");
 
+    public final NumberPath<Integer> bookmarkCount = createNumber("bookmarkCount", Integer.class);
+
+    public final NumberPath<Integer> commentCount = createNumber("commentCount", Integer.class);
+
     public final NumberPath<Integer> communityNum = createNumber("communityNum", Integer.class);
 
     public final StringPath content = createString("content");
@@ -30,6 +30,12 @@ public class QCommunityComment extends EntityPathBase<CommunityComment> {
 
     public final DateTimePath<java.sql.Timestamp> createdAt = createDateTime("createdAt", java.sql.Timestamp.class);
 
+    public final NumberPath<Integer> depth = createNumber("depth", Integer.class);
+
+    public final NumberPath<Integer> parentNum = createNumber("parentNum", Integer.class);
+
+    public final StringPath path = createString("path");
+
     public final QUser user;
 
     public QCommunityComment(String variable) {
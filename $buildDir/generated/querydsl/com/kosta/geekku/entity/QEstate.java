@@ -32,6 +32,8 @@ public class QEstate extends EntityPathBase<Estate> {
 
     public final NumberPath<Integer> bathCount = createNumber("bathCount", Integer.class);
 
+    public final NumberPath<Integer> bookmarkCount = createNumber("bookmarkCount", Integer.class);
+
     public final NumberPath<Integer> buyPrice = createNumber("buyPrice", Integer.class);
 
     public final QCompany company;
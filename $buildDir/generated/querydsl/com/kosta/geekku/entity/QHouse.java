@@ -28,6 +28,8 @@ public class QHouse extends EntityPathBase<House> {
 
     public final BooleanPath allowPhone = createBoolean("allowPhone");
 
+    public final NumberPath<Integer> answerCount = createNumber("answerCount", Integer.class);
+
     public final NumberPath<Integer> buyPrice = createNumber("buyPrice", Integer.class);
 
     public final StringPath content = createString("content");
@@ -22,6 +22,8 @@ public class QInterior extends EntityPathBase<Interior> {
 
     public static final QInterior interior = new QInterior("interior");
 
+    public final NumberPath<Integer> bookmarkCount = createNumber("bookmarkCount", Integer.class);
+
     public final QCompany company;
 
     public final StringPath content = createString("content");
@@ -30,6 +30,8 @@ public class QInteriorAllRequest extends EntityPathBase<InteriorAllRequest> {
 
     public final BooleanPath allowPhone = createBoolean("allowPhone");
 
+    public final NumberPath<Integer> answerCount = createNumber("answerCount", Integer.class);
+
     public final DateTimePath<java.sql.Timestamp> createAt = createDateTime("createAt", java.sql.Timestamp.class);
 
     public final StringPath interiorType = createString("interiorType");
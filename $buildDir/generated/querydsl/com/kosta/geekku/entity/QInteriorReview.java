@@ -36,6 +36,8 @@ public class QInteriorReview extends EntityPathBase<InteriorReview> {
 
     public final NumberPath<Integer> reviewNum = createNumber("reviewNum", Integer.class);
 
+    public final NumberPath<Integer> score = createNumber("score", Integer.class);
+
     public final NumberPath<Integer> size = createNumber("size", Integer.class);
 
     public final StringPath style = createString("style");
@@ -28,6 +28,8 @@ public class QOnestop extends EntityPathBase<Onestop> {
 
     public final BooleanPath allowPhone = createBoolean("allowPhone");
 
+    public final NumberPath<Integer> answerCount = createNumber("answerCount", Integer.class);
+
     public final StringPath content = createString("content");
 
     public final DateTimePath<java.sql.Timestamp> createdAt = createDateTime("createdAt", java.sql.Timestamp.class);
@@ -0,0 +1,111 @@
+package com.kosta.geekku.config.jwt;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.kosta.geekku.config.auth.PrincipalCache;
+import com.kosta.geekku.dto.PrincipalDto;
+import com.kosta.geekku.entity.Role;
+import com.kosta.geekku.repository.CompanyRepository;
+import com.kosta.geekku.repository.UserRepository;
+
+/**
+ * 인증 필터 토큰 검증 비용 측정.
+ * legacyVerifyTwice: 기존 방식 (요청마다 알고리즘/검증기 생성 + sub, role 각각 검증)
+ * sharedVerifier: 공유 검증기로 한 번 검증
+ * cachedVerifier: 검증된 토큰 claim 캐시
+ * filterHotPath: 인증이 필요한 요청 한 건의 필터 전체 (DB 대신 고정 회원을 돌려주는 저장소, 회원 캐시 적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthrizationFilterBenchmark {
+
+	private static final String USERNAME = "bench";
+
+	private String accessToken;
+	private String header;
+	private JwtTokenVerifier jwtTokenVerifier;
+	private JwtAuthrizationFilter filter;
+	private final FilterChain chain = (request, response) -> {
+	};
+
+	@Setup
+	public void setup() {
+		accessToken = new JwtToken().makeAccessToken(USERNAME, "user");
+		header = "{\"access_token\":\"" + JwtProperties.TOKEN_PREFIX + accessToken + "\",\"refresh_token\":\""
+				+ JwtProperties.TOKEN_PREFIX + new JwtToken().makeRefreshToken(USERNAME, "user") + "\"}";
+		jwtTokenVerifier = new JwtTokenVerifier();
+
+		PrincipalDto user = new PrincipalDto(UUID.randomUUID(), USERNAME, Role.ROLE_USER, false);
+		PrincipalDto company = new PrincipalDto(UUID.randomUUID(), USERNAME, Role.ROLE_COMPANY, false);
+		PrincipalCache principalCache = new PrincipalCache(stub(UserRepository.class, Optional.of(user)),
+				stub(CompanyRepository.class, Optional.of(company)));
+		filter = new JwtAuthrizationFilter(authentication -> authentication, principalCache);
+	}
+
+	// findPrincipalByUsername만 고정 값을 돌려주는 저장소
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, Object found) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "findPrincipalByUsername":
+				return found;
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			case "toString":
+				return type.getSimpleName() + "Stub";
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	@Benchmark
+	public String legacyVerifyTwice() {
+		String username = JWT.require(Algorithm.HMAC512(JwtProperties.SECRET)).build().verify(accessToken)
+				.getClaim("sub").asString();
+		String role = JWT.require(Algorithm.HMAC512(JwtProperties.SECRET)).build().verify(accessToken)
+				.getClaim("role").asString();
+		return username + role;
+	}
+
+	@Benchmark
+	public String sharedVerifier() {
+		return JwtTokenVerifier.VERIFIER.verify(accessToken).getSubject();
+	}
+
+	@Benchmark
+	public String cachedVerifier() {
+		return jwtTokenVerifier.verify(accessToken).getUsername();
+	}
+
+	@Benchmark
+	public int filterHotPath() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/alarms");
+		request.addHeader(JwtProperties.HEADER_STRING, header);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		SecurityContextHolder.clearContext();
+		return response.getStatus();
+	}
+}
@@ -0,0 +1,105 @@
+package com.kosta.geekku.config.jwt;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kosta.geekku.config.auth.PrincipalCache;
+import com.kosta.geekku.dto.PrincipalDto;
+import com.kosta.geekku.entity.Role;
+import com.kosta.geekku.repository.CompanyRepository;
+import com.kosta.geekku.repository.UserRepository;
+
+/**
+ * 인증 필터 요청당 할당량 측정 (gc 프로파일러의 gc.alloc.rate.norm = 요청 한 건당 할당 bytes).
+ * 요청/응답 객체는 재사용해서 필터 자체의 할당만 잰다.
+ * bearerHeader: "Authorization: Bearer 토큰", legacyJsonHeader: 기존 JSON 헤더 (공유 ObjectReader)
+ * legacyMapperPerRequest: 이전 방식 (요청마다 ObjectMapper 생성 후 JSON 헤더 파싱)만 따로
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtHeaderAllocationBenchmark {
+
+	private static final String USERNAME = "bench";
+
+	private JwtAuthrizationFilter filter;
+	private String legacyHeader;
+	private MockHttpServletRequest bearerRequest;
+	private MockHttpServletRequest legacyRequest;
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+	private final FilterChain chain = (request, response) -> {
+	};
+
+	@Setup
+	public void setup() throws Exception {
+		JwtToken jwtToken = new JwtToken();
+		String accessToken = jwtToken.makeAccessToken(USERNAME, "user");
+		legacyHeader = JwtHeader.write(accessToken, jwtToken.makeRefreshToken(USERNAME, "user"));
+
+		bearerRequest = new MockHttpServletRequest("GET", "/user/alarms");
+		bearerRequest.addHeader(JwtProperties.HEADER_STRING, JwtProperties.TOKEN_PREFIX + accessToken);
+		legacyRequest = new MockHttpServletRequest("GET", "/user/alarms");
+		legacyRequest.addHeader(JwtProperties.HEADER_STRING, legacyHeader);
+
+		PrincipalDto user = new PrincipalDto(UUID.randomUUID(), USERNAME, Role.ROLE_USER, false);
+		PrincipalCache principalCache = new PrincipalCache(stub(UserRepository.class, Optional.of(user)),
+				stub(CompanyRepository.class, Optional.empty()));
+		filter = new JwtAuthrizationFilter(authentication -> authentication, principalCache);
+	}
+
+	// findPrincipalByUsername만 고정 값을 돌려주는 저장소
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, Object found) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "findPrincipalByUsername":
+				return found;
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			case "toString":
+				return type.getSimpleName() + "Stub";
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	@Benchmark
+	public int bearerHeader() throws Exception {
+		filter.doFilter(bearerRequest, response, chain);
+		SecurityContextHolder.clearContext();
+		return response.getStatus();
+	}
+
+	@Benchmark
+	public int legacyJsonHeader() throws Exception {
+		filter.doFilter(legacyRequest, response, chain);
+		SecurityContextHolder.clearContext();
+		return response.getStatus();
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public Map<String, String> legacyMapperPerRequest() throws Exception {
+		return new ObjectMapper().readValue(legacyHeader, Map.class);
+	}
+}
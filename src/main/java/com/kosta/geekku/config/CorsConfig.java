@@ -21,6 +21,7 @@ public class CorsConfig {
 		config.addAllowedHeader("*");
 		config.addAllowedMethod("*");
 		config.addExposedHeader(JwtProperties.HEADER_STRING);
+		config.addExposedHeader(JwtProperties.REFRESH_HEADER_STRING);
 		
 		source.registerCorsConfiguration("/*", config);
 		source.registerCorsConfiguration("/*/*", config);
@@ -0,0 +1,38 @@
+package com.kosta.geekku.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+	// 인테리어 상세 (업체/시공사례/리뷰) 병렬 조회용 - 큐가 차면 호출한 요청 스레드에서 실행
+	@Bean(name = "interiorDetailExecutor")
+	public ThreadPoolTaskExecutor interiorDetailExecutor(@Value("${interior.detail.threads:8}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(threads * 16);
+		executor.setThreadNamePrefix("interior-detail-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// 알림 SSE 전송용 - 연결별 버퍼를 비우는 작업만 실행 (큐가 차면 거절, 버퍼에 남은 알림은 다음 전송때 보낸다)
+	@Bean(name = "alarmPushExecutor")
+	public ThreadPoolTaskExecutor alarmPushExecutor(@Value("${alarm.sse.threads:4}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(10000);
+		executor.setThreadNamePrefix("alarm-push-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+}
@@ -11,12 +11,11 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.filter.CorsFilter;
 
+import com.kosta.geekku.config.auth.PrincipalCache;
 import com.kosta.geekku.config.jwt.JwtAuthenticationFilter;
 import com.kosta.geekku.config.jwt.JwtAuthrizationFilter;
 import com.kosta.geekku.config.oauth.OAuth2SuccessHandler;
 import com.kosta.geekku.config.oauth.PrincipalOAuth2UserService;
-import com.kosta.geekku.repository.CompanyRepository;
-import com.kosta.geekku.repository.UserRepository;
 
 @Configuration
 @EnableWebSecurity
@@ -26,10 +25,7 @@ public class WebSecuritySconfig extends WebSecurityConfigurerAdapter {
 	private CorsFilter corsFilter;
 
 	@Autowired
-	private UserRepository userRepository;
-	
-	@Autowired
-	private CompanyRepository companyRepository;
+	private PrincipalCache principalCache;
 
 	@Autowired
 	private OAuth2SuccessHandler oAuth2SuccessHandler;
@@ -66,7 +62,7 @@ public class WebSecuritySconfig extends WebSecurityConfigurerAdapter {
 				.and()
 				.successHandler(oAuth2SuccessHandler);
 
-		http.addFilter(new JwtAuthrizationFilter(authenticationManager(), userRepository,companyRepository))
+		http.addFilter(new JwtAuthrizationFilter(authenticationManager(), principalCache))
 				.authorizeRequests()
 				.antMatchers("/mypage/**").authenticated()
 				.antMatchers("/estate/**").hasRole("COMPANY")
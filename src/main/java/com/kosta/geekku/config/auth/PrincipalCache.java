@@ -0,0 +1,87 @@
+package com.kosta.geekku.config.auth;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kosta.geekku.dto.PrincipalDto;
+import com.kosta.geekku.entity.Company;
+import com.kosta.geekku.entity.User;
+import com.kosta.geekku.repository.CompanyRepository;
+import com.kosta.geekku.repository.UserRepository;
+
+/**
+ * 인증 필터용 PrincipalDetails 캐시.
+ * 요청마다 회원 엔티티 전체(프로필/인증 이미지 포함)를 읽지 않도록 (아이디, 로그인 아이디, 권한, 탈퇴여부)만 읽어서
+ * 만든 PrincipalDetails를 잠깐 들고 있는다. 정보/비밀번호/상태 변경시 해당 회원을 바로 지우고,
+ * 다른 서버에서 바뀐 정보는 ttl이 지나면 다시 읽는다.
+ * 캐시된 User/Company는 아이디, 로그인 아이디, 권한, 탈퇴여부만 채워진 준영속 객체다.
+ */
+@Component
+public class PrincipalCache {
+
+	private final UserRepository userRepository;
+	private final CompanyRepository companyRepository;
+
+	@Value("${auth.principal-cache.ttl:30000}")
+	private long ttl = 30000;
+
+	@Value("${auth.principal-cache.max-entries:10000}")
+	private int maxEntries = 10000;
+
+	private static class Entry {
+		final PrincipalDetails principal;
+		final UUID id;
+		final long loadedAt = System.currentTimeMillis();
+
+		Entry(PrincipalDetails principal, UUID id) {
+			this.principal = principal;
+			this.id = id;
+		}
+	}
+
+	// "user:로그인아이디", "company:로그인아이디" -> PrincipalDetails
+	private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+	public PrincipalCache(UserRepository userRepository, CompanyRepository companyRepository) {
+		this.userRepository = userRepository;
+		this.companyRepository = companyRepository;
+	}
+
+	// role: 토큰의 role claim (user, company)
+	public PrincipalDetails get(String username, String role) throws Exception {
+		String key = ("user".equals(role) ? "user:" : "company:") + username;
+		long now = System.currentTimeMillis();
+		Entry entry = cache.get(key);
+		if (entry != null && now - entry.loadedAt < ttl) return entry.principal;
+
+		entry = load(username, role);
+		if (cache.size() >= maxEntries) cache.values().removeIf(e -> now - e.loadedAt >= ttl);
+		if (cache.size() < maxEntries) cache.put(key, entry);
+		return entry.principal;
+	}
+
+	private Entry load(String username, String role) throws Exception {
+		if ("user".equals(role)) {
+			PrincipalDto dto = userRepository.findPrincipalByUsername(username)
+					.orElseThrow(() -> new Exception("사용자가 없음"));
+			User user = User.builder().userId(dto.getId()).username(dto.getUsername()).role(dto.getRole())
+					.status(dto.isStatus()).type("user").build();
+			return new Entry(new PrincipalDetails(user), dto.getId());
+		}
+		PrincipalDto dto = companyRepository.findPrincipalByUsername(username)
+				.orElseThrow(() -> new Exception("사용자가 없음"));
+		Company company = Company.builder().companyId(dto.getId()).username(dto.getUsername()).role(dto.getRole())
+				.status(dto.isStatus()).build();
+		return new Entry(new PrincipalDetails(company), dto.getId());
+	}
+
+	// 회원 정보/비밀번호/상태 변경 후 호출
+	public void evict(UUID id) {
+		if (id == null) return;
+		cache.values().removeIf(e -> id.equals(e.id));
+	}
+}
@@ -1,8 +1,6 @@
 package com.kosta.geekku.config.jwt;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -13,7 +11,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kosta.geekku.config.auth.PrincipalDetails;
 
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
@@ -29,7 +26,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 	protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
 			Authentication authResult) throws IOException, ServletException {
 		
-		System.out.println("JwtAuthenticationFilter =============================================");
 		PrincipalDetails principalDetails = (PrincipalDetails)authResult.getPrincipal();
 		String accesToken = null;
 		String refreshToken = null;
@@ -41,14 +37,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 			refreshToken = jwtToken.makeRefreshToken(principalDetails.getUsername(), "company");
 		}
 		
-		ObjectMapper objectMapper = new ObjectMapper();
-		Map<String, String> map = new HashMap<>();
-		map.put("access_token", JwtProperties.TOKEN_PREFIX+accesToken);
-		map.put("refresh_token", JwtProperties.TOKEN_PREFIX+refreshToken);
-		
-		String token = objectMapper.writeValueAsString(map);
-		System.out.println(token);
-		
+		String token = JwtHeader.write(accesToken, refreshToken);
+
 		response.addHeader(JwtProperties.HEADER_STRING, token);
 		response.setContentType("application/json; charset=utf-8");
 		response.getWriter().write("true");
@@ -1,9 +1,7 @@
 package com.kosta.geekku.config.jwt;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -15,34 +13,26 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.kosta.geekku.config.auth.PrincipalCache;
 import com.kosta.geekku.config.auth.PrincipalDetails;
-import com.kosta.geekku.entity.Company;
-import com.kosta.geekku.entity.User;
-import com.kosta.geekku.repository.CompanyRepository;
-import com.kosta.geekku.repository.UserRepository;
 
 public class JwtAuthrizationFilter extends BasicAuthenticationFilter {
 
-	private UserRepository userRepository;
-	private CompanyRepository companyRepository;
+	private PrincipalCache principalCache;
 	private JwtToken jwtToken = new JwtToken();
+	private JwtTokenVerifier jwtTokenVerifier = new JwtTokenVerifier();
 
-	public JwtAuthrizationFilter(AuthenticationManager authenticationManager, UserRepository userRepository,CompanyRepository companyRepository) {
+	public JwtAuthrizationFilter(AuthenticationManager authenticationManager, PrincipalCache principalCache) {
 		super(authenticationManager);
-		this.userRepository = userRepository;
-		this.companyRepository = companyRepository;
+		this.principalCache = principalCache;
 	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
 			throws IOException, ServletException {
 
-		System.out.println("JwtAuthrizationFilter==============================");
 		String uri = request.getRequestURI();
-		System.out.println("JwtAuthrizationFilter:" + uri);
 		// 1. 로그인 (인증) 이 필요없는 요청은 그대로 진행
 		if (!(uri.contains("/user") || uri.contains("/admin") || uri.contains("/manager") || uri.contains("/company"))) {
 			chain.doFilter(request, response);
@@ -56,33 +46,38 @@ public class JwtAuthrizationFilter extends BasicAuthenticationFilter {
 			return;
 		}
 
-		ObjectMapper objectMapper = new ObjectMapper();
-		Map<String, String> token = objectMapper.readValue(authentication, Map.class);
-
-		System.out.println("token to Map : " + token);
-
 		// 3. access Token : header로 부터 access Token을 가져와 check
-		String accessToken = token.get("access_token");
-		if (!accessToken.startsWith(JwtProperties.TOKEN_PREFIX)) {
+		String accessToken;
+		String refreshHeader;
+		boolean bearer = JwtHeader.isBearer(authentication);
+		if (bearer) {
+			// 표준 헤더 "Bearer 토큰" (JSON 파싱 없음), 리프레시 토큰은 재발급때만 따로 읽는다
+			accessToken = JwtHeader.stripPrefix(authentication);
+			refreshHeader = null;
+		} else {
+			// 기존 클라이언트 JSON 헤더
+			Map<String, String> token;
+			try {
+				token = JwtHeader.readLegacy(authentication);
+			} catch (IOException e) {
+				response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그인 필요함");
+				return;
+			}
+			accessToken = JwtHeader.stripPrefix(token.get(JwtHeader.ACCESS_TOKEN));
+			refreshHeader = token.get(JwtHeader.REFRESH_TOKEN);
+		}
+		if (accessToken == null || accessToken.isEmpty()) {
 			response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그인 필요함");
 			return;
 		}
 
-		// 빈문자열로 바꿈
-		accessToken = accessToken.replace(JwtProperties.TOKEN_PREFIX, "");
-
 		// 아이디 유저네임 가져와서 db에 있는지 체크
 		try {
 			// 1) Access Token
-			// 1-1)보안키, 만료시간 check
-			String username = JWT.require(Algorithm.HMAC512(JwtProperties.SECRET)).build().verify(accessToken)
-					.getClaim("sub").asString();
-
-			String role = JWT.require(Algorithm.HMAC512(JwtProperties.SECRET)).build().verify(accessToken)
-					.getClaim("role").asString();
-
-			System.out.println("username:" + username);
-			System.out.println("role:" + role);
+			// 1-1)보안키, 만료시간 check (한 번만 검증, 같은 토큰은 만료 전까지 캐시된 claim 사용)
+			JwtTokenVerifier.Claims claims = jwtTokenVerifier.verify(accessToken);
+			String username = claims.getUsername();
+			String role = claims.getRole();
 
 			// 1-2) username check
 			if (username == null || username.equals("")) throw new Exception();		
@@ -103,35 +98,33 @@ public class JwtAuthrizationFilter extends BasicAuthenticationFilter {
 			try {
 				// 2) Refresh Token Check : Access Token invalidate일 경우
 				// 실패했다면 로그인을 다시 하라고 시도
-				String refreshToken = token.get("refresh_token");
-				if (!refreshToken.startsWith(JwtProperties.TOKEN_PREFIX)) {
+				String refreshToken = JwtHeader.stripPrefix(refreshHeader != null ? refreshHeader
+						: request.getHeader(JwtProperties.REFRESH_HEADER_STRING));
+				if (refreshToken == null) {
 					response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그인 필요함");
 					return;
 				}
-				refreshToken = refreshToken.replace(JwtProperties.TOKEN_PREFIX, "");
-
-				// 2-1) 보안키, 만료시간 check
-				String username = JWT.require(Algorithm.HMAC512(JwtProperties.SECRET)).build().verify(refreshToken)
-						.getClaim("sub").asString();
-				String role = JWT.require(Algorithm.HMAC512(JwtProperties.SECRET)).build().verify(refreshToken)
-						.getClaim("role").asString();
-				System.out.println("username" + username);
-				System.out.println("role" + role);
+
+				// 2-1) 보안키, 만료시간 check (재발급 후 다시 쓰이지 않으므로 캐시하지 않음)
+				DecodedJWT refreshJwt = JwtTokenVerifier.VERIFIER.verify(refreshToken);
+				String username = refreshJwt.getSubject();
+				String role = refreshJwt.getClaim("role").asString();
 				// 2-2) username check
 				if (username == null || username.equals("")) throw new Exception("사용자가 없음"); // 사용자가 DB에 없을때
-				PrincipalDetails principalDetails = getPrincipayDetails(username, role);
-				
-				Optional<User> ouser = userRepository.findByUsername(username);
+				getPrincipayDetails(username, role); // DB에 없는 회원은 재발급하지 않음
 
 				// accessToken, refreshToken 다시 만들어 보낸다.
 				String reAccessToken = jwtToken.makeAccessToken(username, role);
 				String reRefreshToken = jwtToken.makeRefreshToken(username, role);
 				
-				Map<String, String> map = new HashMap<>();
-				map.put("access_token", JwtProperties.TOKEN_PREFIX + reAccessToken);
-				map.put("refresh_token", JwtProperties.TOKEN_PREFIX + reRefreshToken);
-				String reToken = objectMapper.writeValueAsString(map); // map -> jsonString
-				response.addHeader(JwtProperties.HEADER_STRING, reToken);
+				if (bearer) {
+					// 요청과 같은 표준 형식으로 돌려준다
+					response.addHeader(JwtProperties.HEADER_STRING, JwtProperties.TOKEN_PREFIX + reAccessToken);
+					response.addHeader(JwtProperties.REFRESH_HEADER_STRING, JwtProperties.TOKEN_PREFIX + reRefreshToken);
+				} else {
+					String reToken = JwtHeader.write(reAccessToken, reRefreshToken); // 기존 JSON 형식
+					response.addHeader(JwtProperties.HEADER_STRING, reToken);
+				}
 				response.setContentType("application/json; charset=utf-8");
 				response.getWriter().print("token");// 토큰을 다시 줄거야 하는 나만의방법이야
 
@@ -143,18 +136,9 @@ public class JwtAuthrizationFilter extends BasicAuthenticationFilter {
 		}
 	}
 	
+	// 사용자가 DB에 없으면 Exception (회원 요약만 짧게 캐시, PrincipalCache)
 	PrincipalDetails getPrincipayDetails(String username, String role) throws Exception {
-		PrincipalDetails principalDetails =null;
-		if(role.equals("user")) { //user
-			Optional<User> ouser = userRepository.findByUsername(username);
-			if (ouser.isEmpty()) throw new Exception(); // 사용자가 DB에 없을때
-			principalDetails = new PrincipalDetails(ouser.get());	
-		} else  { //company
-			Optional<Company> ocompany = companyRepository.findByUsername(username);
-			if (ocompany.isEmpty()) throw new Exception(); // 사용자가 DB에 없을때
-			principalDetails = new PrincipalDetails(ocompany.get());
-		}
-		return principalDetails;
+		return principalCache.get(username, role);
 	}
 
 }
@@ -0,0 +1,56 @@
+package com.kosta.geekku.config.jwt;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * 토큰 헤더 읽기/쓰기.
+ * 표준 형식 "Authorization: Bearer 액세스토큰" (재발급용 리프레시 토큰은 Refresh-Token 헤더)과
+ * 기존 클라이언트용 JSON 형식 {"access_token":"Bearer ...","refresh_token":"Bearer ..."}을 같이 받는다.
+ * 재발급 토큰은 요청이 온 형식 그대로 돌려준다 (Bearer면 Authorization/Refresh-Token 헤더, 아니면 JSON).
+ * JSON은 미리 만들어둔 ObjectReader/ObjectWriter 하나를 공유한다 (둘 다 thread-safe).
+ */
+public final class JwtHeader {
+
+	public static final String ACCESS_TOKEN = "access_token";
+	public static final String REFRESH_TOKEN = "refresh_token";
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final TypeReference<Map<String, String>> MAP_TYPE = new TypeReference<Map<String, String>>() {
+	};
+	private static final ObjectReader READER = MAPPER.readerFor(MAP_TYPE);
+	private static final ObjectWriter WRITER = MAPPER.writerFor(MAP_TYPE);
+
+	private JwtHeader() {
+	}
+
+	// "Bearer "로 시작하는 표준 헤더인지 (대소문자 무시)
+	public static boolean isBearer(String header) {
+		return header.regionMatches(true, 0, JwtProperties.TOKEN_PREFIX, 0, JwtProperties.TOKEN_PREFIX.length());
+	}
+
+	// "Bearer 토큰" -> 토큰, 형식이 다르면 null
+	public static String stripPrefix(String value) {
+		if (value == null || !isBearer(value)) return null;
+		return value.substring(JwtProperties.TOKEN_PREFIX.length()).trim();
+	}
+
+	// 기존 JSON 헤더
+	public static Map<String, String> readLegacy(String header) throws IOException {
+		return READER.readValue(header);
+	}
+
+	// 로그인/재발급 응답 헤더 (기존 클라이언트와 같은 JSON 형식)
+	public static String write(String accessToken, String refreshToken) throws IOException {
+		Map<String, String> map = new LinkedHashMap<>();
+		map.put(ACCESS_TOKEN, JwtProperties.TOKEN_PREFIX + accessToken);
+		map.put(REFRESH_TOKEN, JwtProperties.TOKEN_PREFIX + refreshToken);
+		return WRITER.writeValueAsString(map);
+	}
+}
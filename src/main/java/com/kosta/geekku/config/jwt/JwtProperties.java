@@ -4,6 +4,7 @@ public interface JwtProperties {
 	public String SECRET = "코스타";
 	public String HEADER_STRING = "Authorization";
 	public String TOKEN_PREFIX = "Bearer ";
+	public String REFRESH_HEADER_STRING = "Refresh-Token"; // Bearer 헤더 사용시 재발급용
 
 	public Integer ACCESS_EXPIRATION_TIME = 60000 * 60 * 1; // 1시간
 	public Integer REFRESH_EXPIRATION_TIME = 60000 * 60 * 24 * 7; // 7일
@@ -8,7 +8,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 
 @Component
 public class JwtToken {
@@ -25,7 +24,7 @@ public class JwtToken {
 					.withClaim("role", role)
 					.withIssuedAt(new Date(System.currentTimeMillis()))
 					.withExpiresAt(new Date(System.currentTimeMillis() + JwtProperties.ACCESS_EXPIRATION_TIME))
-					.sign(Algorithm.HMAC512(JwtProperties.SECRET));
+					.sign(JwtTokenVerifier.ALGORITHM);
 	}
 	
 	public String makeRefreshToken(String username, String role) {
@@ -34,7 +33,7 @@ public class JwtToken {
 					.withClaim("role", role)
 					.withIssuedAt(new Date(System.currentTimeMillis()))
 					.withExpiresAt(new Date(System.currentTimeMillis() + JwtProperties.REFRESH_EXPIRATION_TIME))
-					.sign(Algorithm.HMAC512(JwtProperties.SECRET));
+					.sign(JwtTokenVerifier.ALGORITHM);
 	}
 	
 }
@@ -0,0 +1,89 @@
+package com.kosta.geekku.config.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 검증기.
+ * 알고리즘/JWTVerifier는 한 번만 만들어서 공유하고 (둘 다 thread-safe),
+ * 검증에 성공한 토큰은 SHA-256 해시를 키로 claim(sub, role)을 만료시간까지 들고 있어서
+ * 같은 토큰으로 들어오는 요청은 HMAC 검증과 JSON 파싱 없이 바로 claim을 돌려준다.
+ * 원본 토큰은 메모리에 남기지 않는다.
+ */
+public class JwtTokenVerifier {
+
+	public static final Algorithm ALGORITHM = Algorithm.HMAC512(JwtProperties.SECRET);
+	public static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();
+
+	private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+	private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	@Getter
+	@AllArgsConstructor
+	public static class Claims {
+		private final String username;
+		private final String role;
+		private final long expiresAt;
+	}
+
+	private final int maxEntries;
+	private final Map<ByteBuffer, Claims> cache = new ConcurrentHashMap<>();
+
+	public JwtTokenVerifier() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	public JwtTokenVerifier(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	// 검증 실패/만료시 JWTVerificationException
+	public Claims verify(String token) {
+		ByteBuffer key = hash(token);
+		Claims claims = cache.get(key);
+		long now = System.currentTimeMillis();
+		if (claims != null) {
+			if (claims.getExpiresAt() > now) return claims;
+			// 만료된 토큰은 지우고 검증기로 넘겨서 만료 예외를 그대로 받는다
+			cache.remove(key);
+		}
+
+		DecodedJWT jwt = VERIFIER.verify(token);
+		Date expiresAt = jwt.getExpiresAt();
+		claims = new Claims(jwt.getSubject(), jwt.getClaim("role").asString(),
+				expiresAt == null ? Long.MAX_VALUE : expiresAt.getTime());
+		if (expiresAt != null) {
+			if (cache.size() >= maxEntries) evictExpired(now);
+			if (cache.size() < maxEntries) cache.put(key, claims);
+		}
+		return claims;
+	}
+
+	private void evictExpired(long now) {
+		cache.values().removeIf(c -> c.getExpiresAt() <= now);
+	}
+
+	private static ByteBuffer hash(String token) {
+		return ByteBuffer.wrap(SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+	}
+}
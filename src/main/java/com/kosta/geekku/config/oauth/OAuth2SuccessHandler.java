@@ -1,8 +1,6 @@
 package com.kosta.geekku.config.oauth;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -13,9 +11,8 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kosta.geekku.config.auth.PrincipalDetails;
-import com.kosta.geekku.config.jwt.JwtProperties;
+import com.kosta.geekku.config.jwt.JwtHeader;
 import com.kosta.geekku.config.jwt.JwtToken;
 
 @Component
@@ -32,13 +29,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 		String accessToken = jwtToken.makeAccessToken(principalDetails.getUsername(), "user");
 		String refreshToken = jwtToken.makeRefreshToken(principalDetails.getUsername(), "user");
 
-		ObjectMapper objectMapper = new ObjectMapper();
-		Map<String, String> map = new HashMap<>();
-		map.put("access_token", JwtProperties.TOKEN_PREFIX + accessToken);
-		map.put("refresh_token", JwtProperties.TOKEN_PREFIX + refreshToken);
-
-		String token = objectMapper.writeValueAsString(map);
-		System.out.println("OAuth2SuccessHandler:"+token);
+		String token = JwtHeader.write(accessToken, refreshToken);
 		 
 		String redirectUrl = UriComponentsBuilder.fromUriString(URI)
 												.queryParam("token", token)
@@ -1,8 +1,213 @@
 package com.kosta.geekku.controller;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.kosta.geekku.config.auth.PrincipalDetails;
+import com.kosta.geekku.dto.AlarmDto;
+import com.kosta.geekku.dto.AlarmSummaryDto;
+import com.kosta.geekku.service.AlarmService;
+import com.kosta.geekku.service.AlarmSseRegistry;
+import com.kosta.geekku.util.KeysetCursor;
+
+import lombok.RequiredArgsConstructor;
 
 @RestController
+@RequiredArgsConstructor
 public class AlarmController {
-	//TODO
+
+	private final AlarmSseRegistry alarmSseRegistry;
+	private final AlarmService alarmService;
+
+	// 개인 알림 목록 (최신순, 커서: "작성시간(ms)_알림번호")
+	@GetMapping("/user/alarms")
+	public ResponseEntity<Map<String, Object>> userAlarmList(Authentication authentication,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+		try {
+			UUID userId = ((PrincipalDetails) authentication.getPrincipal()).getUser().getUserId();
+			Slice<AlarmDto> alarmPage = alarmService.userAlarmList(userId, cursor, size);
+			List<AlarmDto> alarmList = alarmPage.getContent();
+			Map<String, Object> listInfo = new HashMap<>();
+			listInfo.put("alarmList", alarmList);
+			listInfo.put("hasNext", alarmPage.hasNext());
+			listInfo.put("nextCursor", alarmList.isEmpty() ? null
+					: KeysetCursor.of(alarmList.get(alarmList.size() - 1).getCreatedAt(),
+							alarmList.get(alarmList.size() - 1).getAlarmNum()));
+			listInfo.put("unreadCount", alarmService.userUnreadCount(userId));
+			return new ResponseEntity<Map<String, Object>>(listInfo, HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Map<String, Object>>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// 정리된 지난 알림 일별 건수 (알림 목록 마지막에 표시)
+	@GetMapping("/user/alarms/summary")
+	public ResponseEntity<List<AlarmSummaryDto>> userAlarmSummary(Authentication authentication,
+			@RequestParam(value = "days", required = false, defaultValue = "30") Integer days) {
+		try {
+			UUID userId = ((PrincipalDetails) authentication.getPrincipal()).getUser().getUserId();
+			return new ResponseEntity<List<AlarmSummaryDto>>(alarmService.userAlarmSummary(userId, days),
+					HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<List<AlarmSummaryDto>>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// 헤더 알림 배지
+	@GetMapping("/user/alarms/unreadCount")
+	public ResponseEntity<Integer> userUnreadCount(Authentication authentication) {
+		try {
+			UUID userId = ((PrincipalDetails) authentication.getPrincipal()).getUser().getUserId();
+			return new ResponseEntity<Integer>(alarmService.userUnreadCount(userId), HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Integer>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// 선택한 알림 읽음 처리 (body: 알림번호 배열), 남은 안읽은 알림 수 반환
+	@PostMapping("/user/alarms/read")
+	public ResponseEntity<Integer> userAlarmsRead(Authentication authentication,
+			@RequestBody List<Integer> alarmNums) {
+		try {
+			UUID userId = ((PrincipalDetails) authentication.getPrincipal()).getUser().getUserId();
+			return new ResponseEntity<Integer>(alarmService.markUserAlarmsRead(userId, alarmNums), HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Integer>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// 모든 알림 읽음 처리
+	@PostMapping("/user/alarms/readAll")
+	public ResponseEntity<Integer> userAlarmsReadAll(Authentication authentication) {
+		try {
+			UUID userId = ((PrincipalDetails) authentication.getPrincipal()).getUser().getUserId();
+			return new ResponseEntity<Integer>(alarmService.markUserAlarmsRead(userId, null), HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Integer>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// 기업 알림 목록 (최신순, 커서: "작성시간(ms)_알림번호")
+	@GetMapping("/company/alarms")
+	public ResponseEntity<Map<String, Object>> companyAlarmList(Authentication authentication,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+		try {
+			UUID companyId = ((PrincipalDetails) authentication.getPrincipal()).getCompany().getCompanyId();
+			Slice<AlarmDto> alarmPage = alarmService.companyAlarmList(companyId, cursor, size);
+			List<AlarmDto> alarmList = alarmPage.getContent();
+			Map<String, Object> listInfo = new HashMap<>();
+			listInfo.put("alarmList", alarmList);
+			listInfo.put("hasNext", alarmPage.hasNext());
+			listInfo.put("nextCursor", alarmList.isEmpty() ? null
+					: KeysetCursor.of(alarmList.get(alarmList.size() - 1).getCreatedAt(),
+							alarmList.get(alarmList.size() - 1).getAlarmNum()));
+			listInfo.put("unreadCount", alarmService.companyUnreadCount(companyId));
+			return new ResponseEntity<Map<String, Object>>(listInfo, HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Map<String, Object>>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	@GetMapping("/company/alarms/summary")
+	public ResponseEntity<List<AlarmSummaryDto>> companyAlarmSummary(Authentication authentication,
+			@RequestParam(value = "days", required = false, defaultValue = "30") Integer days) {
+		try {
+			UUID companyId = ((PrincipalDetails) authentication.getPrincipal()).getCompany().getCompanyId();
+			return new ResponseEntity<List<AlarmSummaryDto>>(alarmService.companyAlarmSummary(companyId, days),
+					HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<List<AlarmSummaryDto>>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	@GetMapping("/company/alarms/unreadCount")
+	public ResponseEntity<Integer> companyUnreadCount(Authentication authentication) {
+		try {
+			UUID companyId = ((PrincipalDetails) authentication.getPrincipal()).getCompany().getCompanyId();
+			return new ResponseEntity<Integer>(alarmService.companyUnreadCount(companyId), HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Integer>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	@PostMapping("/company/alarms/read")
+	public ResponseEntity<Integer> companyAlarmsRead(Authentication authentication,
+			@RequestBody List<Integer> alarmNums) {
+		try {
+			UUID companyId = ((PrincipalDetails) authentication.getPrincipal()).getCompany().getCompanyId();
+			return new ResponseEntity<Integer>(alarmService.markCompanyAlarmsRead(companyId, alarmNums),
+					HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Integer>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	@PostMapping("/company/alarms/readAll")
+	public ResponseEntity<Integer> companyAlarmsReadAll(Authentication authentication) {
+		try {
+			UUID companyId = ((PrincipalDetails) authentication.getPrincipal()).getCompany().getCompanyId();
+			return new ResponseEntity<Integer>(alarmService.markCompanyAlarmsRead(companyId, null), HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Integer>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// 개인 알림 실시간 수신 (재연결시 Last-Event-ID 헤더 또는 lastEventId 파라미터 이후 알림부터 다시 받음)
+	@GetMapping(value = "/user/alarms/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> userAlarmStream(Authentication authentication,
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+			@RequestParam(value = "lastEventId", required = false) String lastEventId) {
+		try {
+			UUID userId = ((PrincipalDetails) authentication.getPrincipal()).getUser().getUserId();
+			SseEmitter emitter = alarmSseRegistry.subscribe(AlarmSseRegistry.USER, userId,
+					lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+			return new ResponseEntity<SseEmitter>(emitter, HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<SseEmitter>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// 기업 알림 실시간 수신
+	@GetMapping(value = "/company/alarms/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> companyAlarmStream(Authentication authentication,
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+			@RequestParam(value = "lastEventId", required = false) String lastEventId) {
+		try {
+			UUID companyId = ((PrincipalDetails) authentication.getPrincipal()).getCompany().getCompanyId();
+			SseEmitter emitter = alarmSseRegistry.subscribe(AlarmSseRegistry.COMPANY, companyId,
+					lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+			return new ResponseEntity<SseEmitter>(emitter, HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<SseEmitter>(HttpStatus.BAD_REQUEST);
+		}
+	}
 }
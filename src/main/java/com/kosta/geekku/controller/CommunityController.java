@@ -1,6 +1,8 @@
 package com.kosta.geekku.controller;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -21,11 +23,16 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kosta.geekku.dto.CommunityCommentDto;
 import com.kosta.geekku.dto.CommunityDto;
 import com.kosta.geekku.dto.CommunityFilterDto;
+import com.kosta.geekku.dto.CommunitySummaryDto;
+import com.kosta.geekku.entity.BookmarkType;
 import com.kosta.geekku.entity.Community;
 import com.kosta.geekku.entity.User;
+import com.kosta.geekku.service.BookmarkService;
 import com.kosta.geekku.service.CommunityService;
+import com.kosta.geekku.util.PageInfo;
 
 @RestController
 public class CommunityController {
@@ -33,13 +40,26 @@ public class CommunityController {
 	@Autowired
 	private CommunityService communityService;
 
+	@Autowired
+	private BookmarkService bookmarkService;
+
 	// 페이징된 커뮤니티 리스트 조회
 	@GetMapping("/test1") // 예시 http://localhost:8080/test1?page=0&size=3
 	public ResponseEntity<Page<CommunityDto>> getCommunityList(
 			@RequestParam(value = "page", defaultValue = "0") int page,
-			@RequestParam(value = "size", defaultValue = "10") int size) {
+			@RequestParam(value = "size", defaultValue = "10") int size,
+			@RequestParam(value = "userId", required = false) String userId) throws Exception {
 		Pageable pageable = PageRequest.of(page, size);
 		Page<CommunityDto> communityList = communityService.getCommunityList(pageable);
+		// 북마크 (페이지당 한 번 조회)
+		if (userId != null && communityList.hasContent()) {
+			List<CommunityDto> content = communityList.getContent();
+			boolean[] bookmarks = bookmarkService.isBookmarked(BookmarkType.COMMUNITY, userId,
+					content.stream().map(CommunityDto::getCommunityNum).toArray(Integer[]::new));
+			for (int i = 0; i < bookmarks.length; i++) {
+				content.get(i).setBookmark(bookmarks[i]);
+			}
+		}
 		return ResponseEntity.ok(communityList);
 	}
 
@@ -126,10 +146,11 @@ public class CommunityController {
 								// http://localhost:8080/test8?communityId=3&userId=7e7506d5-b944-40c8-a269-c3c58d2067bb&content="댓글
 								// 내용"
 	public ResponseEntity<String> createComment(@RequestParam("communityId") Integer communityId,
-			@RequestParam("userId") String userId, @RequestParam("content") String content) {
+			@RequestParam("userId") String userId, @RequestParam("content") String content,
+			@RequestParam(value = "parentNum", required = false) Integer parentNum) {
 
 		try {
-			communityService.createComment(communityId, userId, content);
+			communityService.createComment(communityId, userId, content, parentNum);
 			return new ResponseEntity<>("댓글 작성에 성공했습니다.", HttpStatus.CREATED);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -149,6 +170,24 @@ public class CommunityController {
 		}
 	}
 
+	// 커뮤니티 댓글 트리 조회 + 페이징
+	@GetMapping("/communityCommentList/{communityNum}") // 예시 http://localhost:8080/communityCommentList/3?page=1
+	public ResponseEntity<Map<String, Object>> getCommentList(@PathVariable Integer communityNum,
+			@RequestParam(value = "page", required = false, defaultValue = "1") Integer page) {
+		try {
+			PageInfo pageInfo = new PageInfo();
+			pageInfo.setCurPage(page);
+			List<CommunityCommentDto> commentList = communityService.getCommentList(pageInfo, communityNum);
+			Map<String, Object> listInfo = new HashMap<>();
+			listInfo.put("commentList", commentList);
+			listInfo.put("pageInfo", pageInfo);
+			return new ResponseEntity<Map<String, Object>>(listInfo, HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Map<String, Object>>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
 	// 커뮤니티 프로필 조회를 위한 개인 정보 조회(아이디 닉네임 이메일)
 	@GetMapping("/test10/{userId}") // 예시 http://localhost:8080/test10/7e7506d5-b944-40c8-a269-c3c58d2067bb
 	public ResponseEntity<?> getUserProfile(@PathVariable String userId) {
@@ -163,9 +202,12 @@ public class CommunityController {
 
 	// 해당 유저가 작성한 커뮤니티 게시글을 가져오는 API
 	@GetMapping("/test11/{userId}") // 예시 http://localhost:8080/test11/7e7506d5-b944-40c8-a269-c3c58d2067bb
-	public ResponseEntity<?> getUserCommunities(@PathVariable String userId) {
+	public ResponseEntity<?> getUserCommunities(@PathVariable String userId,
+			@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "size", defaultValue = "10") int size) {
 		try {
-			List<Community> communities = communityService.getUserCommunities(userId);
+			Page<CommunitySummaryDto> communities = communityService.getUserCommunities(userId,
+					PageRequest.of(page, size));
 			return ResponseEntity.ok(communities);
 		} catch (Exception e) {
 			e.printStackTrace();
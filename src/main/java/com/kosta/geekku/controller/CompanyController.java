@@ -1,11 +1,14 @@
 package com.kosta.geekku.controller;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -22,6 +25,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.kosta.geekku.config.auth.PrincipalDetails;
 import com.kosta.geekku.dto.CompanyDto;
+import com.kosta.geekku.dto.InboxItemDto;
+import com.kosta.geekku.dto.MyAnswerItemDto;
 import com.kosta.geekku.entity.Estate;
 import com.kosta.geekku.entity.HouseAnswer;
 import com.kosta.geekku.entity.OnestopAnswer;
@@ -162,4 +167,40 @@ public class CompanyController {
 		}
 		
 	}
+
+	// 회사 지역에 맞는 견적 요청(집 구해요/방꾸, 한번에 꾸며줘요, 인테리어 요청) 최신순 통합 목록
+	@GetMapping("/company/inbox")
+	public ResponseEntity<Map<String, Object>> companyInbox(Authentication authentication,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false, defaultValue = "10") Integer size) {
+		try {
+			UUID companyId = ((PrincipalDetails) authentication.getPrincipal()).getCompany().getCompanyId();
+			Slice<InboxItemDto> inbox = companyService.companyInbox(companyId, cursor, size);
+			Map<String, Object> res = new HashMap<>();
+			res.put("inboxList", inbox.getContent());
+			res.put("hasNext", inbox.hasNext());
+			return new ResponseEntity<Map<String, Object>>(res, HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Map<String, Object>>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// 집꾸/한번에꾸하기/방꾸 답변을 합친 내 답변 목록 (최신순, 커서 페이징)
+	@GetMapping("/company/myAnswers")
+	public ResponseEntity<Map<String, Object>> companyAnswers(Authentication authentication,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false, defaultValue = "10") Integer size) {
+		try {
+			UUID companyId = ((PrincipalDetails) authentication.getPrincipal()).getCompany().getCompanyId();
+			Slice<MyAnswerItemDto> answers = companyService.companyAnswers(companyId, cursor, size);
+			Map<String, Object> res = new HashMap<>();
+			res.put("answerList", answers.getContent());
+			res.put("hasNext", answers.hasNext());
+			return new ResponseEntity<Map<String, Object>>(res, HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<Map<String, Object>>(HttpStatus.BAD_REQUEST);
+		}
+	}
 }
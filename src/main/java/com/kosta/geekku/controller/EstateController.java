@@ -26,6 +26,8 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.kosta.geekku.dto.EstateDto;
+import com.kosta.geekku.entity.BookmarkType;
+import com.kosta.geekku.service.BookmarkService;
 import com.kosta.geekku.service.EstateService;
 import com.kosta.geekku.util.PageInfo;
 
@@ -36,6 +38,7 @@ import lombok.RequiredArgsConstructor;
 public class EstateController {
 	
 	private final EstateService estateService; 
+	private final BookmarkService bookmarkService;
 
 	@Value("${upload.path}")
 	private String uploadPath;
@@ -83,7 +86,8 @@ public class EstateController {
 			
 			//북마크
 			if (param.get("userId") != null) {
-				boolean bookmark = estateService.checkBookmark(param.get("userId"), estateNum) != null;
+				boolean bookmark = bookmarkService.isBookmarked(BookmarkType.ESTATE, param.get("userId"),
+						new Integer[] { estateNum })[0];
 				res.put("bookmark", bookmark);
 			}
 			
@@ -100,11 +104,20 @@ public class EstateController {
 	public ResponseEntity<Map<String, Object>> estateList(
 			@RequestParam(value="page", required=false, defaultValue = "1") Integer page,
 			@RequestParam(value="type", required=false) String type,
-			@RequestParam(value="keyword", required=false) String keyword) {
+			@RequestParam(value="keyword", required=false) String keyword,
+			@RequestParam(value="userId", required=false) String userId) {
 		try {
 			PageInfo pageInfo = new PageInfo();
 			pageInfo.setCurPage(page);
 			List<EstateDto> estateList = estateService.estateList(pageInfo, type, keyword);
+			//북마크 (페이지당 한 번 조회)
+			if (userId != null && !estateList.isEmpty()) {
+				boolean[] bookmarks = bookmarkService.isBookmarked(BookmarkType.ESTATE, userId,
+						estateList.stream().map(EstateDto::getEstateNum).toArray(Integer[]::new));
+				for (int i = 0; i < bookmarks.length; i++) {
+					estateList.get(i).setBookmark(bookmarks[i]);
+				}
+			}
 			Map<String, Object> listInfo = new HashMap<>();
 			listInfo.put("estateList", estateList);
 			listInfo.put("pageInfo", pageInfo);
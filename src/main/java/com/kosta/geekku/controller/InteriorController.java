@@ -1,11 +1,13 @@
 package com.kosta.geekku.controller;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,12 +15,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kosta.geekku.dto.InteriorDto;
 import com.kosta.geekku.dto.InteriorRequestDto;
 import com.kosta.geekku.dto.ReviewDto;
+import com.kosta.geekku.dto.SampleCardDto;
 import com.kosta.geekku.dto.SampleDto;
-import com.kosta.geekku.entity.InteriorSample;
+import com.kosta.geekku.entity.BookmarkType;
+import com.kosta.geekku.entity.InteriorStats;
+import com.kosta.geekku.service.BookmarkService;
 import com.kosta.geekku.service.InteriorService;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +34,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class InteriorController {
 	private final InteriorService interiorService;
+	private final BookmarkService bookmarkService;
+	private final ObjectMapper objectMapper;
+
+	private static final int STREAM_CHUNK = 200;
 
 	@Value("${upload.path}")
 	private String uploadPath;
@@ -46,14 +57,24 @@ public class InteriorController {
 		}
 	}
 
+	// 커서 페이징 (sort: latest(기본)/rating, cursor: 이전 응답의 nextCursor)
 	@GetMapping("/interiorList")
 	public ResponseEntity<Map<String, Object>> interiorList(
-			@RequestParam(value = "possibleLocation", required = false) String possibleLocation) {
+			@RequestParam(value = "possibleLocation", required = false) String possibleLocation,
+			@RequestParam(value = "userId", required = false) String userId,
+			@RequestParam(value = "sort", required = false, defaultValue = "latest") String sort,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
 		try {
-			List<InteriorDto> interiorList = interiorService.interiorList(possibleLocation);
-			System.out.println(interiorList);
+			size = Math.min(Math.max(size, 1), 100); // 한 번에 최대 100개
+			Slice<InteriorDto> interiorPage = interiorService.interiorList(possibleLocation, sort, cursor, size);
+			List<InteriorDto> interiorList = interiorPage.getContent();
+			setBookmarks(userId, interiorList);
 			Map<String, Object> listInfo = new HashMap<>();
 			listInfo.put("interiorList", interiorList);
+			listInfo.put("hasNext", interiorPage.hasNext());
+			listInfo.put("nextCursor",
+					interiorList.isEmpty() ? null : interiorList.get(interiorList.size() - 1).getCursor());
 			return new ResponseEntity<Map<String, Object>>(listInfo, HttpStatus.OK);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -61,6 +82,47 @@ public class InteriorController {
 		}
 	}
 
+	// 전체 목록을 한 줄에 하나씩(JSON Lines) 내려보낸다 - 청크 단위로 읽어서 바로 쓰므로 전체를 메모리에 올리지 않는다
+	@GetMapping(value = "/interiorList/stream", produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> interiorListStream(
+			@RequestParam(value = "possibleLocation", required = false) String possibleLocation,
+			@RequestParam(value = "userId", required = false) String userId,
+			@RequestParam(value = "sort", required = false, defaultValue = "latest") String sort) {
+		StreamingResponseBody body = out -> {
+			try {
+				String cursor = null;
+				Slice<InteriorDto> chunk;
+				do {
+					chunk = interiorService.interiorList(possibleLocation, sort, cursor, STREAM_CHUNK);
+					List<InteriorDto> interiorList = chunk.getContent();
+					if (interiorList.isEmpty()) break;
+					setBookmarks(userId, interiorList);
+					for (InteriorDto interiorDto : interiorList) {
+						out.write(objectMapper.writeValueAsBytes(interiorDto));
+						out.write('\n');
+					}
+					out.flush();
+					cursor = interiorList.get(interiorList.size() - 1).getCursor();
+				} while (chunk.hasNext());
+			} catch (IOException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+		};
+		return new ResponseEntity<StreamingResponseBody>(body, HttpStatus.OK);
+	}
+
+	// 북마크 (페이지당 한 번 조회)
+	private void setBookmarks(String userId, List<InteriorDto> interiorList) throws Exception {
+		if (userId == null || interiorList.isEmpty()) return;
+		boolean[] bookmarks = bookmarkService.isBookmarked(BookmarkType.INTERIOR, userId,
+				interiorList.stream().map(InteriorDto::getInteriorNum).toArray(Integer[]::new));
+		for (int i = 0; i < bookmarks.length; i++) {
+			interiorList.get(i).setBookmark(bookmarks[i]);
+		}
+	}
+
 	@GetMapping("/user/interiorBookmark/{num}")
 	public ResponseEntity<String> interiorBookmark(String userId, @PathVariable Integer num) {
 		try {
@@ -142,18 +204,24 @@ public class InteriorController {
 		}
 	}
 
+	// 시공사례 갤러리 (date: latest(기본)/oldest, size: 평수 필터, pageSize: 페이지 크기, cursor: 이전 응답의 nextCursor)
 	@GetMapping("/sampleList")
 	public ResponseEntity<Map<String,Object>> sampleList(
 			@RequestParam(required = false) String date,
 			@RequestParam(required = false) String type,
 			@RequestParam(required = false) String style,
 			@RequestParam(required = false) Integer size,
-			@RequestParam(required = false) String location) {
+			@RequestParam(required = false) String location,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false, defaultValue = "24") Integer pageSize) {
 		try {
-			List<InteriorSample> sampleList = interiorService.sampleList(date, type, style, size, location);
-			System.out.println(sampleList);
+			Slice<SampleCardDto> samplePage = interiorService.sampleGallery(date, type, style, size, location, cursor,
+					pageSize);
+			List<SampleCardDto> sampleList = samplePage.getContent();
 			Map<String, Object> listInfo = new HashMap<>();
 			listInfo.put("sampleList", sampleList);
+			listInfo.put("hasNext", samplePage.hasNext());
+			listInfo.put("nextCursor", sampleList.isEmpty() ? null : sampleList.get(sampleList.size() - 1).getCursor());
 			return new ResponseEntity<Map<String,Object>>(listInfo,HttpStatus.OK);
 		} catch(Exception e) {
 			e.printStackTrace();
@@ -161,9 +229,12 @@ public class InteriorController {
 		}
 	}
 	@GetMapping("/interiorDetail")
-	public ResponseEntity<Map<String,Object>> interiorDetail(Integer num) {
+	public ResponseEntity<Map<String,Object>> interiorDetail(Integer num,
+			@RequestParam(value = "samplePage", required = false, defaultValue = "1") Integer samplePage,
+			@RequestParam(value = "reviewPage", required = false, defaultValue = "1") Integer reviewPage,
+			@RequestParam(value = "size", required = false, defaultValue = "10") Integer size) {
 		try {
-			Map<String,Object> detailInfo = interiorService.interiorDetail(num);
+			Map<String,Object> detailInfo = interiorService.interiorDetail(num, samplePage, reviewPage, size);
 			return new ResponseEntity<Map<String,Object>>(detailInfo, HttpStatus.OK);
 		} catch(Exception e) {
 			e.printStackTrace();
@@ -171,7 +242,18 @@ public class InteriorController {
 		}
 	}
 
-	
+	// 업체 리뷰 통계 (리뷰 수, 평균 평점, 평점 분포)
+	@GetMapping("/interiorStats")
+	public ResponseEntity<InteriorStats> interiorStats(@RequestParam("num") Integer num) {
+		try {
+			InteriorStats interiorStats = interiorService.interiorStats(num);
+			return new ResponseEntity<InteriorStats>(interiorStats, HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity<InteriorStats>(HttpStatus.BAD_REQUEST);
+		}
+	}
+
 	// 개인 마이페이지 - 방꾸 신청내역 리스트
 	@GetMapping("/mypageUserInteriorRequestList")
 	public ResponseEntity<Page<InteriorRequestDto>> interiorRequestListForUserMypage(
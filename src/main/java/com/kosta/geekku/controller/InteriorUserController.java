@@ -17,13 +17,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.kosta.geekku.dto.EstateDto;
 import com.kosta.geekku.dto.InteriorAnswerDto;
 import com.kosta.geekku.dto.InteriorDto;
-import com.kosta.geekku.dto.InteriorRequsetDto;
+import com.kosta.geekku.dto.InteriorRequestDto;
 import com.kosta.geekku.dto.OnestopAnswerDto;
 import com.kosta.geekku.dto.ReviewDto;
 import com.kosta.geekku.dto.SampleDto;
 import com.kosta.geekku.service.InteriorAllRequestService;
 import com.kosta.geekku.service.InteriorService;
 import com.kosta.geekku.service.OnestopService;
+import com.kosta.geekku.util.KeysetCursor;
 import com.kosta.geekku.util.PageInfo;
 
 import lombok.RequiredArgsConstructor;
@@ -108,18 +109,21 @@ public class InteriorUserController {
 		}
 	}
 
-	// 인테리어업자 내가 작성한 인테리어 시공사례 모아보기
+	// 인테리어업자 내가 작성한 인테리어 시공사례 모아보기 (cursor: 이전 응답의 nextCursor)
 	@GetMapping("/myInteriorSampleList")
 	public ResponseEntity<Map<String, Object>> mypageEstateList(
-			@RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
 			@RequestParam("companyId") String companyId) {
 		try {
-			PageInfo pageInfo = new PageInfo();
-			pageInfo.setCurPage(page);
-			List<SampleDto> estateList = interiorService.interiorSampleList(pageInfo, companyId);
+			Slice<SampleDto> samplePage = interiorService.interiorSampleList(companyId, cursor, size);
+			List<SampleDto> estateList = samplePage.getContent();
 			Map<String, Object> listInfo = new HashMap<>();
 			listInfo.put("estateList", estateList);
-			listInfo.put("pageInfo", pageInfo);
+			listInfo.put("hasNext", samplePage.hasNext());
+			listInfo.put("nextCursor", estateList.isEmpty() ? null
+					: KeysetCursor.of(estateList.get(estateList.size() - 1).getCreatedAt(),
+							estateList.get(estateList.size() - 1).getSampleNum()));
 
 			return new ResponseEntity<Map<String, Object>>(listInfo, HttpStatus.OK);
 		} catch (Exception e) {
@@ -131,15 +135,18 @@ public class InteriorUserController {
 	// 인테리어업자 받은 인테리어 리뷰 모아보기
 	@GetMapping("/myInteriorReviewList")
 	public ResponseEntity<Map<String, Object>> interiorReviewList(
-			@RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
 			@RequestParam("companyId") String companyId) {
 		try {
-			PageInfo pageInfo = new PageInfo();
-			pageInfo.setCurPage(page);
-			List<ReviewDto> interiorReviewList = interiorService.interiorReviewList(pageInfo, companyId);
-			// System.out.println(interiorReviewList);
+			Slice<ReviewDto> reviewPage = interiorService.interiorReviewList(companyId, cursor, size);
+			List<ReviewDto> interiorReviewList = reviewPage.getContent();
 			Map<String, Object> listInfo = new HashMap<>();
 			listInfo.put("interiorReviewList", interiorReviewList);
+			listInfo.put("hasNext", reviewPage.hasNext());
+			listInfo.put("nextCursor", interiorReviewList.isEmpty() ? null
+					: KeysetCursor.of(interiorReviewList.get(interiorReviewList.size() - 1).getCreatedAt(),
+							interiorReviewList.get(interiorReviewList.size() - 1).getReviewNum()));
 			return new ResponseEntity<Map<String, Object>>(listInfo, HttpStatus.OK);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -147,18 +154,21 @@ public class InteriorUserController {
 		}
 	}
 
-	// 인테리어업자 내가 작성한 인테리어 신청 모아보기
+	// 인테리어업자 받은 인테리어 신청 모아보기
 	@GetMapping("/myInteriorRequestList")
 	public ResponseEntity<Map<String, Object>> interiorRequestList(
-			@RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
 			@RequestParam("companyId") String companyId) {
 		try {
-			PageInfo pageInfo = new PageInfo();
-			pageInfo.setCurPage(page);
-			List<InteriorRequsetDto> interiorRequestList = interiorService.interiorRequestList(pageInfo, companyId);
+			Slice<InteriorRequestDto> requestPage = interiorService.interiorRequestList(companyId, cursor, size);
+			List<InteriorRequestDto> interiorRequestList = requestPage.getContent();
 			Map<String, Object> listInfo = new HashMap<>();
 			listInfo.put("interiorRequestList", interiorRequestList);
-			listInfo.put("pageInfo", pageInfo);
+			listInfo.put("hasNext", requestPage.hasNext());
+			listInfo.put("nextCursor", interiorRequestList.isEmpty() ? null
+					: KeysetCursor.of(interiorRequestList.get(interiorRequestList.size() - 1).getCreatedAt(),
+							interiorRequestList.get(interiorRequestList.size() - 1).getRequestNum()));
 
 			return new ResponseEntity<Map<String, Object>>(listInfo, HttpStatus.OK);
 		} catch (Exception e) {
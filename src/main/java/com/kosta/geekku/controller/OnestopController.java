@@ -115,8 +115,9 @@ public class OnestopController {
 			return new ResponseEntity<Page<OnestopDto>>(onestopList, HttpStatus.OK);
 		} catch (Exception e) {
 			e.printStackTrace();
-			return new ResponseEntity<Page<OnestopDto>>(HttpStatus.OK);
-
+			return new ResponseEntity<Page<OnestopDto>>(HttpStatus.BAD_REQUEST);
+		}
+	}
 
 	// 한꾸 답변
 	@PostMapping("/onestopAnswerWrite")
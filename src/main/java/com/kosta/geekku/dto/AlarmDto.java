@@ -0,0 +1,28 @@
+package com.kosta.geekku.dto;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlarmDto {
+	// 개인(AlarmUser)/기업(AlarmInterior) 알림 공통
+	private Integer alarmNum;
+	private String type; // 요청 게시판 house, onestop, interiorAll
+	private Integer requestNum;
+	private Integer answerNum; // 개인 알림만
+	private String message;
+	private boolean status; // 0:안읽음 1:읽음
+	private Timestamp createdAt;
+	@JsonIgnore
+	private UUID recipientId; // 받는 사람 (푸시 대상 찾기용)
+}
@@ -0,0 +1,19 @@
+package com.kosta.geekku.dto;
+
+import java.sql.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlarmSummaryDto {
+	// 정리된 지난 알림 일별 건수
+	private Date alarmDate;
+	private String type;
+	private Integer alarmCount;
+}
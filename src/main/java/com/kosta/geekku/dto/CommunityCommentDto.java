@@ -0,0 +1,30 @@
+package com.kosta.geekku.dto;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommunityCommentDto {
+	private Integer commentNum;
+	private Integer communityNum;
+	private Integer parentNum;
+	private Integer depth;
+	private String content;
+	private Timestamp createdAt;
+
+	private UUID userId;
+	private String nickname;
+
+	@Builder.Default
+	private List<CommunityCommentDto> children = new ArrayList<>(); // 답글
+}
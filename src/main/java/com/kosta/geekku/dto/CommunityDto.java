@@ -31,9 +31,12 @@ public class CommunityDto {
 	private String content;
 	private Timestamp createdAt;
 	private Integer viewCount;
+	private Integer commentCount;
 	private String username;
 	private String name;
 	private String nickname;
+	private Integer bookmarkCount;
+	private Boolean bookmark; // 로그인 사용자의 북마크 여부 (목록 조회시)
 		
 	public Community toEntity() {
 	    return Community.builder()
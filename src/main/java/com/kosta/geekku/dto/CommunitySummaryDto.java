@@ -0,0 +1,20 @@
+package com.kosta.geekku.dto;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommunitySummaryDto {
+	// 작성글 목록용 (본문 제외)
+	private Integer communityNum;
+	private String title;
+	private Integer viewCount;
+	private Timestamp createdAt;
+}
@@ -0,0 +1,21 @@
+package com.kosta.geekku.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyRegionDto {
+	// 요청글 매칭용 기업 정보 (기업 타입 + 지역)
+	private UUID companyId;
+	private String type;
+	private String companyAddress;
+	private String possibleLocation; // 인테리어 업체 시공 가능 지역
+	private Integer interiorNum; // 인테리어 업체 등록 여부 (등록된 업체는 InteriorRegionIndex로 매칭)
+}
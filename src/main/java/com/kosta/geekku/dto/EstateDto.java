@@ -47,6 +47,8 @@ public class EstateDto {
 	private String companyName;
 	private String companyPhone;
 	private String companyProfileImage;
+	private Integer bookmarkCount;
+	private Boolean bookmark; // 로그인 사용자의 북마크 여부 (목록 조회시)
 	
 	public Estate toEntity() {
 		Estate estate = Estate.builder()
@@ -34,6 +34,7 @@ public class HouseDto {
 	private String content;
 	private Integer viewCount;
 	private Timestamp createdAt;
+	private Integer answerCount;
 	
 	private UUID userId;
 	private String name;
@@ -0,0 +1,25 @@
+package com.kosta.geekku.dto;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InboxItemDto {
+	// 기업 요청함 항목 (집꾸/한번에꾸하기/방꾸 요청글 공통)
+	private String source; // house, onestop, interiorAll
+	private Integer num;
+	private String title;
+	private String type;
+	private String address1;
+	private String address2;
+	private Integer answerCount;
+	private Timestamp createdAt;
+	private String cursor; // 다음 페이지 요청시 마지막 항목의 cursor 전달
+}
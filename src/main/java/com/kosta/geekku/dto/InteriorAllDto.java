@@ -32,6 +32,7 @@ public class InteriorAllDto {
 	private String title;
 	private String addContent;
 	private Timestamp createAt;
+	private Integer answerCount;
 
 	public InteriorAllRequest toEntity() {
 		return InteriorAllRequest.builder().requestAllNum(requestAllNum).user(user).name(name).phone(phone)
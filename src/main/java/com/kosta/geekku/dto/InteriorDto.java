@@ -28,6 +28,12 @@ public class InteriorDto {
 	private String intro;
 	private String content;
 	private Timestamp createdAt;
+	private Integer bookmarkCount;
+	private Integer reviewCount; // InteriorStats
+	private Double avgScore;
+	private Integer sampleCount;
+	private String cursor; // 다음 페이지 요청시 마지막 항목의 cursor 전달
+	private Boolean bookmark; // 로그인 사용자의 북마크 여부 (목록 조회시)
 
 	public Interior toEntity() {
 		Interior interior = Interior.builder().interiorNum(interiorNum)
@@ -0,0 +1,24 @@
+package com.kosta.geekku.dto;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MyAnswerItemDto {
+	// 기업 마이페이지 내 답변 항목 (집꾸/한번에꾸하기/방꾸 답변 공통)
+	private String source; // house, onestop, interiorAll
+	private Integer answerNum;
+	private Integer requestNum;
+	private String requestTitle;
+	private String requestType;
+	private String address1;
+	private Timestamp createdAt;
+	private String cursor; // 다음 페이지 요청시 마지막 항목의 cursor 전달
+}
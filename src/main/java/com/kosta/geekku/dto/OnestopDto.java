@@ -33,6 +33,7 @@ public class OnestopDto {
 	private String content;
 	private Integer viewCount;
 	private Timestamp createdAt;
+	private Integer answerCount;
 
 	public Onestop toEntity() {
 		return Onestop.builder().onestopNum(onestopNum).user(user).type(type).address1(address1).address2(address2)
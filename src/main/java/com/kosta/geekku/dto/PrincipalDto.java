@@ -0,0 +1,20 @@
+package com.kosta.geekku.dto;
+
+import java.util.UUID;
+
+import com.kosta.geekku.entity.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrincipalDto {
+	// 인증 필터용 회원 요약 (프로필/인증 이미지 등 큰 컬럼 제외)
+	private UUID id; // userId 또는 companyId
+	private String username;
+	private Role role;
+	private boolean status; // 회원탈퇴여부
+}
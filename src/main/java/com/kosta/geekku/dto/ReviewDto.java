@@ -27,6 +27,7 @@ public class ReviewDto {
 	private String location;
 	private String imageNums;
 	private String content;
+	private Integer score; // 평점 1~5
 	private Timestamp createdAt;
 	private Integer interiorNum;
 
@@ -40,6 +41,7 @@ public class ReviewDto {
 				.size(size)
 				.location(location)
 				.content(content)
+				.score(score)
 				.createdAt(createdAt)
 				.user(User.builder().userId(getUserId()).build())
 				.interior(Interior.builder().interiorNum(getInteriorNum()).build())
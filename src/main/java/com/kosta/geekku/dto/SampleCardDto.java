@@ -0,0 +1,26 @@
+package com.kosta.geekku.dto;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SampleCardDto {
+	// 시공사례 갤러리 카드 (본문 제외)
+	private Integer sampleNum;
+	private Integer interiorNum;
+	private String companyName;
+	private String type;
+	private String style;
+	private Integer size;
+	private String location;
+	private Integer coverImage;
+	private Timestamp createdAt;
+	private String cursor; // 다음 페이지 요청시 마지막 항목의 cursor 전달
+}
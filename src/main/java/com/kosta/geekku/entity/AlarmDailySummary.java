@@ -0,0 +1,44 @@
+package com.kosta.geekku.entity;
+
+import java.sql.Date;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import com.kosta.geekku.dto.AlarmSummaryDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_alarm_daily_summary", columnNames = { "recipientType",
+		"recipientId", "alarmDate", "type" }))
+public class AlarmDailySummary {
+	// 보관 기간이 지나 삭제된 읽은 알림의 일별 건수 (AlarmRetentionJob이 삭제하면서 합산)
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer summaryNum;
+
+	private String recipientType; // user, company (AlarmOutbox.USER, COMPANY)
+	@Column(columnDefinition = "BINARY(16)")
+	private UUID recipientId;
+	private Date alarmDate;
+	private String type; // 알림 종류 house, onestop, interiorAll, interiorRequest
+	private Integer alarmCount;
+
+	public AlarmSummaryDto toDto() {
+		return AlarmSummaryDto.builder().alarmDate(alarmDate).type(type).alarmCount(alarmCount).build();
+	}
+}
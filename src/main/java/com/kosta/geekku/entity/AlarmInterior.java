@@ -7,8 +7,12 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.CreationTimestamp;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +24,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = { @Index(name = "idx_alarm_interior_company_created", columnList = "companyId, createdAt, interiorAlarmNum"),
+		@Index(name = "idx_alarm_interior_status_created", columnList = "status, createdAt") })
 public class AlarmInterior {
 	// 사용자 인테리어 문의시 알림 생성
 	// 인테리어 알림
@@ -27,6 +33,7 @@ public class AlarmInterior {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Integer interiorAlarmNum;
 	private String message;
+	@CreationTimestamp
 	private Timestamp createdAt;
 	private boolean status; // 0:안읽음 1:읽음
 
@@ -40,5 +47,6 @@ public class AlarmInterior {
 	private Company company;
 	// private UUID companyId; //join column Company - companyId
 
+	private String type; // 요청 게시판 house, onestop, interiorAll
 	private Integer requestNum;
 }
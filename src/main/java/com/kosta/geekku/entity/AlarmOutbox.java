@@ -0,0 +1,51 @@
+package com.kosta.geekku.entity;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(indexes = @Index(name = "idx_alarm_outbox_processed", columnList = "processed, outboxNum"))
+public class AlarmOutbox {
+	// 알림 생성 대기 (답변/문의 저장과 같은 트랜잭션에서 기록하고, AlarmOutboxConsumer가 알림으로 만든다)
+	public static final String USER = "user"; // AlarmUser로
+	public static final String COMPANY = "company"; // AlarmInterior로
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer outboxNum;
+
+	private String recipientType; // user, company
+	@Column(columnDefinition = "BINARY(16)")
+	private UUID recipientId;
+	@Column(columnDefinition = "BINARY(16)")
+	private UUID senderId; // 개인 알림이면 답변한 기업, 기업 알림이면 문의한 사용자
+
+	private String type; // house, onestop, interiorAll, interiorRequest
+	private Integer requestNum;
+	private Integer answerNum;
+	private String message;
+	@CreationTimestamp
+	private Timestamp createdAt;
+	@ColumnDefault("0")
+	private boolean processed;
+}
@@ -7,8 +7,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -22,6 +24,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = { @Index(name = "idx_alarm_user_user_created", columnList = "userId, createdAt, userAlarmNum"),
+		@Index(name = "idx_alarm_user_status_created", columnList = "status, createdAt") })
 public class AlarmUser {
 	// 부동산, 인테리어회사가 집꾸,방꾸,원스탑 답변시 생성
 	// 일반사용자 알림 //부동산, 인테리어회사가 집꾸,방꾸,원스탑 답변시 생성
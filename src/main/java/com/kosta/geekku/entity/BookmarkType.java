@@ -0,0 +1,7 @@
+package com.kosta.geekku.entity;
+
+public enum BookmarkType {
+	ESTATE,		// 매물 북마크
+	INTERIOR,	// 인테리어 업체 북마크
+	COMMUNITY;	// 집들이 북마크
+}
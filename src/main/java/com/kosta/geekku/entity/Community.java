@@ -9,12 +9,15 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicInsert;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.kosta.geekku.dto.CommunityDto;
@@ -28,7 +31,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@DynamicInsert
 @Entity
+@Table(indexes = @Index(name = "idx_community_user_created", columnList = "userId, createdAt"))
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Community {
 	// 집들이
@@ -61,6 +66,12 @@ public class Community {
 	private Timestamp createdAt;
 	@ColumnDefault("0")
 	private Integer viewCount;
+	@ColumnDefault("0")
+	@Column(insertable = false, updatable = false)
+	private Integer commentCount; // 댓글 수 (CounterDeltaApplier로만 갱신)
+	@ColumnDefault("0")
+	@Column(insertable = false, updatable = false)
+	private Integer bookmarkCount; // 북마크 수 (CounterDeltaApplier로만 갱신)
 	
 	public CommunityDto toDto() {
 	    return CommunityDto.builder()
@@ -80,6 +91,8 @@ public class Community {
 	        .coverImage(coverImage)    // 커버 이미지 ID
 	        .createdAt(createdAt)      // 생성 시간
 	        .viewCount(viewCount)      // 조회수
+	        .commentCount(commentCount) // 댓글 수
+	        .bookmarkCount(bookmarkCount) // 북마크 수
 	        .build();
 	}
 
@@ -5,8 +5,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +20,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
+// (사용자, 대상) 유니크 키는 중복 정리 후 DataBackfillRunner가 만든다 (ddl-auto는 중복이 있으면 추가에 실패)
+@Table(indexes = @Index(name = "idx_community_bookmark_community", columnList = "communityNum"))
 public class CommunityBookmark {
 	// 북마크 - 집들이
 	@Id
@@ -8,9 +8,12 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import lombok.AllArgsConstructor;
@@ -23,8 +26,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_community_comment_path", columnList = "communityNum, path"))
 public class CommunityComment {
 	// 집들이 댓글
+	public static final int MAX_DEPTH = 20; // 답글 최대 깊이 (path 길이 제한)
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Integer commentNum;
@@ -39,8 +45,22 @@ public class CommunityComment {
 	private User user;
 	// private UUID userId; //join column User - userId
 
+	private Integer parentNum; // 부모 댓글 번호 (최상위 댓글은 null)
+	private String path; // 루트부터 자신까지 commentNum을 10자리로 채워 이어붙인 경로 ex) 0000000003/0000000007/
+	@ColumnDefault("0")
+	private Integer depth; // 0: 댓글 1~: 답글
+
 	@Column(length = 500)
 	private String content; // 500자 제한
 	@CreationTimestamp
 	private Timestamp createdAt;
+
+	public static String pathSegment(Integer commentNum) {
+		return String.format("%010d/", commentNum);
+	}
+
+	// 경로가 채워지기 전의 기존 댓글은 최상위 댓글 (DataBackfillRunner가 채운다)
+	public String treePath() {
+		return path != null ? path : pathSegment(commentNum);
+	}
 }
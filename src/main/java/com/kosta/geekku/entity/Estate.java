@@ -19,6 +19,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
 import org.apache.tomcat.util.codec.binary.Base64;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.kosta.geekku.dto.EstateDto;
@@ -70,6 +71,9 @@ public class Estate {
 	private String content;
 	@CreationTimestamp
 	private Timestamp createdAt;
+	@ColumnDefault("0")
+	@Column(insertable = false, updatable = false)
+	private Integer bookmarkCount; // 북마크 수 (CounterDeltaApplier로만 갱신)
 
 	@OneToMany(mappedBy = "estate", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
 	private List<EstateImage> imageList = new ArrayList<>();
@@ -97,6 +101,7 @@ public class Estate {
 					.title(title)
 					.content(content)
 					.createdAt(createdAt)
+					.bookmarkCount(bookmarkCount)
 					.build();
 		
 		if (imageList != null && imageList.size() > 0) {
@@ -7,6 +7,8 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 
 import com.kosta.geekku.dto.EstateBookMarkDto;
 
@@ -20,6 +22,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
+// (사용자, 대상) 유니크 키는 중복 정리 후 DataBackfillRunner가 만든다 (ddl-auto는 중복이 있으면 추가에 실패)
+@Table(indexes = @Index(name = "idx_estate_bookmark_estate", columnList = "estateNum"))
 public class EstateBookmark {
 	// 북마크 - 매물
 	@Id
@@ -13,9 +13,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 
 import org.apache.tomcat.util.codec.binary.Base64;
 import org.hibernate.annotations.ColumnDefault;
@@ -35,6 +37,8 @@ import lombok.NoArgsConstructor;
 @Builder
 @DynamicInsert
 @Entity
+@Table(indexes = { @Index(name = "idx_house_created", columnList = "createdAt, houseNum"),
+		@Index(name = "idx_house_rent_type", columnList = "rentType, createdAt, houseNum") })
 public class House {
 	// 집꾸
 	@Id
@@ -65,8 +69,11 @@ public class House {
 	private Integer viewCount;
 	@CreationTimestamp
 	private Timestamp createdAt;
+	@ColumnDefault("0")
+	@Column(insertable = false, updatable = false)
+	private Integer answerCount; // 답변 수 (답변 작성/삭제시 update로만 갱신)
 	
-	@OneToMany(mappedBy = "house", fetch = FetchType.EAGER, cascade = CascadeType.REMOVE)
+	@OneToMany(mappedBy = "house", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
 	private List<HouseAnswer> houseAnswerList = new ArrayList<>();
 	
 	public HouseDto toDto() {
@@ -85,6 +92,7 @@ public class House {
 				.content(content)
 				.viewCount(viewCount)
 				.createdAt(createdAt)
+				.answerCount(answerCount)
 				.name(user.getName())
 				.build();
 		
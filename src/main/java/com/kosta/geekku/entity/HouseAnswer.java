@@ -9,9 +9,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import org.apache.tomcat.util.codec.binary.Base64;
 import org.hibernate.annotations.CreationTimestamp;
@@ -28,6 +30,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = { @Index(name = "idx_house_answer_house_created", columnList = "houseNum, createdAt"),
+		@Index(name = "idx_house_answer_company_created", columnList = "companyId, createdAt") })
 public class HouseAnswer {
 	// 집꾸 답변
 	@Id
@@ -8,9 +8,12 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
+import javax.persistence.Table;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -26,6 +29,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_interior_location", columnList = "possibleLocation, interiorNum"))
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Interior {
 	@Id
@@ -48,11 +52,14 @@ public class Interior {
 	private String content; // 소개글 1000자제한
 	@CreationTimestamp
 	private Timestamp createdAt;
+	@ColumnDefault("0")
+	@Column(insertable = false, updatable = false)
+	private Integer bookmarkCount; // 북마크 수 (CounterDeltaApplier로만 갱신)
 
 	public InteriorDto toDto() {
 		InteriorDto interiorDto = InteriorDto.builder().interiorNum(interiorNum).possiblePart(possiblePart)
 				.period(period).recentCount(recentCount).repairDate(repairDate).possibleLocation(possibleLocation)
-				.coverImage(coverImage).intro(intro).content(content).createdAt(createdAt)
+				.coverImage(coverImage).intro(intro).content(content).createdAt(createdAt).bookmarkCount(bookmarkCount)
 				.companyName(company.getCompanyName()).companyId(company.getCompanyId()).build();
 		return interiorDto;
 	}
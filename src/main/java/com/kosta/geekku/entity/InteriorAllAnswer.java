@@ -8,8 +8,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import org.apache.tomcat.util.codec.binary.Base64;
 import org.hibernate.annotations.CreationTimestamp;
@@ -26,6 +28,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = { @Index(name = "idx_interior_all_answer_request_created", columnList = "requestAllNum, createdAt"),
+		@Index(name = "idx_interior_all_answer_company_created", columnList = "companyId, createdAt") })
 public class InteriorAllAnswer {
 	// 방꾸 답변
 	@Id
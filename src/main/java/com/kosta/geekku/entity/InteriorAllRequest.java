@@ -8,9 +8,12 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.kosta.geekku.dto.InteriorAllDto;
@@ -25,6 +28,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = { @Index(name = "idx_interior_all_request_created", columnList = "createAt, requestAllNum"),
+		@Index(name = "idx_interior_all_request_type", columnList = "interiorType, requestAllNum") })
 public class InteriorAllRequest {
 	// 방꾸 신청
 	@Id
@@ -51,12 +56,15 @@ public class InteriorAllRequest {
 	private String addContent;
 	@CreationTimestamp
 	private Timestamp createAt;
+	@ColumnDefault("0")
+	@Column(insertable = false, updatable = false)
+	private Integer answerCount; // 답변 수 (답변 작성/삭제시 update로만 갱신)
 
 	public InteriorAllDto toDto() {
 		InteriorAllDto interiorAllDto = InteriorAllDto.builder().requestAllNum(requestAllNum).user(user).name(name)
 				.phone(phone).type(interiorType).size(size).address1(address1).address2(address2).money(money)
 				.workType(workType).interiorType(interiorType).allowPhone(allowPhone).title(title)
-				.addContent(addContent).createAt(createAt).build();
+				.addContent(addContent).createAt(createAt).answerCount(answerCount).build();
 		return interiorAllDto;
 	}
 
@@ -11,10 +11,13 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.kosta.geekku.dto.ReviewDto;
@@ -29,6 +32,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_interior_review_interior_created", columnList = "interiorNum, createdAt, reviewNum"))
 public class InteriorReview {
 	// 인테리어 업체 리뷰
 	@Id
@@ -52,16 +56,18 @@ public class InteriorReview {
 	// private UUID companyId; //join column Company -companyId
 
 	@OneToMany(mappedBy = "interiorReview", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
+	@BatchSize(size = 100) // 리뷰 목록의 이미지를 리뷰마다 조회하지 않고 IN 쿼리로 한번에
 	private List<InteriorReviewImage> imagesList = new ArrayList<>();
 	
 	private String content;
+	private Integer score; // 평점 1~5
 	@CreationTimestamp
 	private Timestamp createdAt;
 	
 	public ReviewDto toDto() {
 		ReviewDto reviewDto = ReviewDto.builder().reviewNum(reviewNum).userId(user.getUserId())
 				.companyName(interior.getCompany().getCompanyName()).type(type)
-				.style(style).size(size).location(location).content(content).createdAt(createdAt)
+				.style(style).size(size).location(location).content(content).score(score).createdAt(createdAt)
 				.interiorNum(interior.getInteriorNum()).build();
 		
 		if(imagesList != null && imagesList.size() > 0) {
@@ -8,10 +8,12 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
+import javax.persistence.Table;
 
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -27,6 +29,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = { @Index(name = "idx_interior_sample_created", columnList = "createdAt, sampleNum"),
+		@Index(name = "idx_interior_sample_company_created", columnList = "companyId, createdAt, sampleNum") })
 public class InteriorSample {
 	// 인테리어 업체 시공사례
 	@Id
@@ -0,0 +1,31 @@
+package com.kosta.geekku.entity;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_interior_service_area", columnNames = { "interiorNum", "regionCode" }),
+		indexes = @Index(name = "idx_interior_service_area_region", columnList = "regionCode, interiorNum"))
+public class InteriorServiceArea {
+	// 인테리어 업체 시공 가능 지역 (Interior.possibleLocation을 지역 코드 단위로 나눈 것)
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer areaNum;
+
+	private Integer interiorNum; // Interior - interiorNum
+	private String regionCode; // "서울" (시/도 전체) 또는 "서울 강남구" (시/군/구)
+}
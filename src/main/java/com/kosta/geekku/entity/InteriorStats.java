@@ -0,0 +1,50 @@
+package com.kosta.geekku.entity;
+
+import java.sql.Timestamp;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(indexes = @Index(name = "idx_interior_stats_rating", columnList = "avgScore, interiorNum"))
+public class InteriorStats {
+	// 인테리어 업체 리뷰/시공사례 통계 (리뷰, 시공사례 등록/수정/삭제시 증감 update로만 갱신)
+	@Id
+	private Integer interiorNum; // Interior - interiorNum
+
+	@ColumnDefault("0")
+	private Integer reviewCount;
+	@ColumnDefault("0")
+	private Integer ratingCount; // 평점이 있는 리뷰 수
+	@ColumnDefault("0")
+	private Long scoreSum;
+	@ColumnDefault("0")
+	private Double avgScore; // scoreSum / ratingCount (평점순 정렬용)
+	// 평점 분포
+	@ColumnDefault("0")
+	private Integer score1;
+	@ColumnDefault("0")
+	private Integer score2;
+	@ColumnDefault("0")
+	private Integer score3;
+	@ColumnDefault("0")
+	private Integer score4;
+	@ColumnDefault("0")
+	private Integer score5;
+	@ColumnDefault("0")
+	private Integer sampleCount;
+	private Timestamp lastActivityAt; // 마지막 리뷰/시공사례 등록 시간
+}
@@ -8,8 +8,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
@@ -26,6 +28,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = { @Index(name = "idx_onestop_created", columnList = "createdAt, onestopNum"),
+		@Index(name = "idx_onestop_rent_type", columnList = "rentType, onestopNum") })
 public class Onestop {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -53,12 +57,15 @@ public class Onestop {
 	private Integer viewCount;
 	@CreationTimestamp
 	private Timestamp createdAt;
+	@ColumnDefault("0")
+	@Column(insertable = false, updatable = false)
+	private Integer answerCount; // 답변 수 (답변 작성/삭제시 update로만 갱신)
 
 	public OnestopDto toDto() {
 		OnestopDto onestopDto = OnestopDto.builder().onestopNum(onestopNum).user(user).type(type).address1(address1)
 				.address2(address2).rentType(rentType).size(size).money(money).workType(workType)
 				.interiorType(interiorType).movePersons(movePersons).allowPhone(allowPhone).title(title)
-				.content(content).viewCount(viewCount).createdAt(createdAt).build();
+				.content(content).viewCount(viewCount).createdAt(createdAt).answerCount(answerCount).build();
 		return onestopDto;
 	}
 }
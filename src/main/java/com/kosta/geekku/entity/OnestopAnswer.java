@@ -9,9 +9,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import org.apache.tomcat.util.codec.binary.Base64;
 import org.hibernate.annotations.CreationTimestamp;
@@ -29,6 +31,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = { @Index(name = "idx_onestop_answer_onestop_created", columnList = "oneStopNum, createdAt"),
+		@Index(name = "idx_onestop_answer_company_created", columnList = "companyId, createdAt") })
 public class OnestopAnswer {
 	// 한번에 꾸하기 답변
 	@Id
@@ -0,0 +1,16 @@
+package com.kosta.geekku.repository;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.kosta.geekku.entity.AlarmDailySummary;
+
+public interface AlarmDailySummaryRepository extends JpaRepository<AlarmDailySummary, Integer> {
+
+	// uk_alarm_daily_summary (recipientType, recipientId, alarmDate) 범위
+	List<AlarmDailySummary> findByRecipientTypeAndRecipientIdAndAlarmDateGreaterThanEqualOrderByAlarmDateDesc(
+			String recipientType, UUID recipientId, Date from);
+}
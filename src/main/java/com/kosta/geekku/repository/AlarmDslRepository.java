@@ -0,0 +1,182 @@
+package com.kosta.geekku.repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import com.kosta.geekku.dto.AlarmDto;
+import com.kosta.geekku.entity.QAlarmInterior;
+import com.kosta.geekku.entity.QAlarmUser;
+import com.kosta.geekku.util.KeysetCursor;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+@Repository
+public class AlarmDslRepository {
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	// 재연결시 놓친 개인 알림 (after 이후 오래된 순)
+	public List<AlarmDto> userAlarmsAfter(UUID userId, KeysetCursor after, int limit) throws Exception {
+		QAlarmUser alarm = QAlarmUser.alarmUser;
+		return jpaQueryFactory
+				.select(userAlarmProjection())
+				.from(alarm)
+				.where(alarm.user.userId.eq(userId),
+						alarm.createdAt.gt(after.getTimestamp())
+								.or(alarm.createdAt.eq(after.getTimestamp()).and(alarm.userAlarmNum.gt(after.getNum()))))
+				.orderBy(alarm.createdAt.asc(), alarm.userAlarmNum.asc())
+				.limit(limit)
+				.fetch();
+	}
+
+	// 재연결시 놓친 기업 알림
+	public List<AlarmDto> companyAlarmsAfter(UUID companyId, KeysetCursor after, int limit) throws Exception {
+		QAlarmInterior alarm = QAlarmInterior.alarmInterior;
+		return jpaQueryFactory
+				.select(companyAlarmProjection())
+				.from(alarm)
+				.where(alarm.company.companyId.eq(companyId),
+						alarm.createdAt.gt(after.getTimestamp())
+								.or(alarm.createdAt.eq(after.getTimestamp())
+										.and(alarm.interiorAlarmNum.gt(after.getNum()))))
+				.orderBy(alarm.createdAt.asc(), alarm.interiorAlarmNum.asc())
+				.limit(limit)
+				.fetch();
+	}
+
+	// 개인 알림 목록 (최신순, (userId, createdAt, userAlarmNum) 인덱스 범위)
+	public List<AlarmDto> userAlarmList(UUID userId, KeysetCursor cursor, int limit) throws Exception {
+		QAlarmUser alarm = QAlarmUser.alarmUser;
+		return jpaQueryFactory
+				.select(userAlarmProjection())
+				.from(alarm)
+				.where(alarm.user.userId.eq(userId),
+						cursor != null ? alarm.createdAt.lt(cursor.getTimestamp())
+								.or(alarm.createdAt.eq(cursor.getTimestamp()).and(alarm.userAlarmNum.lt(cursor.getNum())))
+								: null)
+				.orderBy(alarm.createdAt.desc(), alarm.userAlarmNum.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	// 기업 알림 목록 (최신순, (companyId, createdAt, interiorAlarmNum) 인덱스 범위)
+	public List<AlarmDto> companyAlarmList(UUID companyId, KeysetCursor cursor, int limit) throws Exception {
+		QAlarmInterior alarm = QAlarmInterior.alarmInterior;
+		return jpaQueryFactory
+				.select(companyAlarmProjection())
+				.from(alarm)
+				.where(alarm.company.companyId.eq(companyId),
+						cursor != null ? alarm.createdAt.lt(cursor.getTimestamp())
+								.or(alarm.createdAt.eq(cursor.getTimestamp())
+										.and(alarm.interiorAlarmNum.lt(cursor.getNum())))
+								: null)
+				.orderBy(alarm.createdAt.desc(), alarm.interiorAlarmNum.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	public long countUnreadUserAlarms(UUID userId) throws Exception {
+		QAlarmUser alarm = QAlarmUser.alarmUser;
+		Long count = jpaQueryFactory.select(alarm.count())
+				.from(alarm)
+				.where(alarm.user.userId.eq(userId), alarm.status.isFalse())
+				.fetchOne();
+		return count == null ? 0 : count;
+	}
+
+	// 안읽은 알림만 읽음 처리 (UPDATE 한 번), alarmNums가 null이면 전체, 실제로 바뀐 개수 반환
+	public long markUserAlarmsRead(UUID userId, List<Integer> alarmNums) throws Exception {
+		QAlarmUser alarm = QAlarmUser.alarmUser;
+		return jpaQueryFactory.update(alarm)
+				.set(alarm.status, true)
+				.where(alarm.user.userId.eq(userId), alarm.status.isFalse(),
+						alarmNums != null ? alarm.userAlarmNum.in(alarmNums) : null)
+				.execute();
+	}
+
+	public long countUnreadCompanyAlarms(UUID companyId) throws Exception {
+		QAlarmInterior alarm = QAlarmInterior.alarmInterior;
+		Long count = jpaQueryFactory.select(alarm.count())
+				.from(alarm)
+				.where(alarm.company.companyId.eq(companyId), alarm.status.isFalse())
+				.fetchOne();
+		return count == null ? 0 : count;
+	}
+
+	public long markCompanyAlarmsRead(UUID companyId, List<Integer> alarmNums) throws Exception {
+		QAlarmInterior alarm = QAlarmInterior.alarmInterior;
+		return jpaQueryFactory.update(alarm)
+				.set(alarm.status, true)
+				.where(alarm.company.companyId.eq(companyId), alarm.status.isFalse(),
+						alarmNums != null ? alarm.interiorAlarmNum.in(alarmNums) : null)
+				.execute();
+	}
+
+	public Integer maxUserAlarmNum() throws Exception {
+		QAlarmUser alarm = QAlarmUser.alarmUser;
+		Integer max = jpaQueryFactory.select(alarm.userAlarmNum.max()).from(alarm).fetchOne();
+		return max == null ? 0 : max;
+	}
+
+	// afterNum 이후 저장된 개인 알림 중 접속중인 사용자 것만 (푸시용)
+	public List<AlarmDto> userAlarmsFrom(Integer afterNum, Collection<UUID> userIds) throws Exception {
+		QAlarmUser alarm = QAlarmUser.alarmUser;
+		return jpaQueryFactory
+				.select(userAlarmProjection())
+				.from(alarm)
+				.where(alarm.userAlarmNum.gt(afterNum), alarm.user.userId.in(userIds))
+				.orderBy(alarm.userAlarmNum.asc())
+				.fetch();
+	}
+
+	// afterNum 이후 before 전에 저장된 마지막 개인 알림 번호 (없으면 null) - 그 이하 번호는 모두 커밋된 것으로 본다
+	public Integer settledUserAlarmNum(Integer afterNum, Timestamp before) throws Exception {
+		QAlarmUser alarm = QAlarmUser.alarmUser;
+		return jpaQueryFactory.select(alarm.userAlarmNum.max()).from(alarm)
+				.where(alarm.userAlarmNum.gt(afterNum), alarm.createdAt.lt(before)).fetchOne();
+	}
+
+	public Integer maxCompanyAlarmNum() throws Exception {
+		QAlarmInterior alarm = QAlarmInterior.alarmInterior;
+		Integer max = jpaQueryFactory.select(alarm.interiorAlarmNum.max()).from(alarm).fetchOne();
+		return max == null ? 0 : max;
+	}
+
+	// afterNum 이후 저장된 기업 알림 중 접속중인 기업 것만 (푸시용)
+	public List<AlarmDto> companyAlarmsFrom(Integer afterNum, Collection<UUID> companyIds) throws Exception {
+		QAlarmInterior alarm = QAlarmInterior.alarmInterior;
+		return jpaQueryFactory
+				.select(companyAlarmProjection())
+				.from(alarm)
+				.where(alarm.interiorAlarmNum.gt(afterNum), alarm.company.companyId.in(companyIds))
+				.orderBy(alarm.interiorAlarmNum.asc())
+				.fetch();
+	}
+
+	// afterNum 이후 before 전에 저장된 마지막 기업 알림 번호 (없으면 null)
+	public Integer settledCompanyAlarmNum(Integer afterNum, Timestamp before) throws Exception {
+		QAlarmInterior alarm = QAlarmInterior.alarmInterior;
+		return jpaQueryFactory.select(alarm.interiorAlarmNum.max()).from(alarm)
+				.where(alarm.interiorAlarmNum.gt(afterNum), alarm.createdAt.lt(before)).fetchOne();
+	}
+
+	private QBean<AlarmDto> userAlarmProjection() {
+		QAlarmUser alarm = QAlarmUser.alarmUser;
+		return Projections.fields(AlarmDto.class, alarm.userAlarmNum.as("alarmNum"), alarm.type, alarm.requestNum,
+				alarm.answerNum, alarm.message, alarm.status, alarm.createdAt, alarm.user.userId.as("recipientId"));
+	}
+
+	private QBean<AlarmDto> companyAlarmProjection() {
+		QAlarmInterior alarm = QAlarmInterior.alarmInterior;
+		return Projections.fields(AlarmDto.class, alarm.interiorAlarmNum.as("alarmNum"), alarm.type,
+				alarm.requestNum, alarm.message, alarm.status, alarm.createdAt,
+				alarm.company.companyId.as("recipientId"));
+	}
+}
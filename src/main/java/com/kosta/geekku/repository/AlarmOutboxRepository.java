@@ -0,0 +1,9 @@
+package com.kosta.geekku.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.kosta.geekku.entity.AlarmOutbox;
+
+public interface AlarmOutboxRepository extends JpaRepository<AlarmOutbox, Integer> {
+
+}
@@ -0,0 +1,153 @@
+package com.kosta.geekku.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * 게시판 공통 목록/검색 조회.
+ * BoardSpec으로 만든 하나의 predicate를 목록과 개수 조회에 같이 사용한다.
+ * JPQL에는 COUNT(*) OVER()가 없어서 개수는 (게시판, 검색조건)별로 잠깐 캐시하고,
+ * 마지막 페이지처럼 결과가 페이지 크기보다 적으면 개수 쿼리 없이 바로 계산한다.
+ * 역색인 대상 컬럼 검색은 TextSearchIndex의 결과 글번호로 페이지만 읽는다.
+ * 색인 로딩 이후 글(다른 서버에서 작성됐을 수 있음)은 PK 범위로 좁힌 DB 검색 결과를 합친다.
+ */
+@Repository
+public class BoardQueryEngine {
+
+	private static final int MAX_CACHED_COUNTS = 1000;
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	@Autowired
+	private TextSearchIndex textSearchIndex;
+
+	@Value("${board.count-cache.ttl:30000}")
+	private long countTtl;
+
+	private final Map<String, CachedCount> countCache = new ConcurrentHashMap<>();
+
+	private static class CachedCount {
+		final long count;
+		final long expiresAt;
+
+		CachedCount(long count, long expiresAt) {
+			this.count = count;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	public <T> Page<T> search(BoardSpec<T> spec, String type, String word, PageRequest pageRequest) throws Exception {
+		Predicate where = spec.compile(type, word);
+		if (where != null && spec.getIdPath() != null && spec.getTextColumns().containsKey(type)) {
+			RoaringBitmap hits = textSearchIndex.search(spec.getName(), spec.getTextColumns().get(type), word);
+			if (hits != null) {
+				List<Integer> recent = jpaQueryFactory.select(spec.getIdPath())
+						.from(spec.getRoot())
+						.where(where, spec.getIdPath().gt(textSearchIndex.watermark(spec.getName())))
+						.fetch();
+				for (Integer num : recent) {
+					hits.add(num.intValue());
+				}
+				return searchByIndex(spec, hits, pageRequest);
+			}
+		}
+
+		List<T> list = jpaQueryFactory.selectFrom(spec.getRoot())
+				.where(where)
+				.orderBy(spec.getOrders())
+				.offset(pageRequest.getOffset())
+				.limit(pageRequest.getPageSize())
+				.fetch();
+
+		String key = spec.getName() + "|" + (where == null ? "" : type + "|" + word.trim());
+		long total;
+		if (!list.isEmpty() && list.size() < pageRequest.getPageSize()) {
+			// 마지막 페이지 - 개수를 바로 알 수 있다
+			total = pageRequest.getOffset() + list.size();
+			putCount(key, total);
+		} else {
+			total = count(spec, where, key);
+		}
+		return new PageImpl<>(list, pageRequest, total);
+	}
+
+	// 역색인 검색 결과에서 페이지 글번호만 잘라 PK로 조회 (개수는 비트맵 크기)
+	private <T> Page<T> searchByIndex(BoardSpec<T> spec, RoaringBitmap hits, PageRequest pageRequest) {
+		List<Integer> pageNums = new ArrayList<>();
+		long skip = pageRequest.getOffset();
+		IntIterator it = hits.getReverseIntIterator(); // 글번호 내림차순
+		while (it.hasNext() && pageNums.size() < pageRequest.getPageSize()) {
+			int num = it.next();
+			if (skip > 0) {
+				skip--;
+				continue;
+			}
+			pageNums.add(num);
+		}
+
+		List<T> list = pageNums.isEmpty() ? new ArrayList<>()
+				: jpaQueryFactory.selectFrom(spec.getRoot())
+						.where(spec.getIdPath().in(pageNums))
+						.orderBy(spec.getOrders())
+						.fetch();
+		return new PageImpl<>(list, pageRequest, hits.getLongCardinality());
+	}
+
+	// 글 작성/삭제시 해당 게시판 개수 캐시 제거 (트랜잭션 안이면 커밋 후, 커밋 전 개수가 다시 캐시되지 않게)
+	public void evictCounts(String boardName) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					removeCounts(boardName);
+				}
+			});
+		} else {
+			removeCounts(boardName);
+		}
+	}
+
+	private void removeCounts(String boardName) {
+		countCache.keySet().removeIf(key -> key.startsWith(boardName + "|"));
+	}
+
+	private long count(BoardSpec<?> spec, Predicate where, String key) {
+		CachedCount cached = countCache.get(key);
+		if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+			return cached.count;
+		}
+		Long cnt = jpaQueryFactory.select(spec.getRoot().count())
+				.from(spec.getRoot())
+				.where(where)
+				.fetchOne();
+		long total = cnt == null ? 0L : cnt;
+		putCount(key, total);
+		return total;
+	}
+
+	private void putCount(String key, long total) {
+		if (countCache.size() >= MAX_CACHED_COUNTS) {
+			long now = System.currentTimeMillis();
+			countCache.values().removeIf(c -> c.expiresAt <= now);
+			if (countCache.size() >= MAX_CACHED_COUNTS) countCache.clear();
+		}
+		countCache.put(key, new CachedCount(total, System.currentTimeMillis() + countTtl));
+	}
+}
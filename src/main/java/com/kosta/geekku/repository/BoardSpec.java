@@ -0,0 +1,75 @@
+package com.kosta.geekku.repository;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+
+import lombok.Getter;
+
+/**
+ * 게시판 검색 정의 (대상 엔티티, 기본 정렬, 검색 가능한 컬럼 목록).
+ * 검색 컬럼을 추가할 때는 column()/indexedColumn()/textColumn() 한 줄만 추가하면 목록/개수 조회에 같이 적용된다.
+ */
+@Getter
+public class BoardSpec<T> {
+
+	private final String name;
+	private final EntityPathBase<T> root;
+	private final OrderSpecifier<?>[] orders;
+	private final Map<String, Function<String, BooleanExpression>> columns = new LinkedHashMap<>();
+	// 메모리 역색인(TextSearchIndex)으로 검색하는 컬럼 (type -> 색인 필드)
+	private final Map<String, String> textColumns = new HashMap<>();
+	private NumberPath<Integer> idPath;
+
+	public BoardSpec(String name, EntityPathBase<T> root, OrderSpecifier<?>... orders) {
+		this.name = name;
+		this.root = root;
+		this.orders = orders;
+	}
+
+	// 부분 일치 (LIKE '%word%')
+	public BoardSpec<T> column(String type, StringPath path) {
+		return column(type, word -> path.contains(word));
+	}
+
+	// 앞부분 일치 (LIKE 'word%') - (컬럼, 정렬) 복합 인덱스를 두면 범위 검색 + 정렬을 인덱스로 처리한다
+	public BoardSpec<T> indexedColumn(String type, StringPath path) {
+		return column(type, word -> path.startsWith(word));
+	}
+
+	// 역색인으로 검색 (색인이 준비되지 않았으면 부분 일치로 DB 검색), 글번호 내림차순 게시판만 사용
+	public BoardSpec<T> textColumn(String type, String field, StringPath path) {
+		textColumns.put(type, field);
+		return column(type, path);
+	}
+
+	// 역색인 결과로 페이지 글만 PK로 읽을 때 사용할 글번호 컬럼
+	public BoardSpec<T> textIndexed(NumberPath<Integer> idPath) {
+		this.idPath = idPath;
+		return this;
+	}
+
+	// 여러 컬럼을 묶는 등 직접 조건을 만드는 경우
+	public BoardSpec<T> column(String type, Function<String, BooleanExpression> condition) {
+		columns.put(type, condition);
+		return this;
+	}
+
+	// 검색 조건 -> predicate (검색어가 없으면 null = 전체)
+	public Predicate compile(String type, String word) {
+		if (word == null || word.trim().equals("")) return null;
+		Function<String, BooleanExpression> condition = columns.get(type);
+		if (condition == null) {
+			throw new IllegalArgumentException("검색 조건 오류: " + type);
+		}
+		return condition.apply(word.trim());
+	}
+}
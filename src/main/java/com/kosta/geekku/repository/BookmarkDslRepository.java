@@ -0,0 +1,95 @@
+package com.kosta.geekku.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import com.kosta.geekku.entity.QCommunityBookmark;
+import com.kosta.geekku.entity.QEstateBookmark;
+import com.kosta.geekku.entity.QInteriorBookmark;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+@Repository
+public class BookmarkDslRepository {
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	// 매물 북마크 - 이미 저장된 번호 / 일괄 삭제
+	public List<Integer> findEstateNums(UUID userId, Collection<Integer> estateNums) throws Exception {
+		QEstateBookmark estateBookmark = QEstateBookmark.estateBookmark;
+
+		return jpaQueryFactory.select(estateBookmark.estateNum).from(estateBookmark)
+				.where(estateBookmark.userId.eq(userId).and(estateBookmark.estateNum.in(estateNums)))
+				.fetch();
+	}
+
+	public Long deleteEstateBookmarks(UUID userId, Collection<Integer> estateNums) throws Exception {
+		QEstateBookmark estateBookmark = QEstateBookmark.estateBookmark;
+
+		return jpaQueryFactory.delete(estateBookmark)
+				.where(estateBookmark.userId.eq(userId).and(estateBookmark.estateNum.in(estateNums)))
+				.execute();
+	}
+
+	// 인테리어 북마크 - 이미 저장된 번호 / 일괄 삭제
+	public List<Integer> findInteriorNums(UUID userId, Collection<Integer> interiorNums) throws Exception {
+		QInteriorBookmark interiorBookmark = QInteriorBookmark.interiorBookmark;
+
+		return jpaQueryFactory.select(interiorBookmark.interiorNum).from(interiorBookmark)
+				.where(interiorBookmark.userId.eq(userId).and(interiorBookmark.interiorNum.in(interiorNums)))
+				.fetch();
+	}
+
+	public Long deleteInteriorBookmarks(UUID userId, Collection<Integer> interiorNums) throws Exception {
+		QInteriorBookmark interiorBookmark = QInteriorBookmark.interiorBookmark;
+
+		return jpaQueryFactory.delete(interiorBookmark)
+				.where(interiorBookmark.userId.eq(userId).and(interiorBookmark.interiorNum.in(interiorNums)))
+				.execute();
+	}
+
+	// 집들이 북마크 - 이미 저장된 번호 / 일괄 삭제
+	public List<Integer> findCommunityNums(UUID userId, Collection<Integer> communityNums) throws Exception {
+		QCommunityBookmark communityBookmark = QCommunityBookmark.communityBookmark;
+
+		return jpaQueryFactory.select(communityBookmark.community.communityNum).from(communityBookmark)
+				.where(communityBookmark.user.userId.eq(userId)
+						.and(communityBookmark.community.communityNum.in(communityNums)))
+				.fetch();
+	}
+
+	public Long deleteCommunityBookmarks(UUID userId, Collection<Integer> communityNums) throws Exception {
+		QCommunityBookmark communityBookmark = QCommunityBookmark.communityBookmark;
+
+		return jpaQueryFactory.delete(communityBookmark)
+				.where(communityBookmark.user.userId.eq(userId)
+						.and(communityBookmark.community.communityNum.in(communityNums)))
+				.execute();
+	}
+
+	// 사용자가 북마크한 대상 번호 전체 (북마크 비트맵 로딩용)
+	public List<Integer> findAllEstateNums(UUID userId) throws Exception {
+		QEstateBookmark estateBookmark = QEstateBookmark.estateBookmark;
+
+		return jpaQueryFactory.select(estateBookmark.estateNum).from(estateBookmark)
+				.where(estateBookmark.userId.eq(userId)).fetch();
+	}
+
+	public List<Integer> findAllInteriorNums(UUID userId) throws Exception {
+		QInteriorBookmark interiorBookmark = QInteriorBookmark.interiorBookmark;
+
+		return jpaQueryFactory.select(interiorBookmark.interiorNum).from(interiorBookmark)
+				.where(interiorBookmark.userId.eq(userId)).fetch();
+	}
+
+	public List<Integer> findAllCommunityNums(UUID userId) throws Exception {
+		QCommunityBookmark communityBookmark = QCommunityBookmark.communityBookmark;
+
+		return jpaQueryFactory.select(communityBookmark.community.communityNum).from(communityBookmark)
+				.where(communityBookmark.user.userId.eq(userId)).fetch();
+	}
+}
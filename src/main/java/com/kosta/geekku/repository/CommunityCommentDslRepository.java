@@ -0,0 +1,46 @@
+package com.kosta.geekku.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import com.kosta.geekku.dto.CommunityCommentDto;
+import com.kosta.geekku.entity.QCommunityComment;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+@Repository
+public class CommunityCommentDslRepository {
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	// 댓글 트리 - (communityNum, path) 인덱스 순서 그대로 페이지 단위 조회
+	public List<CommunityCommentDto> commentTreeByPaging(Integer communityNum, PageRequest pageRequest)
+			throws Exception {
+		QCommunityComment comment = QCommunityComment.communityComment;
+
+		return jpaQueryFactory
+				.select(Projections.fields(CommunityCommentDto.class, comment.commentNum,
+						comment.community.communityNum.as("communityNum"), comment.parentNum, comment.depth,
+						comment.content, comment.createdAt, comment.user.userId.as("userId"),
+						comment.user.nickname.as("nickname")))
+				.from(comment)
+				.where(comment.community.communityNum.eq(communityNum))
+				.orderBy(comment.path.asc())
+				.offset(pageRequest.getOffset())
+				.limit(pageRequest.getPageSize())
+				.fetch();
+	}
+
+	// 댓글과 그 아래 답글 전체 삭제, 삭제된 개수 반환
+	public Long deleteCommentTree(Integer communityNum, String path) throws Exception {
+		QCommunityComment comment = QCommunityComment.communityComment;
+
+		return jpaQueryFactory.delete(comment)
+				.where(comment.community.communityNum.eq(communityNum).and(comment.path.startsWith(path)))
+				.execute();
+	}
+}
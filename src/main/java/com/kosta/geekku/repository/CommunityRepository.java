@@ -8,17 +8,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.kosta.geekku.dto.CommunityDto;
+import com.kosta.geekku.dto.CommunitySummaryDto;
 import com.kosta.geekku.entity.Community;
 
 public interface CommunityRepository extends JpaRepository<Community, Integer>, JpaSpecificationExecutor<Community> {
 	Page<Community> findAll(Pageable pageable);
 	Optional<Community> findByCommunityNum(Integer communityNum);
-	List<Community> findAllByUser_UserId(UUID userId);
 
 
 	Page<Community> findByUser_UserId(UUID userId, Pageable pageable);
 
+	// 사용자 작성글 목록 - 본문(LONGTEXT) 없이 필요한 컬럼만 조회
+	@Query(value = "SELECT new com.kosta.geekku.dto.CommunitySummaryDto(c.communityNum, c.title, c.viewCount, c.createdAt) "
+			+ "FROM Community c WHERE c.user.userId = :userId",
+			countQuery = "SELECT count(c) FROM Community c WHERE c.user.userId = :userId")
+	Page<CommunitySummaryDto> findSummaryByUserId(@Param("userId") UUID userId, Pageable pageable);
+
 
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.kosta.geekku.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import com.kosta.geekku.dto.MyAnswerItemDto;
+import com.kosta.geekku.entity.QHouse;
+import com.kosta.geekku.entity.QHouseAnswer;
+import com.kosta.geekku.entity.QInteriorAllAnswer;
+import com.kosta.geekku.entity.QInteriorAllRequest;
+import com.kosta.geekku.entity.QOnestop;
+import com.kosta.geekku.entity.QOnestopAnswer;
+import com.kosta.geekku.util.FeedCursor;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * 기업이 작성한 답변 피드 - 답변 테이블별로 (companyId, createdAt) 인덱스를 커서 이후부터 limit개씩 읽는다.
+ * 답변 내용(LONGTEXT)은 읽지 않고 요청글 제목만 조인해서 가져온다.
+ */
+@Repository
+public class CompanyAnswerDslRepository {
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	public List<MyAnswerItemDto> houseAnswers(UUID companyId, FeedCursor cursor, int limit) throws Exception {
+		QHouseAnswer houseAnswer = QHouseAnswer.houseAnswer;
+		QHouse house = QHouse.house;
+
+		return jpaQueryFactory
+				.select(Projections.fields(MyAnswerItemDto.class, houseAnswer.answerHouseNum.as("answerNum"),
+						house.houseNum.as("requestNum"), house.title.as("requestTitle"), house.type.as("requestType"),
+						house.address1, houseAnswer.createdAt))
+				.from(houseAnswer)
+				.join(houseAnswer.house, house)
+				.where(houseAnswer.company.companyId.eq(companyId),
+						InboxDslRepository.seek(houseAnswer.createdAt, houseAnswer.answerHouseNum,
+								InboxDslRepository.HOUSE, cursor))
+				.orderBy(houseAnswer.createdAt.desc(), houseAnswer.answerHouseNum.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	public List<MyAnswerItemDto> onestopAnswers(UUID companyId, FeedCursor cursor, int limit) throws Exception {
+		QOnestopAnswer onestopAnswer = QOnestopAnswer.onestopAnswer;
+		QOnestop onestop = QOnestop.onestop;
+
+		return jpaQueryFactory
+				.select(Projections.fields(MyAnswerItemDto.class, onestopAnswer.answerOnestopNum.as("answerNum"),
+						onestop.onestopNum.as("requestNum"), onestop.title.as("requestTitle"),
+						onestop.type.as("requestType"), onestop.address1, onestopAnswer.createdAt))
+				.from(onestopAnswer)
+				.join(onestopAnswer.onestop, onestop)
+				.where(onestopAnswer.company.companyId.eq(companyId),
+						InboxDslRepository.seek(onestopAnswer.createdAt, onestopAnswer.answerOnestopNum,
+								InboxDslRepository.ONESTOP, cursor))
+				.orderBy(onestopAnswer.createdAt.desc(), onestopAnswer.answerOnestopNum.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	public List<MyAnswerItemDto> interiorAllAnswers(UUID companyId, FeedCursor cursor, int limit) throws Exception {
+		QInteriorAllAnswer interiorAllAnswer = QInteriorAllAnswer.interiorAllAnswer;
+		QInteriorAllRequest interiorAll = QInteriorAllRequest.interiorAllRequest;
+
+		return jpaQueryFactory
+				.select(Projections.fields(MyAnswerItemDto.class, interiorAllAnswer.answerAllNum.as("answerNum"),
+						interiorAll.requestAllNum.as("requestNum"), interiorAll.title.as("requestTitle"),
+						interiorAll.interiorType.as("requestType"), interiorAll.address1,
+						interiorAllAnswer.createdAt))
+				.from(interiorAllAnswer)
+				.join(interiorAllAnswer.interiorAllRequest, interiorAll)
+				.where(interiorAllAnswer.company.companyId.eq(companyId),
+						InboxDslRepository.seek(interiorAllAnswer.createdAt, interiorAllAnswer.answerAllNum,
+								InboxDslRepository.INTERIOR_ALL, cursor))
+				.orderBy(interiorAllAnswer.createdAt.desc(), interiorAllAnswer.answerAllNum.desc())
+				.limit(limit)
+				.fetch();
+	}
+}
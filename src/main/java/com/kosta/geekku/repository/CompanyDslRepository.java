@@ -0,0 +1,34 @@
+package com.kosta.geekku.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import com.kosta.geekku.dto.CompanyRegionDto;
+import com.kosta.geekku.entity.QCompany;
+import com.kosta.geekku.entity.QInterior;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+@Repository
+public class CompanyDslRepository {
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	// 탈퇴하지 않은 기업의 타입/지역 (companyId가 null이면 전체)
+	public List<CompanyRegionDto> findCompanyRegions(UUID companyId) throws Exception {
+		QCompany company = QCompany.company;
+		QInterior interior = QInterior.interior;
+
+		return jpaQueryFactory
+				.select(Projections.fields(CompanyRegionDto.class, company.companyId, company.type,
+						company.companyAddress, interior.possibleLocation, interior.interiorNum))
+				.from(company)
+				.leftJoin(interior).on(interior.company.companyId.eq(company.companyId))
+				.where(company.status.isFalse(), companyId != null ? company.companyId.eq(companyId) : null)
+				.fetch();
+	}
+}
@@ -4,9 +4,16 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.kosta.geekku.dto.PrincipalDto;
 import com.kosta.geekku.entity.Company;
 
 public interface CompanyRepository extends JpaRepository<Company, UUID> {
 	Optional<Company> findByUsername(String username);
+
+	// 인증 필터용 (필요한 컬럼만)
+	@Query("select new com.kosta.geekku.dto.PrincipalDto(c.companyId, c.username, c.role, c.status) from Company c where c.username = :username")
+	Optional<PrincipalDto> findPrincipalByUsername(@Param("username") String username);
 }
@@ -3,6 +3,7 @@ package com.kosta.geekku.repository;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
@@ -18,78 +19,18 @@ public class HouseDslRepository {
 	@Autowired
 	private JPAQueryFactory jpaQueryFactory;
 	
-	public Long findHouseCount() throws Exception {
-		QHouse house = QHouse.house;
-		 
-		return jpaQueryFactory.select(house.count())
-					.from(house)
-					.fetchOne();
-	}
-	
-	public Long searchHouseCount(String type, String keyword) throws Exception {
-		QHouse house = QHouse.house;
-		Long cnt = 0L;
-		
-		if (type.equals("location")) {
-			cnt = jpaQueryFactory.select(house.count())
-					.from(house)
-					.where(house.address1.contains(keyword).or(house.address2.contains(keyword)))
-					.fetchOne();
-		}
-		else if (type.equals("rentType")) {
-			cnt = jpaQueryFactory.select(house.count())
-					.from(house)
-					.where(house.rentType.contains(keyword))
-					.fetchOne();
-		} else if (type.equals("title")) {
-			cnt = jpaQueryFactory.select(house.count())
-					.from(house)
-					.where(house.title.contains(keyword))
-					.fetchOne();
-		}
-		
-		return cnt;
-	}
-	
-	public List<House> findHouseListByPaging(PageRequest pageRequest) throws Exception {
-		QHouse house = QHouse.house;
-		
-		return jpaQueryFactory.selectFrom(house)
-					.orderBy(house.createdAt.desc())
-					.offset(pageRequest.getOffset())
-					.limit(pageRequest.getPageSize())
-					.fetch();
-	}
+	@Autowired
+	private BoardQueryEngine boardQueryEngine;
 	
+	// 검색 가능한 컬럼 (type -> 조건)
+	public static final BoardSpec<House> HOUSE_BOARD = new BoardSpec<>("house", QHouse.house, QHouse.house.createdAt.desc())
+			.column("location", word -> QHouse.house.address1.contains(word).or(QHouse.house.address2.contains(word)))
+			.indexedColumn("rentType", QHouse.house.rentType)
+			.column("title", QHouse.house.title);
 	
-	public List<House> searchHouseListByPaging(PageRequest pageRequest, String type, String keyword) throws Exception {
-		QHouse house = QHouse.house;
-		List<House> houseList = null;
-		
-		if (type.equals("location")) {
-			houseList = jpaQueryFactory.selectFrom(house)
-					.where(house.address1.contains(keyword).or(house.address2.contains(keyword)))
-					.orderBy(house.createdAt.desc())
-					.offset(pageRequest.getOffset())
-					.limit(pageRequest.getPageSize())
-					.fetch();
-		} else if (type.equals("rentType")) {
-			houseList = jpaQueryFactory.selectFrom(house)
-					.where(house.rentType.contains(keyword))
-					.orderBy(house.createdAt.desc())
-					.offset(pageRequest.getOffset())
-					.limit(pageRequest.getPageSize())
-					.fetch();
-		} else if (type.equals("title")) {
-			houseList = jpaQueryFactory.selectFrom(house)
-					.where(house.title.contains(keyword))
-					.orderBy(house.createdAt.desc())
-					.offset(pageRequest.getOffset())
-					.limit(pageRequest.getPageSize())
-					.fetch();
-		}
-		
-		return houseList;
+	// 목록 + 검색 (검색어 없으면 전체)
+	public Page<House> searchHouseList(PageRequest pageRequest, String type, String keyword) throws Exception {
+		return boardQueryEngine.search(HOUSE_BOARD, type, keyword, pageRequest);
 	}
 	
 	public void updateHouseViewCount(Integer houseNum, Integer viewCount) throws Exception {
@@ -102,18 +43,22 @@ public class HouseDslRepository {
 	}
 	
 	// 집꾸 답변
-	public Long houseAnswerCount() throws Exception {
-		QHouseAnswer houseAnswer = QHouseAnswer.houseAnswer;
+	public void updateHouseAnswerCount(Integer houseNum, Integer delta) throws Exception {
+		QHouse house = QHouse.house;
 		
-		return jpaQueryFactory.select(houseAnswer.count())
-					.from(houseAnswer)
-					.fetchOne();
+		jpaQueryFactory.update(house)
+				.set(house.answerCount, house.answerCount.add(delta))
+				.where(house.houseNum.eq(houseNum))
+				.execute();
 	}
 	
-	public List<HouseAnswer> houseAnswerListByPaging(PageRequest pageRequest) throws Exception {
+	// 해당 글의 답변만 (houseNum, createdAt) 인덱스 범위로 조회
+	public List<HouseAnswer> houseAnswerListByPaging(Integer houseNum, PageRequest pageRequest) throws Exception {
 		QHouseAnswer houseAnswer = QHouseAnswer.houseAnswer;
 		
 		List<HouseAnswer> houseAnswerList = jpaQueryFactory.selectFrom(houseAnswer)
+									.join(houseAnswer.company).fetchJoin()
+									.where(houseAnswer.house.houseNum.eq(houseNum))
 									.orderBy(houseAnswer.createdAt.asc())
 									.offset(pageRequest.getOffset())
 									.limit(pageRequest.getPageSize())
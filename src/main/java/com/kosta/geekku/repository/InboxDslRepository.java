@@ -0,0 +1,106 @@
+package com.kosta.geekku.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import com.kosta.geekku.dto.InboxItemDto;
+import com.kosta.geekku.entity.QHouse;
+import com.kosta.geekku.entity.QInteriorAllRequest;
+import com.kosta.geekku.entity.QOnestop;
+import com.kosta.geekku.util.FeedCursor;
+import com.kosta.geekku.util.RegionUtil;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * 기업 요청함 - 게시판별로 커서 이후 글을 (작성시간, 글번호) 인덱스 순서대로 limit개씩 읽는다.
+ * 합치기(k-way merge)는 서비스에서 한다.
+ */
+@Repository
+public class InboxDslRepository {
+
+	// 같은 작성시간일 때의 출처 순서 (커서 비교용)
+	public static final int HOUSE = 0;
+	public static final int ONESTOP = 1;
+	public static final int INTERIOR_ALL = 2;
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	public List<InboxItemDto> houseInbox(List<String> regions, FeedCursor cursor, int limit) throws Exception {
+		QHouse house = QHouse.house;
+
+		return jpaQueryFactory
+				.select(Projections.fields(InboxItemDto.class, house.houseNum.as("num"), house.title, house.type,
+						house.address1, house.address2, house.answerCount, house.createdAt))
+				.from(house)
+				.where(regionFilter(house.address1, regions), seek(house.createdAt, house.houseNum, HOUSE, cursor))
+				.orderBy(house.createdAt.desc(), house.houseNum.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	public List<InboxItemDto> onestopInbox(List<String> regions, FeedCursor cursor, int limit) throws Exception {
+		QOnestop onestop = QOnestop.onestop;
+
+		return jpaQueryFactory
+				.select(Projections.fields(InboxItemDto.class, onestop.onestopNum.as("num"), onestop.title,
+						onestop.type, onestop.address1, onestop.address2, onestop.answerCount, onestop.createdAt))
+				.from(onestop)
+				.where(regionFilter(onestop.address1, regions),
+						seek(onestop.createdAt, onestop.onestopNum, ONESTOP, cursor))
+				.orderBy(onestop.createdAt.desc(), onestop.onestopNum.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	public List<InboxItemDto> interiorAllInbox(List<String> regions, FeedCursor cursor, int limit) throws Exception {
+		QInteriorAllRequest interiorAll = QInteriorAllRequest.interiorAllRequest;
+
+		return jpaQueryFactory
+				.select(Projections.fields(InboxItemDto.class, interiorAll.requestAllNum.as("num"), interiorAll.title,
+						interiorAll.interiorType.as("type"), interiorAll.address1, interiorAll.address2,
+						interiorAll.answerCount, interiorAll.createAt.as("createdAt")))
+				.from(interiorAll)
+				.where(regionFilter(interiorAll.address1, regions),
+						seek(interiorAll.createAt, interiorAll.requestAllNum, INTERIOR_ALL, cursor))
+				.orderBy(interiorAll.createAt.desc(), interiorAll.requestAllNum.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	// 지역 앞부분 일치, 정식 이름/줄임말 모두 (지역 정보가 없으면 전체)
+	private BooleanBuilder regionFilter(StringPath address, List<String> regions) {
+		BooleanBuilder filter = new BooleanBuilder();
+		if (regions == null) return filter;
+		for (String region : regions) {
+			for (String name : RegionUtil.namesOf(region)) {
+				filter.or(address.startsWith(name));
+			}
+		}
+		return filter;
+	}
+
+	// 정렬 (작성시간 desc, 출처 desc, 글번호 desc) 기준으로 커서 다음 글만 (답변 피드도 같이 사용)
+	static BooleanBuilder seek(DateTimePath<Timestamp> createdAt, NumberPath<Integer> num, int source,
+			FeedCursor cursor) {
+		BooleanBuilder seek = new BooleanBuilder();
+		if (cursor == null) return seek;
+		Timestamp ts = cursor.getTimestamp();
+		if (source < cursor.getSource()) {
+			seek.and(createdAt.loe(ts));
+		} else if (source == cursor.getSource()) {
+			seek.and(createdAt.lt(ts).or(createdAt.eq(ts).and(num.lt(cursor.getNum()))));
+		} else {
+			seek.and(createdAt.lt(ts));
+		}
+		return seek;
+	}
+}
@@ -3,6 +3,7 @@ package com.kosta.geekku.repository;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
@@ -17,68 +18,40 @@ public class InteriorAllRequestDslRepository {
 	@Autowired
 	private JPAQueryFactory jpaQueryFactory;
 
-	// 조회수
-	public Long findInteriorAllCount() throws Exception {
-		QInteriorAllRequest interiorAll = QInteriorAllRequest.interiorAllRequest;
-		return jpaQueryFactory.select(interiorAll.count()).from(interiorAll).fetchOne();
-	}
-
-	// 리스트 페이징처리
-	public List<InteriorAllRequest> findInteriorAllListByPaging(PageRequest pageRequest) throws Exception {
-		QInteriorAllRequest interiorAll = QInteriorAllRequest.interiorAllRequest;
-		return jpaQueryFactory.selectFrom(interiorAll).orderBy(interiorAll.requestAllNum.desc())
-				.offset(pageRequest.getOffset()).limit(pageRequest.getPageSize()).fetch();
-
-	}
-
-	public Long searchInteriorAllCount(String type, String word) throws Exception {
-		QInteriorAllRequest interiorAll = QInteriorAllRequest.interiorAllRequest;
-		Long cnt = 0L;
-		if (type.equals("title")) {
-			cnt = jpaQueryFactory.select(interiorAll.count()).from(interiorAll).where(interiorAll.title.contains(word))
-					.fetchOne();
-		} else if (type.equals("address1")) {
-			cnt = jpaQueryFactory.select(interiorAll.count()).from(interiorAll)
-					.where(interiorAll.address1.contains(word)).fetchOne();
-		} else if (type.equals("interiorType")) {
-			cnt = jpaQueryFactory.select(interiorAll.count()).from(interiorAll)
-					.where(interiorAll.interiorType.contains(word)).fetchOne();
-		}
-		return cnt;
-	}
-
-	// 제목, 지역, 시공타입
-	public List<InteriorAllRequest> searchInteriorAllListByPaging(PageRequest pageRequest, String type, String word)
+	@Autowired
+	private BoardQueryEngine boardQueryEngine;
+
+	// 검색 가능한 컬럼 (type -> 조건) 제목, 내용, 지역, 시공타입 - 제목/내용/지역은 역색인 사용
+	public static final BoardSpec<InteriorAllRequest> INTERIOR_ALL_BOARD = new BoardSpec<>(
+			TextSearchIndex.INTERIOR_ALL, QInteriorAllRequest.interiorAllRequest,
+			QInteriorAllRequest.interiorAllRequest.requestAllNum.desc())
+			.textIndexed(QInteriorAllRequest.interiorAllRequest.requestAllNum)
+			.textColumn("title", "title", QInteriorAllRequest.interiorAllRequest.title)
+			.textColumn("content", "content", QInteriorAllRequest.interiorAllRequest.addContent)
+			.textColumn("address1", "address1", QInteriorAllRequest.interiorAllRequest.address1)
+			.indexedColumn("interiorType", QInteriorAllRequest.interiorAllRequest.interiorType);
+
+	// 목록 + 검색 (검색어 없으면 전체)
+	public Page<InteriorAllRequest> searchInteriorAllList(PageRequest pageRequest, String type, String word)
 			throws Exception {
-		QInteriorAllRequest interiorAll = QInteriorAllRequest.interiorAllRequest;
-		List<InteriorAllRequest> interiorAllList = null;
-		if (type.equals("title")) {
-			interiorAllList = jpaQueryFactory.selectFrom(interiorAll).where(interiorAll.title.contains(word))
-					.orderBy(interiorAll.requestAllNum.desc()).offset(pageRequest.getOffset())
-					.limit(pageRequest.getPageSize()).fetch();
-		} else if (type.equals("address1")) {
-			interiorAllList = jpaQueryFactory.selectFrom(interiorAll).where(interiorAll.address1.contains(word))
-					.orderBy(interiorAll.requestAllNum.desc()).offset(pageRequest.getOffset())
-					.limit(pageRequest.getPageSize()).fetch();
-		} else if (type.equals("interiorType")) {
-			interiorAllList = jpaQueryFactory.selectFrom(interiorAll).where(interiorAll.interiorType.contains(word))
-					.orderBy(interiorAll.requestAllNum.desc()).offset(pageRequest.getOffset())
-					.limit(pageRequest.getPageSize()).fetch();
-		}
-		return interiorAllList;
+		return boardQueryEngine.search(INTERIOR_ALL_BOARD, type, word, pageRequest);
 	}
 
 	// 방꾸 답변
-	public Long interiorAllAnswerCount() throws Exception {
-		QInteriorAllAnswer interiorAllAnswer = QInteriorAllAnswer.interiorAllAnswer;
-
-		return jpaQueryFactory.select(interiorAllAnswer.count()).from(interiorAllAnswer).fetchOne();
+	public void updateInteriorAllAnswerCount(Integer requestAllNum, Integer delta) throws Exception {
+		QInteriorAllRequest interiorAll = QInteriorAllRequest.interiorAllRequest;
+		jpaQueryFactory.update(interiorAll).set(interiorAll.answerCount, interiorAll.answerCount.add(delta))
+				.where(interiorAll.requestAllNum.eq(requestAllNum)).execute();
 	}
 
-	public List<InteriorAllAnswer> interiorAllAnswerListByPaging(PageRequest pageRequest) throws Exception {
+	// 해당 글의 답변만 (requestAllNum, createdAt) 인덱스 범위로 조회
+	public List<InteriorAllAnswer> interiorAllAnswerListByPaging(Integer requestAllNum, PageRequest pageRequest)
+			throws Exception {
 		QInteriorAllAnswer interiorAllAnswer = QInteriorAllAnswer.interiorAllAnswer;
 
 		List<InteriorAllAnswer> interiorAllAnswerList = jpaQueryFactory.selectFrom(interiorAllAnswer)
+				.join(interiorAllAnswer.company).fetchJoin()
+				.where(interiorAllAnswer.interiorAllRequest.requestAllNum.eq(requestAllNum))
 				.orderBy(interiorAllAnswer.createdAt.asc()).offset(pageRequest.getOffset())
 				.limit(pageRequest.getPageSize()).fetch();
 
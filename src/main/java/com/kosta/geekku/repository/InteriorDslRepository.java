@@ -1,22 +1,37 @@
 package com.kosta.geekku.repository;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import com.kosta.geekku.dto.InteriorDto;
+import com.kosta.geekku.dto.SampleCardDto;
 import com.kosta.geekku.dto.SampleDto;
 import com.kosta.geekku.entity.Interior;
 import com.kosta.geekku.entity.InteriorRequest;
+import com.kosta.geekku.entity.InteriorReview;
 import com.kosta.geekku.entity.InteriorSample;
+import com.kosta.geekku.entity.QCompany;
 import com.kosta.geekku.entity.QInterior;
 import com.kosta.geekku.entity.QInteriorBookmark;
 import com.kosta.geekku.entity.QInteriorRequest;
+import com.kosta.geekku.entity.QInteriorReview;
 import com.kosta.geekku.entity.QInteriorSample;
+import com.kosta.geekku.entity.QInteriorServiceArea;
+import com.kosta.geekku.entity.QInteriorStats;
+import com.kosta.geekku.util.KeysetCursor;
+import com.kosta.geekku.util.RegionUtil;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 @Repository
@@ -35,71 +50,136 @@ public class InteriorDslRepository {
 		return jpaQueryFactory.selectFrom(sample).orderBy(sample.createdAt.desc()).limit(9).fetch();
 	}
 
-	public Long interiorCountAll() throws Exception {
+	// 인테리어 업체 목록 (최신 등록순, 커서 이후 limit개) - 업체명/ID만 조인해서 가져온다 (이미지 BLOB 제외)
+	// interiorNums: 지역 색인에서 구한 후보 업체 (null이면 possibleLocation으로 시공 지역 테이블 조회)
+	public List<InteriorDto> interiorDirectory(String possibleLocation, List<Integer> interiorNums, Integer cursor,
+			int limit) throws Exception {
 		QInterior interior = QInterior.interior;
-		return jpaQueryFactory.select(interior.count()).from(interior).fetchOne();
+		QCompany company = QCompany.company;
+		QInteriorStats stats = QInteriorStats.interiorStats;
+
+		List<InteriorDto> interiorList = jpaQueryFactory
+				.select(interiorDtoProjection())
+				.from(interior)
+				.join(interior.company, company)
+				.leftJoin(stats).on(stats.interiorNum.eq(interior.interiorNum))
+				.where(company.status.isFalse(), locationFilter(possibleLocation, interiorNums),
+						cursor != null ? interior.interiorNum.lt(cursor) : null)
+				.orderBy(interior.interiorNum.desc())
+				.limit(limit)
+				.fetch();
+		interiorList.forEach(i -> i.setCursor(String.valueOf(i.getInteriorNum())));
+		return interiorList;
 	}
 
-	public Long interiorCountByLoc(String possibleLocation) throws Exception {
+	// 평점순 목록 - 통계 테이블 (avgScore, interiorNum) 인덱스 순서로 읽는다, 커서: "평점_업체번호"
+	public List<InteriorDto> interiorDirectoryByRating(String possibleLocation, List<Integer> interiorNums,
+			String cursor, int limit) throws Exception {
 		QInterior interior = QInterior.interior;
-		return jpaQueryFactory.select(interior.count()).from(interior)
-				.where(interior.possibleLocation.eq(possibleLocation)).fetchOne();
+		QCompany company = QCompany.company;
+		QInteriorStats stats = QInteriorStats.interiorStats;
+
+		BooleanBuilder seek = new BooleanBuilder();
+		if (cursor != null && !cursor.trim().equals("")) {
+			String[] parts = cursor.split("_");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("커서 형식 오류: " + cursor);
+			}
+			Double avgScore = Double.valueOf(parts[0]);
+			Integer interiorNum = Integer.valueOf(parts[1]);
+			seek.and(stats.avgScore.lt(avgScore)
+					.or(stats.avgScore.eq(avgScore).and(stats.interiorNum.lt(interiorNum))));
+		}
+
+		List<InteriorDto> interiorList = jpaQueryFactory
+				.select(interiorDtoProjection())
+				.from(stats)
+				.join(interior).on(interior.interiorNum.eq(stats.interiorNum))
+				.join(interior.company, company)
+				.where(company.status.isFalse(), locationFilter(possibleLocation, interiorNums), seek)
+				.orderBy(stats.avgScore.desc(), stats.interiorNum.desc())
+				.limit(limit)
+				.fetch();
+		interiorList.forEach(i -> i.setCursor(i.getAvgScore() + "_" + i.getInteriorNum()));
+		return interiorList;
+	}
+
+	// 시/도면 그 안의 모든 시/군/구, 시/군/구면 해당 구 + 시/도 전체 + 지역 정보가 없는 (전국) 업체
+	// 업체 목록은 탈퇴하지 않은 기업만 보여준다 (InteriorRegionIndex와 같은 기준)
+	private BooleanExpression locationFilter(String possibleLocation, List<Integer> interiorNums) {
+		QInterior interior = QInterior.interior;
+		if (interiorNums != null) return interior.interiorNum.in(interiorNums);
+		String code = RegionUtil.areaCodeOf(possibleLocation);
+		if (code == null) return null;
+
+		QInteriorServiceArea area = QInteriorServiceArea.interiorServiceArea;
+		String sido = RegionUtil.sidoOf(code);
+		BooleanExpression regionCondition = code.equals(sido)
+				? area.regionCode.eq(sido).or(area.regionCode.startsWith(sido + " "))
+				: area.regionCode.in(code, sido);
+		return interior.interiorNum.in(JPAExpressions.select(area.interiorNum).from(area).where(regionCondition))
+				.or(JPAExpressions.selectOne().from(area).where(area.interiorNum.eq(interior.interiorNum)).notExists());
 	}
 
-	public List<Interior> interiorListAll() throws Exception {
+	// 인테리어 상세 (업체명/ID만 조인)
+	public InteriorDto findInteriorDto(Integer interiorNum) throws Exception {
 		QInterior interior = QInterior.interior;
-		return jpaQueryFactory.selectFrom(interior).orderBy(interior.createdAt.desc()).fetch();
+		QCompany company = QCompany.company;
+
+		return jpaQueryFactory
+				.select(interiorDtoProjection())
+				.from(interior)
+				.join(interior.company, company)
+				.leftJoin(QInteriorStats.interiorStats).on(QInteriorStats.interiorStats.interiorNum.eq(interiorNum))
+				.where(interior.interiorNum.eq(interiorNum))
+				.fetchOne();
 	}
 
-	public List<Interior> interiorListByLoc(String possibleLocation) throws Exception {
+	// 통계(InteriorStats)는 조인해서 같이 가져온다
+	private QBean<InteriorDto> interiorDtoProjection() {
 		QInterior interior = QInterior.interior;
-		return jpaQueryFactory.selectFrom(interior).where(interior.possibleLocation.eq(possibleLocation))
-				.orderBy(interior.createdAt.desc()).fetch();
+		QCompany company = QCompany.company;
+		QInteriorStats stats = QInteriorStats.interiorStats;
+		return Projections.fields(InteriorDto.class, interior.interiorNum, company.companyName, company.companyId,
+				interior.possiblePart, interior.period, interior.recentCount, interior.repairDate,
+				interior.possibleLocation, interior.coverImage, interior.intro, interior.content, interior.createdAt,
+				interior.bookmarkCount, stats.reviewCount, stats.avgScore, stats.sampleCount);
 	}
 
 	public Integer findInteriorBookmark(UUID userId, Integer interiorNum) throws Exception {
 		QInteriorBookmark interiorBookmark = QInteriorBookmark.interiorBookmark;
 
 		return jpaQueryFactory.select(interiorBookmark.bookmarkInteriorNum).from(interiorBookmark)
-				.where(interiorBookmark.userId.eq(userId).and(interiorBookmark.bookmarkInteriorNum.eq(interiorNum)))
+				.where(interiorBookmark.userId.eq(userId).and(interiorBookmark.interiorNum.eq(interiorNum)))
 				.fetchOne();
 	}
 
-	public List<InteriorSample> sampleListByFilter(String date, String type, String style, Integer size,
-			String location) {
+	// 시공사례 카드 (번호 목록 순서 유지) - 본문(LONGTEXT)은 읽지 않는다
+	public List<SampleCardDto> sampleCards(List<Integer> sampleNums) throws Exception {
+		if (sampleNums.isEmpty()) return new ArrayList<>();
 		QInteriorSample sample = QInteriorSample.interiorSample;
-		BooleanBuilder filter = new BooleanBuilder();
-//		if (date != null) {
-//			filter.and(sample.createdAt.eq(date));
-//		}
-		if (type != null) {
-			filter.and(sample.type.eq(type));
+		List<SampleCardDto> cards = jpaQueryFactory
+				.select(sampleCardProjection())
+				.from(sample)
+				.join(sample.interior, QInterior.interior)
+				.join(QInterior.interior.company, QCompany.company)
+				.where(sample.sampleNum.in(sampleNums))
+				.fetch();
+		Map<Integer, SampleCardDto> byNum = new HashMap<>();
+		cards.forEach(card -> byNum.put(card.getSampleNum(), card));
+		List<SampleCardDto> ordered = new ArrayList<>();
+		for (Integer num : sampleNums) {
+			SampleCardDto card = byNum.get(num);
+			if (card != null) ordered.add(card);
 		}
-		if (style != null) {
-			filter.and(sample.style.eq(style));
-		}
-		if (size != null) {
-			filter.and(sample.size.eq(size));
-		}
-		if (location != null) {
-			filter.and(sample.location.eq(location));
-		}
-		
-		JPAQuery<InteriorSample> query = jpaQueryFactory.selectFrom(sample).where(filter);
-		if (date != null) {
-			if ("latest".equalsIgnoreCase(date)) {
-				query.orderBy(sample.createdAt.desc());
-			} else if ("oldest".equalsIgnoreCase(date)) {
-				query.orderBy(sample.createdAt.asc());
-			}
-		}
-		return query.fetch();
+		return ordered;
 	}
-	public Long sampleCountByFilter(String date, String type, String style, Integer size,
-			String location) throws Exception {
+
+	// 색인 준비 전 DB 조회 - (createdAt, sampleNum) 순서, 커서 이후 limit개
+	public List<SampleCardDto> sampleGallery(String type, String style, Integer size, String location,
+			Timestamp cursorCreatedAt, Integer cursorNum, boolean oldest, int limit) throws Exception {
 		QInteriorSample sample = QInteriorSample.interiorSample;
 		BooleanBuilder filter = new BooleanBuilder();
-		
 		if (type != null) {
 			filter.and(sample.type.eq(type));
 		}
@@ -112,40 +192,81 @@ public class InteriorDslRepository {
 		if (location != null) {
 			filter.and(sample.location.eq(location));
 		}
-		
-		return jpaQueryFactory.select(sample.count()).from(sample)
+		if (cursorCreatedAt != null) {
+			filter.and(oldest
+					? sample.createdAt.gt(cursorCreatedAt)
+							.or(sample.createdAt.eq(cursorCreatedAt).and(sample.sampleNum.gt(cursorNum)))
+					: sample.createdAt.lt(cursorCreatedAt)
+							.or(sample.createdAt.eq(cursorCreatedAt).and(sample.sampleNum.lt(cursorNum))));
+		}
+
+		return jpaQueryFactory
+				.select(sampleCardProjection())
+				.from(sample)
+				.join(sample.interior, QInterior.interior)
+				.join(QInterior.interior.company, QCompany.company)
 				.where(filter)
-				.fetchOne();				
+				.orderBy(oldest ? sample.createdAt.asc() : sample.createdAt.desc(),
+						oldest ? sample.sampleNum.asc() : sample.sampleNum.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	private QBean<SampleCardDto> sampleCardProjection() {
+		QInteriorSample sample = QInteriorSample.interiorSample;
+		return Projections.fields(SampleCardDto.class, sample.sampleNum, QInterior.interior.interiorNum,
+				QCompany.company.companyName, sample.type, sample.style, sample.size, sample.location,
+				sample.coverImage, sample.createdAt);
 	}
-	
-	public List<InteriorSample> interiorSampleListmypage(PageRequest pageRequest, UUID companyId) throws Exception {
+
+	// 기업 마이페이지 시공사례 (작성시간, 글번호 역순 / 커서 이후 limit개)
+	public List<InteriorSample> interiorSampleListmypage(UUID companyId, KeysetCursor cursor, int limit)
+			throws Exception {
 		QInteriorSample interiorSample = QInteriorSample.interiorSample;
-		return jpaQueryFactory.selectFrom(interiorSample).where(interiorSample.company.companyId.eq(companyId))
-				.orderBy(interiorSample.createdAt.desc()).fetch();
+		QInterior interior = QInterior.interior;
+		return jpaQueryFactory.selectFrom(interiorSample)
+				.join(interiorSample.interior, interior).fetchJoin()
+				.join(interior.company, QCompany.company).fetchJoin()
+				.where(interiorSample.company.companyId.eq(companyId),
+						cursor != null ? interiorSample.createdAt.lt(cursor.getTimestamp())
+								.or(interiorSample.createdAt.eq(cursor.getTimestamp())
+										.and(interiorSample.sampleNum.lt(cursor.getNum())))
+								: null)
+				.orderBy(interiorSample.createdAt.desc(), interiorSample.sampleNum.desc())
+				.limit(limit)
+				.fetch();
 	}
 
-	/*
-	 * public List<InteriorSample> interiorReviewListmypage(PageRequest pageRequest,
-	 * UUID companyId) throws Exception { QInteriorRequest interiorRequest =
-	 * QInteriorSample.interiorSample; return
-	 * jpaQueryFactory.selectFrom(interiorSample).where(interiorSample.company.
-	 * companyId.eq(companyId)) .orderBy(interiorSample.createdAt.desc()).fetch(); }
-	 */
-
-	/*
-	 * public List<InteriorRequest> interiorRequestList(PageRequest pageRequest,
-	 * UUID companyId) throws Exception { QInteriorRequest interiorRequest =
-	 * QInteriorRequest.interiorRequest; return
-	 * jpaQueryFactory.selectFrom(interiorRequest).where(interiorRequest.company.
-	 * companyId.eq(companyId)) .orderBy(interiorRequest.createdAt.desc()).fetch();
-	 * }
-	 */
-
-	public Long findMypageEstateCount(UUID companyId) throws Exception {
-		QInteriorSample interiorsample = QInteriorSample.interiorSample;
-
-		return jpaQueryFactory.select(interiorsample.count()).from(interiorsample)
-				.where(interiorsample.company.companyId.eq(companyId)).fetchOne();
+	// 기업 마이페이지 받은 리뷰 (리뷰는 업체번호로 연결)
+	public List<InteriorReview> interiorReviewListmypage(Integer interiorNum, KeysetCursor cursor, int limit)
+			throws Exception {
+		QInteriorReview interiorReview = QInteriorReview.interiorReview;
+		QInterior interior = QInterior.interior;
+		return jpaQueryFactory.selectFrom(interiorReview)
+				.join(interiorReview.interior, interior).fetchJoin()
+				.join(interior.company, QCompany.company).fetchJoin()
+				.where(interior.interiorNum.eq(interiorNum),
+						cursor != null ? interiorReview.createdAt.lt(cursor.getTimestamp())
+								.or(interiorReview.createdAt.eq(cursor.getTimestamp())
+										.and(interiorReview.reviewNum.lt(cursor.getNum())))
+								: null)
+				.orderBy(interiorReview.createdAt.desc(), interiorReview.reviewNum.desc())
+				.limit(limit)
+				.fetch();
 	}
 
+	// 기업 마이페이지 받은 인테리어 신청
+	public List<InteriorRequest> interiorRequestListmypage(Integer interiorNum, KeysetCursor cursor, int limit)
+			throws Exception {
+		QInteriorRequest interiorRequest = QInteriorRequest.interiorRequest;
+		return jpaQueryFactory.selectFrom(interiorRequest)
+				.where(interiorRequest.interior.interiorNum.eq(interiorNum),
+						cursor != null ? interiorRequest.createdAt.lt(cursor.getTimestamp())
+								.or(interiorRequest.createdAt.eq(cursor.getTimestamp())
+										.and(interiorRequest.requestNum.lt(cursor.getNum())))
+								: null)
+				.orderBy(interiorRequest.createdAt.desc(), interiorRequest.requestNum.desc())
+				.limit(limit)
+				.fetch();
+	}
 }
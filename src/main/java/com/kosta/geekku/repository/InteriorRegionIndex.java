@@ -0,0 +1,360 @@
+package com.kosta.geekku.repository;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kosta.geekku.entity.QCompany;
+import com.kosta.geekku.entity.QInterior;
+import com.kosta.geekku.entity.QInteriorServiceArea;
+import com.kosta.geekku.util.RegionUtil;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * 인테리어 업체 시공 가능 지역 메모리 색인.
+ * 지역 코드("서울", "서울 강남구")와 시/도마다 업체 번호(interiorNum) BitSet을 들고 있어서
+ * 업체 목록 지역 필터와 요청글 매칭이 interior 테이블을 읽지 않고 후보 업체를 바로 구한다.
+ * 시/도로 찾으면 그 안의 모든 시/군/구 업체가, 시/군/구로 찾으면 해당 구 업체와 시/도 전체 업체가 나온다.
+ * 업체 목록(InteriorDslRepository)과 같은 기준을 쓴다:
+ * - 탈퇴한 기업의 업체는 색인/목록 모두에서 뺀다.
+ * - 시공 가능 지역을 알 수 없는 업체(지역 행 없음)는 전국 업체로 보고 모든 지역 검색/요청글 매칭에 포함한다.
+ * 시작시 한 번 전체를 읽고(읽기만 함, 기존 업체 지역 행은 DataBackfillRunner가 채움), 이후 업체 등록 때마다 해당 업체만 갱신한다 (트랜잭션 안이면 커밋 후).
+ * 다른 서버에서 등록된 업체는 요청글 매칭 갱신 주기마다 마지막으로 읽은 업체/지역 행 번호(watermark) 이후만 읽어 보충하고,
+ * 탈퇴한 기업의 업체도 그때 뺀다.
+ */
+@Repository
+public class InteriorRegionIndex {
+
+	private static final int LOAD_CHUNK = 1000;
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	private volatile RegionIndex current;
+	private volatile RegionIndex loading;
+	// 마지막으로 읽은 업체 번호 / 지역 행 번호 (이후 행은 다른 서버에서 등록됐을 수 있다)
+	private int interiorWatermark;
+	private int areaWatermark;
+
+	private static class RegionIndex {
+		final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		// 지역 코드 -> 업체 번호
+		final Map<String, BitSet> byCode = new HashMap<>();
+		// 시/도 -> 그 안의 모든 지역 코드 업체 번호
+		final Map<String, BitSet> bySido = new HashMap<>();
+		// 지역 정보가 없는 업체 (전국 - 모든 지역 검색/매칭에 포함)
+		final BitSet unrestricted = new BitSet();
+		// 업체 번호 -> 지역 코드 (수정시 기존 지역 제거용), 기업 ID
+		final Map<Integer, List<String>> codesOf = new HashMap<>();
+		final Map<Integer, UUID> companyOf = new HashMap<>();
+
+		void put(Integer interiorNum, UUID companyId, List<String> codes) {
+			lock.writeLock().lock();
+			try {
+				remove(interiorNum);
+				companyOf.put(interiorNum, companyId);
+				codesOf.put(interiorNum, codes);
+				if (codes.isEmpty()) unrestricted.set(interiorNum);
+				for (String code : codes) {
+					byCode.computeIfAbsent(code, c -> new BitSet()).set(interiorNum);
+					bySido.computeIfAbsent(RegionUtil.sidoOf(code), s -> new BitSet()).set(interiorNum);
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		void delete(Integer interiorNum) {
+			lock.writeLock().lock();
+			try {
+				remove(interiorNum);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		private void remove(Integer interiorNum) {
+			List<String> codes = codesOf.remove(interiorNum);
+			companyOf.remove(interiorNum);
+			unrestricted.clear(interiorNum);
+			if (codes == null) return;
+			for (String code : codes) {
+				BitSet bits = byCode.get(code);
+				if (bits != null) bits.clear(interiorNum);
+			}
+			// 같은 시/도의 다른 지역 코드가 남아있으면 시/도 비트는 유지
+			for (String code : codes) {
+				String sido = RegionUtil.sidoOf(code);
+				boolean stillIn = false;
+				for (Map.Entry<String, BitSet> e : byCode.entrySet()) {
+					if (RegionUtil.sidoOf(e.getKey()).equals(sido) && e.getValue().get(interiorNum)) {
+						stillIn = true;
+						break;
+					}
+				}
+				BitSet bits = bySido.get(sido);
+				if (bits != null && !stillIn) bits.clear(interiorNum);
+			}
+		}
+
+		// 지역에 해당하는 업체 번호 (복사본, 전국 업체 포함)
+		BitSet lookup(String location) {
+			BitSet result = new BitSet();
+			String code = RegionUtil.areaCodeOf(location);
+			if (code == null) return result;
+			result.or(unrestricted);
+			String sido = RegionUtil.sidoOf(code);
+			if (code.equals(sido)) {
+				BitSet bits = bySido.get(sido);
+				if (bits != null) result.or(bits);
+			} else {
+				BitSet bits = byCode.get(code);
+				if (bits != null) result.or(bits);
+				BitSet whole = byCode.get(sido);
+				if (whole != null) result.or(whole);
+			}
+			return result;
+		}
+	}
+
+	public boolean isReady() {
+		return current != null;
+	}
+
+	/**
+	 * 지역 업체 번호를 큰 번호부터 limit개 (cursor보다 작은 번호부터) - 업체 목록 최신순과 같은 순서.
+	 * 색인이 아직 준비되지 않았으면 null (DB 조회 사용).
+	 */
+	public List<Integer> page(String location, Integer cursor, int limit) {
+		RegionIndex index = current;
+		if (index == null) return null;
+		index.lock.readLock().lock();
+		try {
+			BitSet bits = index.lookup(location);
+			List<Integer> result = new ArrayList<>();
+			int from = cursor != null ? cursor - 1 : bits.length() - 1;
+			for (int i = bits.previousSetBit(from); i >= 0 && result.size() < limit; i = bits.previousSetBit(i - 1)) {
+				result.add(i);
+			}
+			return result;
+		} finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	// 지역 업체 번호 전체 (평점순 목록 후보), 색인 준비 전이면 null
+	public List<Integer> candidates(String location) {
+		RegionIndex index = current;
+		if (index == null) return null;
+		index.lock.readLock().lock();
+		try {
+			BitSet bits = index.lookup(location);
+			List<Integer> result = new ArrayList<>(bits.cardinality());
+			for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+				result.add(i);
+			}
+			return result;
+		} finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	// 요청글 주소로 알림 받을 인테리어 기업 (지역 정보가 없는 업체 포함), 색인 준비 전이면 null
+	public Set<UUID> matchCompanies(String address1) {
+		RegionIndex index = current;
+		if (index == null) return null;
+		index.lock.readLock().lock();
+		try {
+			BitSet bits = index.lookup(address1);
+			bits.or(index.unrestricted);
+			Set<UUID> companies = new HashSet<>();
+			for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+				UUID companyId = index.companyOf.get(i);
+				if (companyId != null) companies.add(companyId);
+			}
+			return companies;
+		} finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	// 업체 등록/수정 후 호출, 트랜잭션 안이면 커밋된 뒤에만 반영 (롤백된 업체가 색인에 남지 않게)
+	public void put(Integer interiorNum, UUID companyId, List<String> codes) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply(interiorNum, companyId, codes);
+				}
+			});
+		} else {
+			apply(interiorNum, companyId, codes);
+		}
+	}
+
+	private void apply(Integer interiorNum, UUID companyId, List<String> codes) {
+		RegionIndex index = current;
+		RegionIndex fresh = loading;
+		if (index != null) index.put(interiorNum, companyId, codes);
+		if (fresh != null) fresh.put(interiorNum, companyId, codes);
+	}
+
+	/**
+	 * 다른 서버에서 등록/수정된 업체 보충 (요청글 매칭 갱신 주기).
+	 * watermark 이후 업체 행과 지역 행(수정시 지역 행은 지우고 다시 넣으므로 새 번호)이 있는 업체만 다시 읽고,
+	 * 탈퇴한 기업의 업체는 색인에서 뺀다.
+	 */
+	@Scheduled(fixedDelayString = "${match.refresh-interval:600000}", initialDelayString = "${match.refresh-interval:600000}")
+	public synchronized void catchUp() {
+		RegionIndex index = current;
+		if (index == null) return;
+		try {
+			QInterior interior = QInterior.interior;
+			QCompany company = QCompany.company;
+			QInteriorServiceArea area = QInteriorServiceArea.interiorServiceArea;
+			// 조회 전에 다음 watermark를 먼저 읽는다 (조회 중 추가된 행은 다음 번에 한 번 더 읽힐 뿐 빠지지 않음)
+			int nextInterior = maxInteriorNum();
+			int nextArea = maxAreaNum();
+
+			Set<Integer> changed = new HashSet<>(jpaQueryFactory.select(interior.interiorNum)
+					.from(interior)
+					.where(interior.interiorNum.gt(interiorWatermark))
+					.fetch());
+			changed.addAll(jpaQueryFactory.select(area.interiorNum).distinct()
+					.from(area)
+					.where(area.areaNum.gt(areaWatermark))
+					.fetch());
+			List<Integer> nums = new ArrayList<>(changed);
+			for (int from = 0; from < nums.size(); from += LOAD_CHUNK) {
+				List<Integer> chunk = nums.subList(from, Math.min(from + LOAD_CHUNK, nums.size()));
+				// 다시 읽히지 않은 업체 (그 사이 탈퇴/삭제) 는 뺀다
+				Set<Integer> gone = new HashSet<>(chunk);
+				gone.removeAll(load(index, jpaQueryFactory
+						.select(interior.interiorNum, company.companyId, interior.possibleLocation)
+						.from(interior)
+						.join(interior.company, company)
+						.where(company.status.isFalse(), interior.interiorNum.in(chunk))
+						.fetch(), interior));
+				for (Integer num : gone) {
+					index.delete(num);
+				}
+			}
+
+			for (Integer num : jpaQueryFactory.select(interior.interiorNum)
+					.from(interior)
+					.join(interior.company, company)
+					.where(company.status.isTrue())
+					.fetch()) {
+				index.delete(num);
+			}
+			interiorWatermark = nextInterior;
+			areaWatermark = nextArea;
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	// 시작시 + 매일 새벽 전체 재색인 (다른 서버에서 등록된 업체 반영)
+	// 요청글 매칭 색인(RequestMatchingEngine)보다 먼저 준비되도록 시작시 가장 먼저 실행
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@Scheduled(cron = "${interior.region.rebuild-cron:0 20 5 * * *}")
+	public synchronized void rebuild() {
+		try {
+			load();
+		} catch (Exception e) {
+			e.printStackTrace();
+		} finally {
+			loading = null;
+		}
+	}
+
+	private void load() {
+		QInterior interior = QInterior.interior;
+		QCompany company = QCompany.company;
+		RegionIndex fresh = new RegionIndex();
+		loading = fresh;
+		int nextInterior = maxInteriorNum();
+		int nextArea = maxAreaNum();
+
+		Integer last = 0;
+		while (true) {
+			// 탈퇴하지 않은 기업의 업체만
+			List<Tuple> rows = jpaQueryFactory
+					.select(interior.interiorNum, company.companyId, interior.possibleLocation)
+					.from(interior)
+					.join(interior.company, company)
+					.where(company.status.isFalse(), interior.interiorNum.gt(last))
+					.orderBy(interior.interiorNum.asc())
+					.limit(LOAD_CHUNK)
+					.fetch();
+			if (rows.isEmpty()) break;
+			load(fresh, rows, interior);
+			if (rows.size() < LOAD_CHUNK) break;
+			last = rows.get(rows.size() - 1).get(interior.interiorNum);
+		}
+		interiorWatermark = nextInterior;
+		areaWatermark = nextArea;
+		current = fresh;
+	}
+
+	// 업체 행(번호, 기업 ID, possibleLocation)의 지역 행을 한 번에 읽어 색인에 넣는다, 넣은 업체 번호 반환
+	private List<Integer> load(RegionIndex index, List<Tuple> rows, QInterior interior) {
+		List<Integer> nums = new ArrayList<>();
+		if (rows.isEmpty()) return nums;
+		QCompany company = QCompany.company;
+		QInteriorServiceArea area = QInteriorServiceArea.interiorServiceArea;
+		for (Tuple row : rows) {
+			nums.add(row.get(interior.interiorNum));
+		}
+
+		Map<Integer, List<String>> codes = new HashMap<>();
+		for (Tuple areaRow : jpaQueryFactory.select(area.interiorNum, area.regionCode)
+				.from(area)
+				.where(area.interiorNum.in(nums))
+				.fetch()) {
+			codes.computeIfAbsent(areaRow.get(area.interiorNum), n -> new ArrayList<>())
+					.add(areaRow.get(area.regionCode));
+		}
+
+		for (Tuple row : rows) {
+			Integer interiorNum = row.get(interior.interiorNum);
+			List<String> interiorCodes = codes.get(interiorNum);
+			if (interiorCodes == null) {
+				// 지역 행이 아직 채워지지 않은 기존 업체는 possibleLocation으로 (색인에만 반영, 저장하지 않음)
+				interiorCodes = RegionUtil.areaCodesOf(row.get(interior.possibleLocation));
+			}
+			index.put(interiorNum, row.get(company.companyId), interiorCodes);
+		}
+		return nums;
+	}
+
+	private int maxInteriorNum() {
+		QInterior interior = QInterior.interior;
+		Integer max = jpaQueryFactory.select(interior.interiorNum.max()).from(interior).fetchOne();
+		return max == null ? 0 : max;
+	}
+
+	private int maxAreaNum() {
+		QInteriorServiceArea area = QInteriorServiceArea.interiorServiceArea;
+		Integer max = jpaQueryFactory.select(area.areaNum.max()).from(area).fetchOne();
+		return max == null ? 0 : max;
+	}
+}
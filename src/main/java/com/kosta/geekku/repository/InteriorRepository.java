@@ -1,9 +1,13 @@
 package com.kosta.geekku.repository;
 
+import java.util.Optional;
+import java.util.UUID;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.kosta.geekku.entity.Interior;
 
 public interface InteriorRepository extends JpaRepository<Interior, Integer> {
+	Optional<Interior> findByCompany_CompanyId(UUID companyId);
 
 }
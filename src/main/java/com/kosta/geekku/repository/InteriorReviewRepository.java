@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.kosta.geekku.entity.InteriorReview;
 import com.kosta.geekku.entity.User;
@@ -14,4 +15,7 @@ public interface InteriorReviewRepository extends JpaRepository<InteriorReview,
 	List<InteriorReview> findByInterior_interiorNum(Integer interiorNum);
 	Page<InteriorReview> findAllByUser(Optional<User> user, Pageable pageable);
 
+	// 다음 페이지 여부만 확인 (count 쿼리 없음)
+	Slice<InteriorReview> findSliceByInterior_interiorNum(Integer interiorNum, Pageable pageable);
+
 }
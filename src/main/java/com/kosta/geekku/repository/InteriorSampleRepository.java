@@ -2,10 +2,15 @@ package com.kosta.geekku.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.kosta.geekku.entity.InteriorSample;
 
 public interface InteriorSampleRepository extends JpaRepository<InteriorSample, Integer> {
 	List<InteriorSample> findByInterior_InteriorNum(Integer interiorNum);
+
+	// 다음 페이지 여부만 확인 (count 쿼리 없음)
+	Slice<InteriorSample> findSliceByInterior_InteriorNum(Integer interiorNum, Pageable pageable);
 }
@@ -0,0 +1,21 @@
+package com.kosta.geekku.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kosta.geekku.entity.InteriorServiceArea;
+
+public interface InteriorServiceAreaRepository extends JpaRepository<InteriorServiceArea, Integer> {
+
+	List<InteriorServiceArea> findByInteriorNum(Integer interiorNum);
+
+	@Transactional
+	@Modifying
+	@Query("delete from InteriorServiceArea a where a.interiorNum = :interiorNum")
+	int deleteByInteriorNum(@Param("interiorNum") Integer interiorNum);
+}
@@ -0,0 +1,77 @@
+package com.kosta.geekku.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kosta.geekku.entity.InteriorStats;
+
+/**
+ * 통계는 행 하나를 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 증감한다 (읽고 쓰지 않으므로 동시 요청에도 안전).
+ * ON DUPLICATE KEY UPDATE는 앞에서 바꾼 값을 뒤 식에서 사용하므로 avg_score는 갱신된 합계/개수로 계산된다.
+ */
+public interface InteriorStatsRepository extends JpaRepository<InteriorStats, Integer> {
+
+	// 리뷰 증감 (delta: +1 등록, -1 삭제 / score: 평점 없으면 null)
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO interior_stats (interior_num, review_count, rating_count, score_sum, avg_score, "
+			+ "score1, score2, score3, score4, score5, sample_count, last_activity_at) "
+			+ "VALUES (:interiorNum, GREATEST(:delta, 0), IF(:score IS NULL, 0, GREATEST(:delta, 0)), "
+			+ "IF(:score IS NULL OR :delta < 0, 0, :score), IF(:score IS NULL OR :delta < 0, 0, :score), "
+			+ "IF(:score = 1 AND :delta > 0, 1, 0), IF(:score = 2 AND :delta > 0, 1, 0), "
+			+ "IF(:score = 3 AND :delta > 0, 1, 0), IF(:score = 4 AND :delta > 0, 1, 0), "
+			+ "IF(:score = 5 AND :delta > 0, 1, 0), 0, NOW()) "
+			+ "ON DUPLICATE KEY UPDATE review_count = review_count + :delta, "
+			+ "rating_count = rating_count + IF(:score IS NULL, 0, :delta), "
+			+ "score_sum = score_sum + IF(:score IS NULL, 0, :score * :delta), "
+			+ "avg_score = IF(rating_count > 0, score_sum / rating_count, 0), "
+			+ "score1 = score1 + IF(:score = 1, :delta, 0), score2 = score2 + IF(:score = 2, :delta, 0), "
+			+ "score3 = score3 + IF(:score = 3, :delta, 0), score4 = score4 + IF(:score = 4, :delta, 0), "
+			+ "score5 = score5 + IF(:score = 5, :delta, 0), "
+			+ "last_activity_at = IF(:delta > 0, NOW(), last_activity_at)", nativeQuery = true)
+	int applyReview(@Param("interiorNum") Integer interiorNum, @Param("score") Integer score,
+			@Param("delta") int delta);
+
+	// 시공사례 증감
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO interior_stats (interior_num, review_count, rating_count, score_sum, avg_score, "
+			+ "score1, score2, score3, score4, score5, sample_count, last_activity_at) "
+			+ "VALUES (:interiorNum, 0, 0, 0, 0, 0, 0, 0, 0, 0, GREATEST(:delta, 0), NOW()) "
+			+ "ON DUPLICATE KEY UPDATE sample_count = sample_count + :delta, "
+			+ "last_activity_at = IF(:delta > 0, NOW(), last_activity_at)", nativeQuery = true)
+	int applySample(@Param("interiorNum") Integer interiorNum, @Param("delta") int delta);
+
+	// 업체 등록시 빈 통계 행 (평점순 목록은 통계 테이블과 조인)
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO interior_stats (interior_num, review_count, rating_count, score_sum, avg_score, "
+			+ "score1, score2, score3, score4, score5, sample_count) VALUES (:interiorNum, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)",
+			nativeQuery = true)
+	int createEmpty(@Param("interiorNum") Integer interiorNum);
+
+	// 전체 재계산 (증감 누락 보정, 기존 데이터 초기 적재)
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO interior_stats (interior_num, review_count, rating_count, score_sum, avg_score, "
+			+ "score1, score2, score3, score4, score5, sample_count, last_activity_at) "
+			+ "SELECT i.interior_num, COALESCE(r.cnt, 0), COALESCE(r.rated, 0), COALESCE(r.total, 0), "
+			+ "IF(COALESCE(r.rated, 0) > 0, r.total / r.rated, 0), COALESCE(r.s1, 0), COALESCE(r.s2, 0), "
+			+ "COALESCE(r.s3, 0), COALESCE(r.s4, 0), COALESCE(r.s5, 0), COALESCE(s.cnt, 0), "
+			+ "CASE WHEN r.last_at IS NULL THEN s.last_at WHEN s.last_at IS NULL THEN r.last_at "
+			+ "ELSE GREATEST(r.last_at, s.last_at) END "
+			+ "FROM interior i "
+			+ "LEFT JOIN (SELECT interior_num, COUNT(*) cnt, COUNT(score) rated, SUM(COALESCE(score, 0)) total, "
+			+ "SUM(score = 1) s1, SUM(score = 2) s2, SUM(score = 3) s3, SUM(score = 4) s4, SUM(score = 5) s5, "
+			+ "MAX(created_at) last_at FROM interior_review GROUP BY interior_num) r ON r.interior_num = i.interior_num "
+			+ "LEFT JOIN (SELECT interior_num, COUNT(*) cnt, MAX(created_at) last_at FROM interior_sample "
+			+ "GROUP BY interior_num) s ON s.interior_num = i.interior_num "
+			+ "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), rating_count = VALUES(rating_count), "
+			+ "score_sum = VALUES(score_sum), avg_score = VALUES(avg_score), score1 = VALUES(score1), "
+			+ "score2 = VALUES(score2), score3 = VALUES(score3), score4 = VALUES(score4), score5 = VALUES(score5), "
+			+ "sample_count = VALUES(sample_count), last_activity_at = VALUES(last_activity_at)", nativeQuery = true)
+	int rebuildAll();
+}
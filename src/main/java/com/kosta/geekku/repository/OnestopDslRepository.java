@@ -3,6 +3,7 @@ package com.kosta.geekku.repository;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
@@ -20,52 +21,21 @@ public class OnestopDslRepository {
 	@Autowired
 	private JPAQueryFactory jpaQueryFactory;
 
-	// 조회수
-	public Long findOnestopCount() throws Exception {
-		QOnestop onestop = QOnestop.onestop;
-		return jpaQueryFactory.select(onestop.count()).from(onestop).fetchOne();
-	}
-
-	// 리스트 페이징처리
-	public List<Onestop> findOnestopListByPaging(PageRequest pageRequest) throws Exception {
-		QOnestop onestop = QOnestop.onestop;
-		return jpaQueryFactory.selectFrom(onestop).orderBy(onestop.onestopNum.desc()).offset(pageRequest.getOffset())
-				.limit(pageRequest.getPageSize()).fetch();
-	}
+	@Autowired
+	private BoardQueryEngine boardQueryEngine;
 
-	public Long searchOnestopCount(String type, String word) throws Exception {
-		QOnestop onestop = QOnestop.onestop;
-		Long cnt = 0L;
-		if (type.equals("title")) {
-			cnt = jpaQueryFactory.select(onestop.count()).from(onestop).where(onestop.title.contains(word)).fetchOne();
-		} else if (type.equals("rentType")) {
-			cnt = jpaQueryFactory.select(onestop.count()).from(onestop).where(onestop.rentType.contains(word))
-					.fetchOne();
-		} else if (type.equals("address1")) {
-			cnt = jpaQueryFactory.select(onestop.count()).from(onestop).where(onestop.address1.contains(word))
-					.fetchOne();
-		}
-		return cnt;
-	}
+	// 검색 가능한 컬럼 (type -> 조건) 제목, 내용, 지역, 거래타입 - 제목/내용/지역은 역색인 사용
+	public static final BoardSpec<Onestop> ONESTOP_BOARD = new BoardSpec<>(TextSearchIndex.ONESTOP,
+			QOnestop.onestop, QOnestop.onestop.onestopNum.desc())
+			.textIndexed(QOnestop.onestop.onestopNum)
+			.textColumn("title", "title", QOnestop.onestop.title)
+			.textColumn("", "content", QOnestop.onestop.content)
+			.indexedColumn("rentType", QOnestop.onestop.rentType)
+			.textColumn("address1", "address1", QOnestop.onestop.address1);
 
-	// 제목, 지역, 거래타입
-	public List<Onestop> searchOnestopListByPaging(PageRequest pageRequest, String type, String word) throws Exception {
-		QOnestop onestop = QOnestop.onestop;
-		List<Onestop> onestopList = null;
-		if (type.equals("title")) {
-			onestopList = jpaQueryFactory.selectFrom(onestop).where(onestop.title.contains(word))
-					.orderBy(onestop.onestopNum.desc()).offset(pageRequest.getOffset()).limit(pageRequest.getPageSize())
-					.fetch();
-		} else if (type.equals("")) {
-			onestopList = jpaQueryFactory.selectFrom(onestop).where(onestop.content.contains(word))
-					.orderBy(onestop.onestopNum.desc()).offset(pageRequest.getOffset()).limit(pageRequest.getPageSize())
-					.fetch();
-		} else if (type.equals("address1")) {
-			onestopList = jpaQueryFactory.selectFrom(onestop).where(onestop.address1.contains(word))
-					.orderBy(onestop.onestopNum.desc()).offset(pageRequest.getOffset()).limit(pageRequest.getPageSize())
-					.fetch();
-		}
-		return onestopList;
+	// 목록 + 검색 (검색어 없으면 전체)
+	public Page<Onestop> searchOnestopList(PageRequest pageRequest, String type, String word) throws Exception {
+		return boardQueryEngine.search(ONESTOP_BOARD, type, word, pageRequest);
 	}
 
 	/*
@@ -76,16 +46,19 @@ public class OnestopDslRepository {
 	 */
 
 	// 방꾸 답변
-	public Long onestopAnswerCount() throws Exception {
-		QOnestopAnswer onestopAnswer = QOnestopAnswer.onestopAnswer;
-
-		return jpaQueryFactory.select(onestopAnswer.count()).from(onestopAnswer).fetchOne();
+	public void updateOnestopAnswerCount(Integer onestopNum, Integer delta) throws Exception {
+		QOnestop onestop = QOnestop.onestop;
+		jpaQueryFactory.update(onestop).set(onestop.answerCount, onestop.answerCount.add(delta))
+				.where(onestop.onestopNum.eq(onestopNum)).execute();
 	}
 
-	public List<OnestopAnswer> onestopAnswerListByPaging(PageRequest pageRequest) throws Exception {
+	// 해당 글의 답변만 (oneStopNum, createdAt) 인덱스 범위로 조회
+	public List<OnestopAnswer> onestopAnswerListByPaging(Integer onestopNum, PageRequest pageRequest)
+			throws Exception {
 		QOnestopAnswer onestopAnswer = QOnestopAnswer.onestopAnswer;
 
 		List<OnestopAnswer> onestopAnswerList = jpaQueryFactory.selectFrom(onestopAnswer)
+				.join(onestopAnswer.company).fetchJoin().where(onestopAnswer.onestop.onestopNum.eq(onestopNum))
 				.orderBy(onestopAnswer.createdAt.asc()).offset(pageRequest.getOffset()).limit(pageRequest.getPageSize())
 				.fetch();
 
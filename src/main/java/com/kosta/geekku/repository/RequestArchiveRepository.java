@@ -0,0 +1,156 @@
+package com.kosta.geekku.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.kosta.geekku.dto.HouseAnswerDto;
+import com.kosta.geekku.dto.HouseDto;
+import com.kosta.geekku.dto.InteriorAllDto;
+import com.kosta.geekku.dto.InteriorAnswerDto;
+import com.kosta.geekku.dto.OnestopAnswerDto;
+import com.kosta.geekku.dto.OnestopDto;
+import com.kosta.geekku.entity.Company;
+import com.kosta.geekku.entity.House;
+import com.kosta.geekku.entity.HouseAnswer;
+import com.kosta.geekku.entity.InteriorAllAnswer;
+import com.kosta.geekku.entity.InteriorAllRequest;
+import com.kosta.geekku.entity.Onestop;
+import com.kosta.geekku.entity.OnestopAnswer;
+import com.kosta.geekku.entity.User;
+import com.kosta.geekku.util.UuidUtil;
+
+/**
+ * 보관(archive) 테이블 조회 (RequestArchiveJob이 옮긴 요청글/답변).
+ * 보관 행은 운영 테이블과 같은 번호를 쓰므로 영속성 컨텍스트에 엔티티로 올리지 않고 JdbcTemplate으로 읽어 바로 DTO로 만든다.
+ * (엔티티 객체는 toDto 변환에만 쓰는 비영속 객체라 변경 감지/flush 대상이 아니다)
+ * 보관 테이블이 아직 없으면 (보관 작업 실행 전) 조회하지 않고 결과 없음으로 처리한다 (다른 SQL 오류는 그대로 던진다).
+ */
+@Repository
+public class RequestArchiveRepository {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CompanyRepository companyRepository;
+
+	// 있는 것을 확인한 보관 테이블 (한 번 만들어지면 지우지 않으므로 있을 때만 기억)
+	private final Set<String> existingTables = ConcurrentHashMap.newKeySet();
+
+	public Optional<HouseDto> findHouse(Integer houseNum) {
+		return findOne("house_archive", "SELECT * FROM house_archive WHERE house_num = ?", (rs, i) -> House.builder()
+				.houseNum(rs.getInt("house_num")).user(user(rs)).type(rs.getString("type"))
+				.address1(rs.getString("address1")).address2(rs.getString("address2"))
+				.rentType(rs.getString("rent_type")).size(rs.getObject("size", Integer.class))
+				.jeonsePrice(rs.getObject("jeonse_price", Integer.class))
+				.monthlyPrice(rs.getObject("monthly_price", Integer.class))
+				.depositPrice(rs.getObject("deposit_price", Integer.class))
+				.buyPrice(rs.getObject("buy_price", Integer.class)).requestDate(rs.getTimestamp("request_date"))
+				.requestState(rs.getBoolean("request_state")).allowPhone(rs.getBoolean("allow_phone"))
+				.title(rs.getString("title")).content(rs.getString("content"))
+				.viewCount(rs.getObject("view_count", Integer.class)).createdAt(rs.getTimestamp("created_at"))
+				.answerCount(rs.getObject("answer_count", Integer.class)).build().toDto(), houseNum);
+	}
+
+	// 보관된 요청글의 답변 (운영 테이블 답변 목록과 같은 작성순)
+	public List<HouseAnswerDto> findHouseAnswers(Integer houseNum, int limit, long offset) {
+		House house = House.builder().houseNum(houseNum).build();
+		Map<UUID, Company> companies = new HashMap<>();
+		return findList("house_answer_archive", "SELECT * FROM house_answer_archive WHERE house_num = ? ORDER BY created_at ASC LIMIT ? OFFSET ?",
+				(rs, i) -> HouseAnswer.builder().answerHouseNum(rs.getInt("answer_house_num")).house(house)
+						.company(company(rs, companies)).content(rs.getString("content"))
+						.createdAt(rs.getTimestamp("created_at")).build().toDto(),
+				houseNum, limit, offset);
+	}
+
+	public Optional<OnestopDto> findOnestop(Integer onestopNum) {
+		return findOne("onestop_archive", "SELECT * FROM onestop_archive WHERE onestop_num = ?", (rs, i) -> Onestop.builder()
+				.onestopNum(rs.getInt("onestop_num")).user(user(rs)).type(rs.getString("type"))
+				.address1(rs.getString("address1")).address2(rs.getString("address2"))
+				.rentType(rs.getString("rent_type")).size(rs.getObject("size", Integer.class))
+				.money(rs.getObject("money", Integer.class)).workType(rs.getBoolean("work_type"))
+				.interiorType(rs.getString("interior_type")).movePersons(rs.getObject("move_persons", Integer.class))
+				.allowPhone(rs.getBoolean("allow_phone")).title(rs.getString("title"))
+				.content(rs.getString("content")).viewCount(rs.getObject("view_count", Integer.class))
+				.createdAt(rs.getTimestamp("created_at")).answerCount(rs.getObject("answer_count", Integer.class))
+				.build().toDto(), onestopNum);
+	}
+
+	public List<OnestopAnswerDto> findOnestopAnswers(Integer onestopNum, int limit, long offset) {
+		Onestop onestop = Onestop.builder().onestopNum(onestopNum).build();
+		Map<UUID, Company> companies = new HashMap<>();
+		return findList("onestop_answer_archive",
+				"SELECT * FROM onestop_answer_archive WHERE one_stop_num = ? ORDER BY created_at ASC LIMIT ? OFFSET ?",
+				(rs, i) -> OnestopAnswer.builder().answerOnestopNum(rs.getInt("answer_onestop_num")).onestop(onestop)
+						.company(company(rs, companies)).content(rs.getString("content"))
+						.createdAt(rs.getTimestamp("created_at")).build().toDto(),
+				onestopNum, limit, offset);
+	}
+
+	public Optional<InteriorAllDto> findInteriorAll(Integer requestAllNum) {
+		return findOne("interior_all_request_archive", "SELECT * FROM interior_all_request_archive WHERE request_all_num = ?",
+				(rs, i) -> InteriorAllRequest.builder().requestAllNum(rs.getInt("request_all_num")).user(user(rs))
+						.name(rs.getString("name")).phone(rs.getString("phone")).type(rs.getString("type"))
+						.size(rs.getObject("size", Integer.class)).address1(rs.getString("address1"))
+						.address2(rs.getString("address2")).money(rs.getObject("money", Integer.class))
+						.workType(rs.getBoolean("work_type")).interiorType(rs.getString("interior_type"))
+						.allowPhone(rs.getBoolean("allow_phone")).title(rs.getString("title"))
+						.addContent(rs.getString("add_content")).createAt(rs.getTimestamp("create_at"))
+						.answerCount(rs.getObject("answer_count", Integer.class)).build().toDto(),
+				requestAllNum);
+	}
+
+	public List<InteriorAnswerDto> findInteriorAllAnswers(Integer requestAllNum, int limit, long offset) {
+		InteriorAllRequest interiorAll = InteriorAllRequest.builder().requestAllNum(requestAllNum).build();
+		Map<UUID, Company> companies = new HashMap<>();
+		return findList("interior_all_answer_archive",
+				"SELECT * FROM interior_all_answer_archive WHERE request_all_num = ? ORDER BY created_at ASC LIMIT ? OFFSET ?",
+				(rs, i) -> InteriorAllAnswer.builder().answerAllNum(rs.getInt("answer_all_num"))
+						.interiorAllRequest(interiorAll).company(company(rs, companies))
+						.content(rs.getString("content")).createdAt(rs.getTimestamp("created_at")).build().toDto(),
+				requestAllNum, limit, offset);
+	}
+
+	private <T> Optional<T> findOne(String table, String sql, RowMapper<T> mapper, Object... args) {
+		return findList(table, sql, mapper, args).stream().findFirst();
+	}
+
+	private <T> List<T> findList(String table, String sql, RowMapper<T> mapper, Object... args) {
+		if (!exists(table)) return List.of();
+		return jdbcTemplate.query(sql, mapper, args);
+	}
+
+	private boolean exists(String table) {
+		if (existingTables.contains(table)) return true;
+		Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.TABLES "
+				+ "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", Integer.class, table);
+		if (count == null || count == 0) return false;
+		existingTables.add(table);
+		return true;
+	}
+
+	private User user(ResultSet rs) throws SQLException {
+		return userRepository.findById(UuidUtil.fromBytes(rs.getBytes("user_id"))).orElse(null);
+	}
+
+	// 같은 업체의 답변이 여러 개면 한 번만 읽는다
+	private Company company(ResultSet rs, Map<UUID, Company> companies) throws SQLException {
+		UUID companyId = UuidUtil.fromBytes(rs.getBytes("company_id"));
+		return companies.computeIfAbsent(companyId, id -> companyRepository.findById(id).orElse(null));
+	}
+}
@@ -0,0 +1,263 @@
+package com.kosta.geekku.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kosta.geekku.entity.InteriorSample;
+import com.kosta.geekku.entity.QInteriorSample;
+import com.kosta.geekku.util.KeysetCursor;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * 시공사례 갤러리용 메모리 색인.
+ * 필터 값(주거형태/스타일/평수/지역)마다 시공사례 번호 비트맵을 들고 있어서 필터 조건은 비트맵 교집합으로 구하고,
+ * (작성시간, 글번호) 순서 목록을 커서 위치부터 읽으면서 교집합에 있는 번호만 골라 한 페이지를 만든다.
+ * 작성시간은 DB 조회(sampleGallery)와 같은 순서/커서가 되도록 ms 단위 그대로 쓴다 (KeysetCursor 형식).
+ * 결과가 적은 필터는 교집합 번호만 정렬한다.
+ * 시작시 한 번 전체를 읽고, 이후 시공사례 등록 때마다 해당 글만 추가한다 (트랜잭션 안이면 커밋 후).
+ * 색인은 서버마다 따로 있으므로 목록을 읽을 때 마지막으로 읽은 글번호(watermark) 이후 글을 DB에서 보충한다
+ * (PK 범위 조회, 보통 0건이고 sample.index.catch-up-interval 간격으로 한 번만).
+ */
+@Repository
+public class SampleGalleryIndex {
+
+	public static final String TYPE = "type";
+	public static final String STYLE = "style";
+	public static final String SIZE = "size";
+	public static final String LOCATION = "location";
+
+	private static final int LOAD_CHUNK = 1000;
+	// 교집합이 이 개수 이하면 순서 목록을 훑지 않고 교집합 번호만 정렬
+	private static final int SORT_THRESHOLD = 4096;
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	@Value("${sample.index.catch-up-interval:1000}")
+	private long catchUpInterval;
+
+	private volatile GalleryIndex current;
+	private volatile GalleryIndex loading;
+	private final ReentrantLock catchUpLock = new ReentrantLock();
+	private volatile long lastCatchUp;
+
+	@AllArgsConstructor
+	private static class SortKey implements Comparable<SortKey> {
+		final long createdAt;
+		final int sampleNum;
+
+		@Override
+		public int compareTo(SortKey o) {
+			int c = Long.compare(createdAt, o.createdAt);
+			return c != 0 ? c : Integer.compare(sampleNum, o.sampleNum);
+		}
+	}
+
+	private static class GalleryIndex {
+		final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		// 필드 -> 값 -> 시공사례 번호
+		final Map<String, Map<String, RoaringBitmap>> facets = new HashMap<>();
+		final TreeSet<SortKey> order = new TreeSet<>();
+		// 번호 -> 정렬키 (정렬용 교집합 처리)
+		final Map<Integer, SortKey> keys = new HashMap<>();
+		// DB에서 읽은 마지막 글번호 (이 서버에서 등록한 글로는 올리지 않는다 - 다른 서버의 이전 번호가 빠지지 않게)
+		volatile int watermark;
+
+		void add(Integer sampleNum, Timestamp createdAt, String type, String style, Integer size, String location) {
+			lock.writeLock().lock();
+			try {
+				if (keys.containsKey(sampleNum)) return;
+				addFacet(TYPE, type, sampleNum);
+				addFacet(STYLE, style, sampleNum);
+				addFacet(SIZE, size == null ? null : String.valueOf(size), sampleNum);
+				addFacet(LOCATION, location, sampleNum);
+				SortKey key = new SortKey(createdAt == null ? 0 : createdAt.getTime(), sampleNum);
+				order.add(key);
+				keys.put(sampleNum, key);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		private void addFacet(String field, String value, Integer sampleNum) {
+			if (value == null) return;
+			facets.computeIfAbsent(field, f -> new HashMap<>()).computeIfAbsent(value, v -> new RoaringBitmap())
+					.add(sampleNum);
+		}
+	}
+
+	public static String cursorOf(Timestamp createdAt, Integer sampleNum) {
+		return KeysetCursor.of(createdAt, sampleNum);
+	}
+
+	/**
+	 * 필터에 맞는 시공사례 번호를 정렬 순서대로 limit개 (cursor 다음부터).
+	 * filters: 필드 -> 값 (null 값은 조건 없음), cursor: "작성시간(ms)_글번호"
+	 * 색인이 아직 준비되지 않았으면 null (DB 조회 사용).
+	 */
+	public List<Integer> page(Map<String, String> filters, String cursor, boolean oldest, int limit) {
+		GalleryIndex index = current;
+		if (index == null) return null;
+		catchUp(index);
+		SortKey after = parseCursor(cursor);
+
+		index.lock.readLock().lock();
+		try {
+			RoaringBitmap matched = null;
+			for (Map.Entry<String, String> filter : filters.entrySet()) {
+				if (filter.getValue() == null) continue;
+				RoaringBitmap bitmap = index.facets.getOrDefault(filter.getKey(), new HashMap<>())
+						.get(filter.getValue());
+				if (bitmap == null) return new ArrayList<>();
+				matched = matched == null ? bitmap.clone() : RoaringBitmap.and(matched, bitmap);
+				if (matched.isEmpty()) return new ArrayList<>();
+			}
+
+			List<Integer> result = new ArrayList<>();
+			if (matched != null && matched.getCardinality() <= SORT_THRESHOLD) {
+				// 결과가 적으면 해당 번호만 정렬
+				SortKey[] keys = new SortKey[matched.getCardinality()];
+				int i = 0;
+				for (int num : matched) {
+					keys[i++] = index.keys.get(num);
+				}
+				if (oldest) {
+					Arrays.sort(keys);
+				} else {
+					Arrays.sort(keys, Collections.reverseOrder());
+				}
+				for (SortKey key : keys) {
+					if (after != null && (oldest ? key.compareTo(after) <= 0 : key.compareTo(after) >= 0)) continue;
+					result.add(key.sampleNum);
+					if (result.size() >= limit) break;
+				}
+				return result;
+			}
+
+			NavigableSet<SortKey> range;
+			if (after == null) {
+				range = oldest ? index.order : index.order.descendingSet();
+			} else {
+				range = oldest ? index.order.tailSet(after, false) : index.order.headSet(after, false).descendingSet();
+			}
+			Iterator<SortKey> it = range.iterator();
+			while (it.hasNext() && result.size() < limit) {
+				SortKey key = it.next();
+				if (matched == null || matched.contains(key.sampleNum)) result.add(key.sampleNum);
+			}
+			return result;
+		} finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	// 다른 서버에서 등록된 시공사례 보충 (watermark 이후), 다른 스레드가 보충 중이면 기다리지 않는다
+	private void catchUp(GalleryIndex index) {
+		if (System.currentTimeMillis() - lastCatchUp < catchUpInterval || !catchUpLock.tryLock()) return;
+		try {
+			lastCatchUp = System.currentTimeMillis();
+			int read;
+			do {
+				read = loadChunk(index);
+			} while (read == LOAD_CHUNK);
+		} catch (Exception e) {
+			e.printStackTrace();
+		} finally {
+			catchUpLock.unlock();
+		}
+	}
+
+	private static SortKey parseCursor(String cursor) {
+		KeysetCursor keyset = KeysetCursor.parse(cursor);
+		return keyset == null ? null : new SortKey(keyset.getCreatedAt(), keyset.getNum());
+	}
+
+	// 트랜잭션 안이면 커밋된 뒤에만 추가 (롤백된 사례가 목록에 남지 않게)
+	public void add(InteriorSample sample) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					add(current, sample);
+					add(loading, sample);
+				}
+			});
+		} else {
+			add(current, sample);
+			add(loading, sample);
+		}
+	}
+
+	private void add(GalleryIndex index, InteriorSample sample) {
+		if (index == null) return;
+		index.add(sample.getSampleNum(), sample.getCreatedAt(), sample.getType(), sample.getStyle(),
+				sample.getSize(), sample.getLocation());
+	}
+
+	// 시작시 + 매일 새벽 전체 재색인 (다른 서버에서 등록된 시공사례 반영)
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${sample.index.rebuild-cron:0 10 5 * * *}")
+	public synchronized void rebuild() {
+		try {
+			load();
+		} catch (Exception e) {
+			e.printStackTrace();
+		} finally {
+			loading = null;
+		}
+	}
+
+	private void load() {
+		GalleryIndex fresh = new GalleryIndex();
+		// 로딩 중 등록된 시공사례도 새 색인에 들어가도록 먼저 걸어둔다
+		loading = fresh;
+		int read;
+		do {
+			read = loadChunk(fresh);
+		} while (read == LOAD_CHUNK);
+		current = fresh;
+	}
+
+	// watermark 이후 시공사례를 번호순으로 한 묶음 읽어 색인에 넣는다, 읽은 행 수 반환
+	private int loadChunk(GalleryIndex index) {
+		QInteriorSample sample = QInteriorSample.interiorSample;
+		List<Tuple> rows = jpaQueryFactory
+				.select(sample.sampleNum, sample.createdAt, sample.type, sample.style, sample.size, sample.location)
+				.from(sample)
+				.where(sample.sampleNum.gt(index.watermark))
+				.orderBy(sample.sampleNum.asc())
+				.limit(LOAD_CHUNK)
+				.fetch();
+		int last = index.watermark;
+		for (Tuple row : rows) {
+			index.add(row.get(sample.sampleNum), row.get(sample.createdAt), row.get(sample.type),
+					row.get(sample.style), row.get(sample.size), row.get(sample.location));
+			last = Math.max(last, row.get(sample.sampleNum));
+		}
+		index.watermark = last;
+		return rows.size();
+	}
+}
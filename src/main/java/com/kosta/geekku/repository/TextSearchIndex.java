@@ -0,0 +1,317 @@
+package com.kosta.geekku.repository;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kosta.geekku.entity.QInteriorAllRequest;
+import com.kosta.geekku.entity.QOnestop;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * 요청글 본문 검색용 메모리 역색인 (한번에꾸하기, 방꾸 공용).
+ * 게시판/필드별로 글자 1개, 2개 조각(n-gram) -> 글번호 비트맵을 들고 있고,
+ * 검색어 조각들의 비트맵 교집합으로 후보 글번호를 구하고, 후보만 글 내용에 검색어가 그대로 들어있는지 다시 확인해서
+ * LIKE '%word%'와 같은 결과를 전체 스캔 없이 구한다. 글 내용은 소문자로 한 벌만 들고 있다
+ * (조각 집합을 글마다 들고 있는 것보다 작고, 수정/삭제시 다시 조각내서 제거한다).
+ * 시작시 한 번 전체를 읽고, 이후 글 작성/삭제/보관 때마다 해당 글만 갱신한다 (트랜잭션 안이면 커밋 후).
+ * 색인은 서버마다 따로 있어서 다른 서버에서 작성된 글은 다음 재색인 전까지 이 서버 색인에 없다.
+ * 그래서 마지막 로딩 이후 글(watermark 초과)은 BoardQueryEngine이 DB 검색으로 보충하고,
+ * 다른 서버에서 삭제된 글은 PK 조회에서 빠진다 (재색인 전까지 개수만 조금 클 수 있음).
+ */
+@Repository
+public class TextSearchIndex {
+
+	public static final String ONESTOP = "onestop";
+	public static final String INTERIOR_ALL = "interiorAll";
+
+	private static final int LOAD_CHUNK = 1000;
+
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+
+	private final Map<String, BoardIndex> boards = new ConcurrentHashMap<>();
+
+	private static class BoardIndex {
+		final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		// 필드 -> 조각 -> 글번호
+		final Map<String, Map<String, RoaringBitmap>> postings = new HashMap<>();
+		// 글번호 -> 필드 -> 소문자 내용 (후보 확인, 수정/삭제시 기존 조각 제거용)
+		final Map<Integer, Map<String, String>> docs = new HashMap<>();
+		// 로딩 중에 삭제된 글 (로더가 삭제 전에 읽은 행을 다시 넣지 않도록)
+		final Set<Integer> removed = new HashSet<>();
+		// 로딩한 마지막 글번호 (이후 글은 다른 서버에서 작성됐을 수 있다)
+		volatile int watermark;
+		volatile boolean ready;
+	}
+
+	// 글 색인 (이미 있으면 교체), fields: 필드 -> 내용
+	private void index(String board, Integer num, Map<String, String> fields) {
+		index(boards.computeIfAbsent(board, b -> new BoardIndex()), num, fields, false);
+	}
+
+	// loaded: 로더가 읽은 행 (로딩 중 삭제된 글이면 건너뛴다)
+	private void index(BoardIndex index, Integer num, Map<String, String> fields, boolean loaded) {
+		index.lock.writeLock().lock();
+		try {
+			if (loaded && index.removed.contains(num)) return;
+			removeDoc(index, num);
+			Map<String, String> doc = new HashMap<>();
+			for (Map.Entry<String, String> field : fields.entrySet()) {
+				if (field.getValue() == null) continue;
+				String text = field.getValue().toLowerCase();
+				Set<String> grams = grams(text);
+				if (grams.isEmpty()) continue;
+				Map<String, RoaringBitmap> postings = index.postings.computeIfAbsent(field.getKey(), f -> new HashMap<>());
+				for (String gram : grams) {
+					postings.computeIfAbsent(gram, g -> new RoaringBitmap()).add(num);
+				}
+				doc.put(field.getKey(), text);
+			}
+			index.docs.put(num, doc);
+		} finally {
+			index.lock.writeLock().unlock();
+		}
+	}
+
+	private void remove(String board, List<Integer> nums, boolean loading) {
+		BoardIndex index = boards.get(board);
+		if (index == null) return;
+		index.lock.writeLock().lock();
+		try {
+			for (Integer num : nums) {
+				removeDoc(index, num);
+				if (loading) index.removed.add(num);
+			}
+		} finally {
+			index.lock.writeLock().unlock();
+		}
+	}
+
+	private void removeDoc(BoardIndex index, Integer num) {
+		Map<String, String> doc = index.docs.remove(num);
+		if (doc == null) return;
+		doc.forEach((field, text) -> {
+			Map<String, RoaringBitmap> postings = index.postings.get(field);
+			for (String gram : grams(text)) {
+				RoaringBitmap bitmap = postings.get(gram);
+				if (bitmap == null) continue;
+				bitmap.remove(num);
+				if (bitmap.isEmpty()) postings.remove(gram);
+			}
+		});
+	}
+
+	// 이 글번호 이후는 색인에 없을 수 있다 (DB 검색으로 보충), 색인이 준비되지 않았으면 0
+	public int watermark(String board) {
+		BoardIndex index = boards.get(board);
+		return index == null || !index.ready ? 0 : index.watermark;
+	}
+
+	/**
+	 * 필드 내용에 검색어(앞뒤 공백 제외, 대소문자 무시)가 그대로 들어있는 글번호 (LIKE '%word%'와 같은 결과).
+	 * 조각 교집합으로 후보를 구한 뒤 후보 내용만 확인한다.
+	 * 색인이 아직 준비되지 않았거나 검색할 수 없는 검색어면 null (DB 검색 사용).
+	 */
+	public RoaringBitmap search(String board, String field, String word) {
+		BoardIndex index = boards.get(board);
+		if (index == null || !index.ready) return null;
+		Set<String> grams = queryGrams(word);
+		if (grams.isEmpty()) return null;
+
+		index.lock.readLock().lock();
+		try {
+			Map<String, RoaringBitmap> postings = index.postings.getOrDefault(field, new HashMap<>());
+			RoaringBitmap candidates = null;
+			for (String gram : grams) {
+				RoaringBitmap bitmap = postings.get(gram);
+				if (bitmap == null) return new RoaringBitmap();
+				candidates = candidates == null ? bitmap : RoaringBitmap.and(candidates, bitmap);
+				if (candidates.isEmpty()) return new RoaringBitmap();
+			}
+			// 조각이 모두 있어도 붙어 있지 않을 수 있다 ("가나 나다"는 "가나다"의 조각을 모두 가짐)
+			String needle = word.trim().toLowerCase();
+			RoaringBitmap result = new RoaringBitmap();
+			IntIterator it = candidates.getIntIterator();
+			while (it.hasNext()) {
+				int num = it.next();
+				Map<String, String> doc = index.docs.get(num);
+				String text = doc == null ? null : doc.get(field);
+				if (text != null && text.contains(needle)) result.add(num);
+			}
+			return result;
+		} finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	// 색인용 조각: 단어별 글자 1개 + 연속 2개
+	private static Set<String> grams(String text) {
+		Set<String> grams = new HashSet<>();
+		if (text == null) return grams;
+		for (String word : text.toLowerCase().split("\\s+")) {
+			for (int i = 0; i < word.length(); i++) {
+				grams.add(word.substring(i, i + 1));
+				if (i + 1 < word.length()) grams.add(word.substring(i, i + 2));
+			}
+		}
+		return grams;
+	}
+
+	// 검색용 조각: 두 글자 이상 단어는 연속 2개만, 한 글자 단어는 그 글자
+	private static Set<String> queryGrams(String text) {
+		Set<String> grams = new HashSet<>();
+		if (text == null) return grams;
+		for (String word : text.trim().toLowerCase().split("\\s+")) {
+			if (word.length() == 1) {
+				grams.add(word);
+			}
+			for (int i = 0; i + 1 < word.length(); i++) {
+				grams.add(word.substring(i, i + 2));
+			}
+		}
+		return grams;
+	}
+
+	// 시작시 + 매일 새벽 전체 재색인 (다른 서버에서 작성된 글 반영)
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${search.index.rebuild-cron:0 0 5 * * *}")
+	public void rebuild() {
+		try {
+			loadOnestop();
+			loadInteriorAll();
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	private void loadOnestop() {
+		QOnestop onestop = QOnestop.onestop;
+		BoardIndex fresh = new BoardIndex();
+		boards.put(ONESTOP + ".loading", fresh);
+		Integer last = 0;
+		while (true) {
+			List<Tuple> rows = jpaQueryFactory
+					.select(onestop.onestopNum, onestop.title, onestop.content, onestop.address1)
+					.from(onestop)
+					.where(onestop.onestopNum.gt(last))
+					.orderBy(onestop.onestopNum.asc())
+					.limit(LOAD_CHUNK)
+					.fetch();
+			for (Tuple row : rows) {
+				index(fresh, row.get(onestop.onestopNum), onestopFields(row.get(onestop.title),
+						row.get(onestop.content), row.get(onestop.address1)), true);
+			}
+			if (!rows.isEmpty()) last = rows.get(rows.size() - 1).get(onestop.onestopNum);
+			if (rows.size() < LOAD_CHUNK) break;
+		}
+		fresh.watermark = last;
+		swap(ONESTOP, fresh);
+	}
+
+	private void loadInteriorAll() {
+		QInteriorAllRequest interiorAll = QInteriorAllRequest.interiorAllRequest;
+		BoardIndex fresh = new BoardIndex();
+		boards.put(INTERIOR_ALL + ".loading", fresh);
+		Integer last = 0;
+		while (true) {
+			List<Tuple> rows = jpaQueryFactory
+					.select(interiorAll.requestAllNum, interiorAll.title, interiorAll.addContent, interiorAll.address1)
+					.from(interiorAll)
+					.where(interiorAll.requestAllNum.gt(last))
+					.orderBy(interiorAll.requestAllNum.asc())
+					.limit(LOAD_CHUNK)
+					.fetch();
+			for (Tuple row : rows) {
+				index(fresh, row.get(interiorAll.requestAllNum),
+						interiorAllFields(row.get(interiorAll.title), row.get(interiorAll.addContent),
+								row.get(interiorAll.address1)), true);
+			}
+			if (!rows.isEmpty()) last = rows.get(rows.size() - 1).get(interiorAll.requestAllNum);
+			if (rows.size() < LOAD_CHUNK) break;
+		}
+		fresh.watermark = last;
+		swap(INTERIOR_ALL, fresh);
+	}
+
+	// 로딩 중 들어온 작성/삭제는 로딩 중인 색인에도 반영되므로 그대로 교체한다
+	private void swap(String board, BoardIndex fresh) {
+		fresh.lock.writeLock().lock();
+		try {
+			fresh.removed.clear();
+		} finally {
+			fresh.lock.writeLock().unlock();
+		}
+		fresh.ready = true;
+		boards.put(board, fresh);
+		boards.remove(board + ".loading");
+	}
+
+	public void indexOnestop(Integer num, String title, String content, String address1) {
+		Map<String, String> fields = onestopFields(title, content, address1);
+		afterCommit(() -> {
+			index(ONESTOP, num, fields);
+			if (boards.containsKey(ONESTOP + ".loading")) index(ONESTOP + ".loading", num, fields);
+		});
+	}
+
+	public void indexInteriorAll(Integer num, String title, String addContent, String address1) {
+		Map<String, String> fields = interiorAllFields(title, addContent, address1);
+		afterCommit(() -> {
+			index(INTERIOR_ALL, num, fields);
+			if (boards.containsKey(INTERIOR_ALL + ".loading")) index(INTERIOR_ALL + ".loading", num, fields);
+		});
+	}
+
+	public void removeAll(String board, List<Integer> nums) {
+		afterCommit(() -> {
+			remove(board, nums, false);
+			remove(board + ".loading", nums, true);
+		});
+	}
+
+	// 트랜잭션 안이면 커밋된 뒤에만 반영 (롤백된 작성/삭제가 색인에 남지 않게)
+	private static void afterCommit(Runnable task) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					task.run();
+				}
+			});
+		} else {
+			task.run();
+		}
+	}
+
+	private static Map<String, String> onestopFields(String title, String content, String address1) {
+		Map<String, String> fields = new HashMap<>();
+		fields.put("title", title);
+		fields.put("content", content);
+		fields.put("address1", address1);
+		return fields;
+	}
+
+	private static Map<String, String> interiorAllFields(String title, String addContent, String address1) {
+		Map<String, String> fields = new HashMap<>();
+		fields.put("title", title);
+		fields.put("content", addContent);
+		fields.put("address1", address1);
+		return fields;
+	}
+}
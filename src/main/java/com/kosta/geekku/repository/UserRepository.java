@@ -6,7 +6,10 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.kosta.geekku.dto.PrincipalDto;
 import com.kosta.geekku.entity.EstateBookmark;
 import com.kosta.geekku.entity.User;
 
@@ -22,6 +25,10 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 	Optional<User> findByPhone(String phone);
 	Optional<User> findByEmail(String email);
 
+	// 인증 필터용 (필요한 컬럼만)
+	@Query("select new com.kosta.geekku.dto.PrincipalDto(u.userId, u.username, u.role, u.status) from User u where u.username = :username")
+	Optional<PrincipalDto> findPrincipalByUsername(@Param("username") String username);
+
 
 	// Optional<User> findByUserId(UUID userId);
 
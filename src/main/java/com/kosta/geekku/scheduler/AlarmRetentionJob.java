@@ -0,0 +1,96 @@
+package com.kosta.geekku.scheduler;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kosta.geekku.entity.AlarmOutbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래된 읽은 알림 정리 작업.
+ * 보관 기간이 지난 읽은 알림을 (status, createdAt) 인덱스 순서로 작은 묶음씩 읽어서
+ * 받는 사람/날짜/종류별 건수를 alarm_daily_summary에 더하고 원본은 삭제한 뒤 쉬어간다 (합산과 삭제는 한 트랜잭션).
+ * 안읽은 알림은 기간이 지나도 남겨두므로 안읽은 알림 수는 바뀌지 않는다.
+ * 여러 서버가 같은 행을 두 번 합산하지 않도록 JobLock으로 한 서버에서만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmRetentionJob {
+
+	@Getter
+	@RequiredArgsConstructor
+	public enum AlarmTable {
+		// (알림 테이블, PK, 받는 사람 컬럼, 요약 받는 사람 종류)
+		USER("alarm_user", "user_alarm_num", "user_id", AlarmOutbox.USER),
+		INTERIOR("alarm_interior", "interior_alarm_num", "company_id", AlarmOutbox.COMPANY);
+
+		private final String table;
+		private final String idColumn;
+		private final String recipientColumn;
+		private final String recipientType;
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final JobLock jobLock;
+
+	@Value("${alarm.retention.max-age-days:90}")
+	private int maxAgeDays;
+
+	@Value("${alarm.retention.batch-size:500}")
+	private int batchSize;
+
+	@Value("${alarm.retention.sleep-ms:100}")
+	private long sleepMs;
+
+	@Scheduled(cron = "${alarm.retention.cron:0 0 4 * * *}")
+	public void compact() {
+		jobLock.runExclusive("alarm_retention", this::compactAll);
+	}
+
+	private void compactAll() {
+		Timestamp cutoff = new Timestamp(System.currentTimeMillis() - maxAgeDays * 24L * 60 * 60 * 1000);
+		for (AlarmTable table : AlarmTable.values()) {
+			try {
+				log.info("알림 정리 {} {}건", table, compact(table, cutoff));
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private int compact(AlarmTable table, Timestamp cutoff) throws InterruptedException {
+		String selectSql = "SELECT " + table.getIdColumn() + " FROM " + table.getTable()
+				+ " WHERE status = true AND created_at < ? ORDER BY created_at LIMIT ?";
+		String summarySql = "INSERT INTO alarm_daily_summary (recipient_type, recipient_id, alarm_date, type, alarm_count) "
+				+ "SELECT ?, " + table.getRecipientColumn() + ", DATE(created_at), type, COUNT(*) FROM " + table.getTable()
+				+ " WHERE " + table.getIdColumn() + " IN (%s) GROUP BY " + table.getRecipientColumn()
+				+ ", DATE(created_at), type ON DUPLICATE KEY UPDATE alarm_count = alarm_count + VALUES(alarm_count)";
+		int deleted = 0;
+		while (true) {
+			List<Integer> nums = jdbcTemplate.queryForList(selectSql, Integer.class, cutoff, batchSize);
+			if (nums.isEmpty()) break;
+			// 정수 알림번호 목록이라 그대로 넣는다
+			String in = nums.stream().map(String::valueOf).collect(Collectors.joining(","));
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.update(String.format(summarySql, in), table.getRecipientType());
+				jdbcTemplate.update("DELETE FROM " + table.getTable() + " WHERE " + table.getIdColumn() + " IN (" + in + ")");
+			});
+			deleted += nums.size();
+			if (nums.size() < batchSize) break;
+			Thread.sleep(sleepMs);
+		}
+		return deleted;
+	}
+}
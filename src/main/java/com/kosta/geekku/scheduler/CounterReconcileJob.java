@@ -0,0 +1,103 @@
+package com.kosta.geekku.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kosta.geekku.service.CounterDeltaApplier;
+import com.kosta.geekku.service.CounterDeltaApplier.Counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비정규화 카운터 야간 정합성 작업.
+ * PK 구간(chunk) 단위로 실제 개수를 다시 세어 다른 행만 고친다.
+ * 조회는 잠금 없는 일반 SELECT로 하고, 구간마다 짧게 커밋한 뒤 쉬어서 운영 테이블을 오래 잡지 않는다.
+ * 여러 서버 중 한 곳에서만 실행하고 (JobLock), 실행중에는 모든 서버의 CounterDeltaApplier가 증감 대신 대상만 다시 센다.
+ * 잠금을 잡은 직후와 끝나기 직전에 grace-ms 만큼 기다려서, 잠금 확인 전에 시작된 flush와
+ * 마지막 구간을 센 뒤에도 남아있던 증감이 모두 다시 세기로 반영되게 한다 (flush 주기보다 길게).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterReconcileJob {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final CounterDeltaApplier counterDeltaApplier;
+	private final JobLock jobLock;
+
+	@Value("${counter.reconcile.chunk-size:1000}")
+	private int chunkSize;
+
+	@Value("${counter.reconcile.sleep-ms:100}")
+	private long sleepMs;
+
+	@Value("${counter.reconcile.grace-ms:10000}")
+	private long graceMs;
+
+	@Scheduled(cron = "${counter.reconcile.cron:0 0 4 * * *}")
+	public void reconcile() {
+		jobLock.runExclusive(CounterDeltaApplier.RECONCILE_LOCK, this::reconcileAll);
+	}
+
+	private void reconcileAll() {
+		try {
+			Thread.sleep(graceMs);
+			for (Counter counter : Counter.values()) {
+				try {
+					reconcile(counter);
+				} catch (InterruptedException e) {
+					throw e;
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+			Thread.sleep(graceMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void reconcile(Counter counter) throws InterruptedException {
+		Integer maxNum = jdbcTemplate.queryForObject(
+				"SELECT MAX(" + counter.getIdColumn() + ") FROM " + counter.getTable(), Integer.class);
+		if (maxNum == null) return;
+
+		String selectSql = "SELECT t." + counter.getIdColumn() + ", t." + counter.getCountColumn()
+				+ ", (SELECT COUNT(*) FROM " + counter.getSourceTable() + " s WHERE s." + counter.getSourceColumn()
+				+ " = t." + counter.getIdColumn() + ") FROM " + counter.getTable() + " t WHERE t."
+				+ counter.getIdColumn() + " BETWEEN ? AND ?";
+		// 다른 행만 쓰기 시점에 다시 센다 (읽은 값을 쓰면 그 사이 다른 서버가 다시 센 값을 예전 값으로 덮을 수 있음)
+		String updateSql = CounterDeltaApplier.recountSql(counter);
+
+		int fixed = 0;
+		for (int start = 1; start <= maxNum; start += chunkSize) {
+			int from = start;
+			int to = start + chunkSize - 1;
+			int[] updated = new int[1];
+			// 구간 처리 중에는 증감 반영을 멈춰서 다시 센 값이 덮어쓰지 않게 한다
+			counterDeltaApplier.runExclusive(() -> {
+				List<Object[]> diffs = new ArrayList<>();
+				jdbcTemplate.query(selectSql, rs -> {
+					Number stored = (Number) rs.getObject(2);
+					long actual = rs.getLong(3);
+					if (stored == null || stored.longValue() != actual) {
+						diffs.add(new Object[] { rs.getInt(1) });
+					}
+				}, from, to);
+				if (!diffs.isEmpty()) {
+					jdbcTemplate.batchUpdate(updateSql, diffs);
+				}
+				updated[0] = diffs.size();
+			});
+			fixed += updated[0];
+			Thread.sleep(sleepMs);
+		}
+		log.info("카운터 정합성 {} 수정 {}건", counter, fixed);
+	}
+}
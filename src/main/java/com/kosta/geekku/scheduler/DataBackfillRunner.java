@@ -0,0 +1,145 @@
+package com.kosta.geekku.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kosta.geekku.service.CounterDeltaApplier;
+import com.kosta.geekku.service.CounterDeltaApplier.Counter;
+import com.kosta.geekku.util.RegionUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 새 컬럼/테이블 도입 후 기존 데이터 채우기 (한 번만 실행).
+ * ddl-auto=update로 추가된 컬럼은 기존 행에서 NULL/기본값이므로, 기동시 아직 끝나지 않은 단계만 실행하고
+ * data_backfill 테이블에 완료를 기록한다. 각 단계는 여러 서버가 동시에 실행해도 결과가 같은 SQL로만 작성한다.
+ * ApplicationReadyEvent보다 먼저 실행되므로 메모리 색인 로딩은 채워진 데이터를 읽는다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DataBackfillRunner implements ApplicationRunner {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final CounterDeltaApplier counterDeltaApplier;
+
+	@Value("${backfill.batch-size:1000}")
+	private int batchSize;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS data_backfill "
+				+ "(name VARCHAR(100) NOT NULL PRIMARY KEY, done_at DATETIME NOT NULL)");
+		step("community_comment_path", this::communityCommentPath);
+		step("community_comment_count", () -> recount(Counter.COMMUNITY_COMMENT));
+		step("estate_bookmark_count", () -> recount(Counter.ESTATE_BOOKMARK));
+		step("interior_bookmark_count", () -> recount(Counter.INTERIOR_BOOKMARK));
+		step("community_bookmark_count", () -> recount(Counter.COMMUNITY_BOOKMARK));
+		step("house_answer_count", () -> recount(Counter.HOUSE_ANSWER));
+		step("onestop_answer_count", () -> recount(Counter.ONESTOP_ANSWER));
+		step("interior_all_answer_count", () -> recount(Counter.INTERIOR_ALL_ANSWER));
+		step("interior_service_area", this::interiorServiceArea);
+		step("interior_service_area_region_code", this::interiorServiceAreaRegionCode);
+		step("estate_bookmark_unique", () -> uniqueBookmark("estate_bookmark", "bookmark_estate_num", "estate_num",
+				"uk_estate_bookmark_user_estate", Counter.ESTATE_BOOKMARK));
+		step("interior_bookmark_unique", () -> uniqueBookmark("interior_bookmark", "bookmark_interior_num",
+				"interior_num", "uk_interior_bookmark_user_interior", Counter.INTERIOR_BOOKMARK));
+		step("community_bookmark_unique", () -> uniqueBookmark("community_bookmark", "bookmark_community_num",
+				"community_num", "uk_community_bookmark_user_community", Counter.COMMUNITY_BOOKMARK));
+	}
+
+	private void step(String name, Runnable task) {
+		try {
+			Integer done = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM data_backfill WHERE name = ?",
+					Integer.class, name);
+			if (done != null && done > 0) return;
+			long start = System.currentTimeMillis();
+			task.run();
+			jdbcTemplate.update("INSERT IGNORE INTO data_backfill (name, done_at) VALUES (?, NOW())", name);
+			log.info("데이터 채우기 {} 완료 ({}ms)", name, System.currentTimeMillis() - start);
+		} catch (Exception e) {
+			// 완료 기록이 없으므로 다음 기동때 다시 실행
+			log.error("데이터 채우기 {} 실패", name, e);
+		}
+	}
+
+	// 답글 기능 전에 작성된 댓글은 모두 최상위 댓글
+	private void communityCommentPath() {
+		while (jdbcTemplate.update("UPDATE community_comment SET path = CONCAT(LPAD(comment_num, 10, '0'), '/'), "
+				+ "depth = COALESCE(depth, 0) WHERE path IS NULL AND parent_num IS NULL LIMIT ?", batchSize) > 0) {
+		}
+	}
+
+	// 지역 테이블 도입 전에 등록된 업체의 시공 가능 지역 행 (중복은 유니크 키로 무시)
+	private void interiorServiceArea() {
+		int last = 0;
+		while (true) {
+			List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT i.interior_num, i.possible_location "
+					+ "FROM interior i WHERE i.interior_num > ? AND NOT EXISTS "
+					+ "(SELECT 1 FROM interior_service_area a WHERE a.interior_num = i.interior_num) "
+					+ "ORDER BY i.interior_num LIMIT ?", last, batchSize);
+			List<Object[]> areas = new ArrayList<>();
+			for (Map<String, Object> row : rows) {
+				Integer interiorNum = ((Number) row.get("interior_num")).intValue();
+				for (String code : RegionUtil.areaCodesOf((String) row.get("possible_location"))) {
+					areas.add(new Object[] { interiorNum, code });
+				}
+				last = interiorNum;
+			}
+			if (!areas.isEmpty()) {
+				jdbcTemplate.batchUpdate(
+						"INSERT IGNORE INTO interior_service_area (interior_num, region_code) VALUES (?, ?)", areas);
+			}
+			if (rows.size() < batchSize) break;
+		}
+	}
+
+	// 예전 규칙(접미사 제거)으로 만든 지역 코드("전라남", "충청북 청주시")를 별칭 표 기준 코드로 바꾼다
+	// 이미 같은 코드 행이 있으면 유니크 키로 건너뛰고 남은 예전 행은 지운다
+	private void interiorServiceAreaRegionCode() {
+		List<String> codes = jdbcTemplate.queryForList("SELECT DISTINCT region_code FROM interior_service_area",
+				String.class);
+		for (String code : codes) {
+			String canonical = RegionUtil.areaCodeOf(code);
+			if (canonical == null || canonical.equals(code)) continue;
+			jdbcTemplate.update("UPDATE IGNORE interior_service_area SET region_code = ? WHERE region_code = ?",
+					canonical, code);
+			jdbcTemplate.update("DELETE FROM interior_service_area WHERE region_code = ?", code);
+		}
+	}
+
+	// 같은 (사용자, 대상) 북마크는 가장 먼저 저장된 행만 남기고 유니크 키를 만든 뒤 북마크 수를 다시 센다
+	private void uniqueBookmark(String table, String idColumn, String targetColumn, String keyName, Counter counter) {
+		jdbcTemplate.update("DELETE b FROM " + table + " b JOIN " + table + " o ON o.user_id = b.user_id AND o."
+				+ targetColumn + " = b." + targetColumn + " AND o." + idColumn + " < b." + idColumn);
+		jdbcTemplate.execute("ALTER TABLE " + table + " ADD UNIQUE INDEX IF NOT EXISTS " + keyName + " (user_id, "
+				+ targetColumn + ")");
+		recount(counter);
+	}
+
+	// 카운터 컬럼을 원본 테이블 개수로 채운다 (PK 구간마다 증감 반영을 멈추고 실행)
+	private void recount(Counter counter) {
+		Integer maxNum = jdbcTemplate.queryForObject(
+				"SELECT MAX(" + counter.getIdColumn() + ") FROM " + counter.getTable(), Integer.class);
+		if (maxNum == null) return;
+		String sql = "UPDATE " + counter.getTable() + " t SET t." + counter.getCountColumn() + " = (SELECT COUNT(*) FROM "
+				+ counter.getSourceTable() + " s WHERE s." + counter.getSourceColumn() + " = t." + counter.getIdColumn()
+				+ ") WHERE t." + counter.getIdColumn() + " BETWEEN ? AND ?";
+		for (int start = 1; start <= maxNum; start += batchSize) {
+			int from = start;
+			int to = start + batchSize - 1;
+			counterDeltaApplier.runExclusive(() -> jdbcTemplate.update(sql, from, to));
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.kosta.geekku.scheduler;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kosta.geekku.repository.InteriorStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인테리어 업체 통계 재계산.
+ * 평소에는 리뷰/시공사례 등록/수정/삭제시 증감만 반영하고,
+ * 기동시(기존 데이터 적재)와 야간에 리뷰/시공사례 테이블에서 다시 집계해서 어긋난 값을 바로잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InteriorStatsRebuildJob {
+
+	private final InteriorStatsRepository interiorStatsRepository;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() {
+		rebuild();
+	}
+
+	@Scheduled(cron = "${interior.stats.rebuild-cron:0 30 4 * * *}")
+	public void rebuild() {
+		try {
+			interiorStatsRepository.rebuildAll();
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+}
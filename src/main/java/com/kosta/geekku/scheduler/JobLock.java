@@ -0,0 +1,55 @@
+package com.kosta.geekku.scheduler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 서버 중 한 곳에서만 배치 작업을 실행하기 위한 DB 이름 잠금 (MariaDB GET_LOCK).
+ * 잠금은 연결 단위라 작업이 끝날 때까지 연결 하나를 잡고 있고, 서버가 죽으면 연결이 끊기면서 자동으로 풀린다.
+ * 이미 다른 서버가 실행중이면 기다리지 않고 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobLock {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 잠금을 얻으면 task 실행 후 true, 다른 서버가 실행중이면 false
+	public boolean runExclusive(String name, Runnable task) {
+		Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+			try (PreparedStatement ps = con.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+				ps.setString(1, name);
+				try (ResultSet rs = ps.executeQuery()) {
+					if (!rs.next() || rs.getInt(1) != 1) {
+						log.info("작업 {} 다른 서버에서 실행중 - 건너뜀", name);
+						return false;
+					}
+				}
+			}
+			try {
+				task.run();
+				return true;
+			} finally {
+				try (PreparedStatement ps = con.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+					ps.setString(1, name);
+					ps.executeQuery().close();
+				}
+			}
+		});
+		return Boolean.TRUE.equals(ran);
+	}
+
+	// 어느 서버에서든 이 잠금으로 작업이 실행중인지
+	public boolean isRunning(String name) {
+		Integer used = jdbcTemplate.queryForObject("SELECT IS_USED_LOCK(?) IS NOT NULL", Integer.class, name);
+		return used != null && used == 1;
+	}
+}
@@ -0,0 +1,140 @@
+package com.kosta.geekku.scheduler;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kosta.geekku.repository.BoardQueryEngine;
+import com.kosta.geekku.repository.HouseDslRepository;
+import com.kosta.geekku.repository.InteriorAllRequestDslRepository;
+import com.kosta.geekku.repository.OnestopDslRepository;
+import com.kosta.geekku.repository.TextSearchIndex;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래된 요청글/답변 보관(archive) 작업.
+ * 작성 후 일정 기간이 지난 요청글을 답변과 함께 *_archive 테이블로 옮겨서
+ * 목록/카운트/검색 쿼리가 보는 운영 테이블을 작게 유지한다.
+ * 글 번호 순으로 작은 묶음씩 (답변 복사 -> 답변 삭제 -> 글 복사 -> 글 삭제) 한 트랜잭션으로 옮기고 쉬어간다.
+ * 상세/답변 조회는 운영 테이블에 없으면 보관 테이블에서 읽는다.
+ * 여러 서버 중 한 곳에서만 실행한다 (JobLock).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestArchiveJob {
+
+	@Getter
+	@RequiredArgsConstructor
+	public enum Board {
+		// (글 테이블, PK, 작성시간 컬럼, 답변 테이블, 답변 FK, 목록 카운트 캐시 이름)
+		HOUSE("house", "house_num", "created_at", "house_answer", "house_num", HouseDslRepository.HOUSE_BOARD.getName()),
+		ONESTOP("onestop", "onestop_num", "created_at", "onestop_answer", "one_stop_num",
+				OnestopDslRepository.ONESTOP_BOARD.getName()),
+		INTERIOR_ALL("interior_all_request", "request_all_num", "create_at", "interior_all_answer", "request_all_num",
+				InteriorAllRequestDslRepository.INTERIOR_ALL_BOARD.getName());
+
+		private final String table;
+		private final String idColumn;
+		private final String createdColumn;
+		private final String answerTable;
+		private final String answerColumn;
+		private final String boardName;
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final BoardQueryEngine boardQueryEngine;
+	private final TextSearchIndex textSearchIndex;
+	private final JobLock jobLock;
+
+	@Value("${archive.request.max-age-days:365}")
+	private int maxAgeDays;
+
+	@Value("${archive.request.batch-size:200}")
+	private int batchSize;
+
+	@Value("${archive.request.sleep-ms:200}")
+	private long sleepMs;
+
+	@Scheduled(cron = "${archive.request.cron:0 30 3 * * *}")
+	public void archive() {
+		jobLock.runExclusive("request_archive", this::archiveAll);
+	}
+
+	private void archiveAll() {
+		Timestamp cutoff = new Timestamp(System.currentTimeMillis() - maxAgeDays * 24L * 60 * 60 * 1000);
+		for (Board board : Board.values()) {
+			try {
+				int moved = archive(board, cutoff);
+				if (moved > 0) boardQueryEngine.evictCounts(board.getBoardName());
+				log.info("요청글 보관 {} {}건", board, moved);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private int archive(Board board, Timestamp cutoff) throws InterruptedException {
+		prepareArchiveTable(board.getTable());
+		prepareArchiveTable(board.getAnswerTable());
+
+		String selectSql = "SELECT " + board.getIdColumn() + " FROM " + board.getTable() + " WHERE "
+				+ board.getCreatedColumn() + " < ? ORDER BY " + board.getIdColumn() + " LIMIT ?";
+		int moved = 0;
+		while (true) {
+			List<Integer> nums = jdbcTemplate.queryForList(selectSql, Integer.class, cutoff, batchSize);
+			if (nums.isEmpty()) break;
+			String in = nums.stream().map(String::valueOf).collect(Collectors.joining(","));
+			transactionTemplate.executeWithoutResult(status -> {
+				move(board.getAnswerTable(), board.getAnswerColumn(), in);
+				move(board.getTable(), board.getIdColumn(), in);
+			});
+			textSearchIndex.removeAll(board.getBoardName(), nums);
+			moved += nums.size();
+			if (nums.size() < batchSize) break;
+			Thread.sleep(sleepMs);
+		}
+		return moved;
+	}
+
+	// 보관 테이블로 복사 후 삭제 (in: 정수 글번호 목록이라 그대로 넣는다)
+	private void move(String table, String column, String in) {
+		String columns = String.join(", ", columnsOf(table));
+		jdbcTemplate.update("INSERT INTO " + table + "_archive (" + columns + ") SELECT " + columns + " FROM " + table
+				+ " WHERE " + column + " IN (" + in + ")");
+		jdbcTemplate.update("DELETE FROM " + table + " WHERE " + column + " IN (" + in + ")");
+	}
+
+	// 보관 테이블이 없으면 같은 구조로 만들고, 운영 테이블에 컬럼이 추가됐으면 보관 테이블에도 추가
+	private void prepareArchiveTable(String table) {
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + "_archive LIKE " + table);
+		List<String> archived = columnsOf(table + "_archive");
+		List<Map<String, Object>> columns = jdbcTemplate.queryForList(
+				"SELECT COLUMN_NAME, COLUMN_TYPE FROM information_schema.COLUMNS "
+						+ "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY ORDINAL_POSITION",
+				table);
+		for (Map<String, Object> column : columns) {
+			String name = (String) column.get("COLUMN_NAME");
+			if (!archived.contains(name)) {
+				jdbcTemplate.execute(
+						"ALTER TABLE " + table + "_archive ADD COLUMN " + name + " " + column.get("COLUMN_TYPE") + " NULL");
+			}
+		}
+	}
+
+	private List<String> columnsOf(String table) {
+		return jdbcTemplate.queryForList("SELECT COLUMN_NAME FROM information_schema.COLUMNS "
+				+ "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY ORDINAL_POSITION", String.class, table);
+	}
+}
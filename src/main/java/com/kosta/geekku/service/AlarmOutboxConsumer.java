@@ -0,0 +1,184 @@
+package com.kosta.geekku.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kosta.geekku.entity.AlarmOutbox;
+import com.kosta.geekku.util.UuidUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * alarm_outbox 처리기.
+ * 커밋된 알림 요청 번호를 이벤트로 받아 큐에 모아두었다가 (배치로 기록된 요청은 미처리 행 조회로) 주기적으로 한 번에 읽어서
+ * alarm_user / alarm_interior INSERT 배치와 처리 완료 UPDATE 한 번을 같은 트랜잭션으로 저장하고,
+ * 저장 후 안읽은 알림 수를 올리고, AlarmPusher를 바로 호출해서 이 서버에 SSE로 연결된 대상에게 보낸다
+ * (다른 서버에 연결된 대상은 그 서버의 AlarmPusher가 주기적으로 읽어서 보낸다).
+ * 이벤트를 받기 전에 서버가 내려갔거나 저장에 실패한 요청은 주기적인 미처리 행 조회로 다시 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlarmOutboxConsumer {
+
+	private static final String INSERT_USER_SQL = "INSERT INTO alarm_user "
+			+ "(user_id, company_id, type, request_num, answer_num, message, status, created_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, false, ?)";
+	private static final String INSERT_COMPANY_SQL = "INSERT INTO alarm_interior "
+			+ "(company_id, user_id, type, request_num, message, status, created_at) VALUES (?, ?, ?, ?, ?, false, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final AlarmPusher alarmPusher;
+	private final UnreadAlarmCounter unreadAlarmCounter;
+
+	@Value("${alarm.outbox.batch-size:500}")
+	private int batchSize;
+
+	// 이 시간이 지나도 미처리인 행은 이벤트를 놓친 것으로 보고 다시 처리
+	@Value("${alarm.outbox.retry-after:30000}")
+	private long retryAfter;
+
+	// 처리된 행 보관 기간
+	@Value("${alarm.outbox.keep-processed:86400000}")
+	private long keepProcessed;
+
+	private final Queue<Integer> queue = new ConcurrentLinkedQueue<>();
+	// 번호 없이 배치로 기록된 요청이 있음 (다음 flush에서 미처리 행 조회)
+	private final AtomicBoolean pending = new AtomicBoolean();
+
+	// 저장 결과 (받는 사람별 새 알림 수)
+	private static class Stored {
+		Map<UUID, Integer> userCounts = new HashMap<>();
+		Map<UUID, Integer> companyCounts = new HashMap<>();
+	}
+
+	// 답변/요청글 트랜잭션이 커밋된 뒤에만 호출된다 (롤백되면 호출 안됨)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onOutbox(AlarmOutboxEvent event) {
+		if (event.getOutboxNum() == null) {
+			pending.set(true);
+		} else {
+			queue.add(event.getOutboxNum());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${alarm.outbox.flush-interval:1000}")
+	public synchronized void flush() {
+		while (!queue.isEmpty()) {
+			List<Integer> batch = new ArrayList<>();
+			Integer num;
+			while (batch.size() < batchSize && (num = queue.poll()) != null) {
+				batch.add(num);
+			}
+			if (batch.isEmpty()) break;
+			try {
+				process(batch);
+			} catch (Exception e) {
+				// 미처리로 남아 있으므로 다음 재처리 조회에서 다시 시도
+				e.printStackTrace();
+				return;
+			}
+		}
+		if (pending.getAndSet(false)) {
+			try {
+				processUnprocessed(new Timestamp(System.currentTimeMillis()));
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${alarm.outbox.sweep-interval:60000}")
+	public synchronized void sweep() {
+		try {
+			processUnprocessed(new Timestamp(System.currentTimeMillis() - retryAfter));
+			jdbcTemplate.update("DELETE FROM alarm_outbox WHERE processed = true AND created_at < ?",
+					new Timestamp(System.currentTimeMillis() - keepProcessed));
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	// before 이전에 기록된 미처리 행 (다른 서버가 처리중인 행은 store에서 잠금을 기다렸다가 건너뛴다)
+	private void processUnprocessed(Timestamp before) {
+		while (true) {
+			List<Integer> nums = jdbcTemplate.queryForList("SELECT outbox_num FROM alarm_outbox "
+					+ "WHERE processed = false AND created_at <= ? ORDER BY outbox_num LIMIT ?", Integer.class, before,
+					batchSize);
+			if (nums.isEmpty()) break;
+			process(nums);
+			if (nums.size() < batchSize) break;
+		}
+	}
+
+	private void process(List<Integer> nums) {
+		Stored stored = transactionTemplate.execute(status -> {
+			try {
+				return store(nums);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
+		if (stored == null) return;
+		stored.userCounts.forEach((userId, count) -> unreadAlarmCounter.add(AlarmOutbox.USER, userId, count));
+		stored.companyCounts.forEach((companyId, count) -> unreadAlarmCounter.add(AlarmOutbox.COMPANY, companyId, count));
+		alarmPusher.poll();
+	}
+
+	private Stored store(List<Integer> nums) throws Exception {
+		String in = String.join(",", Collections.nCopies(nums.size(), "?"));
+		// 행 잠금 후 미처리인 것만 (다른 서버가 같은 행을 처리중이면 끝날 때까지 기다렸다가 건너뛴다)
+		List<Object[]> rows = jdbcTemplate.query("SELECT outbox_num, recipient_type, recipient_id, sender_id, type, "
+				+ "request_num, answer_num, message FROM alarm_outbox WHERE processed = false AND outbox_num IN (" + in
+				+ ") FOR UPDATE", (rs, i) -> new Object[] { rs.getInt(1), rs.getString(2), rs.getBytes(3),
+						rs.getBytes(4), rs.getString(5), (Integer) rs.getObject(6), (Integer) rs.getObject(7),
+						rs.getString(8) }, nums.toArray());
+		if (rows.isEmpty()) return null;
+
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		List<Object[]> userBatch = new ArrayList<>();
+		List<Object[]> companyBatch = new ArrayList<>();
+		List<Object> done = new ArrayList<>();
+		Stored stored = new Stored();
+		for (Object[] row : rows) {
+			done.add(row[0]);
+			if (AlarmOutbox.USER.equals(row[1])) {
+				userBatch.add(new Object[] { row[2], row[3], row[4], row[5], row[6], row[7], now });
+				stored.userCounts.merge(UuidUtil.fromBytes((byte[]) row[2]), 1, Integer::sum);
+			} else {
+				companyBatch.add(new Object[] { row[2], row[3], row[4], row[5], row[7], now });
+				stored.companyCounts.merge(UuidUtil.fromBytes((byte[]) row[2]), 1, Integer::sum);
+			}
+		}
+
+
+		if (!userBatch.isEmpty()) jdbcTemplate.batchUpdate(INSERT_USER_SQL, userBatch);
+		if (!companyBatch.isEmpty()) jdbcTemplate.batchUpdate(INSERT_COMPANY_SQL, companyBatch);
+		jdbcTemplate.update("UPDATE alarm_outbox SET processed = true WHERE outbox_num IN ("
+				+ String.join(",", Collections.nCopies(done.size(), "?")) + ")", done.toArray());
+		return stored;
+	}
+
+	@PreDestroy
+	public void close() {
+		flush();
+	}
+}
@@ -0,0 +1,15 @@
+package com.kosta.geekku.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 대기 행이 기록됨 (커밋 후 AlarmOutboxConsumer가 받아서 처리).
+ * 여러 행을 JDBC 배치로 기록한 경우 번호 없이(null) 발행하고, 처리기가 미처리 행을 조회해서 처리한다.
+ */
+@Getter
+@AllArgsConstructor
+public class AlarmOutboxEvent {
+
+	private final Integer outboxNum;
+}
@@ -0,0 +1,83 @@
+package com.kosta.geekku.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kosta.geekku.entity.AlarmOutbox;
+import com.kosta.geekku.repository.AlarmOutboxRepository;
+import com.kosta.geekku.util.UuidUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 생성 요청 기록.
+ * 답변/문의/요청글 저장 트랜잭션 안에서 alarm_outbox에 행을 남기고 이벤트를 발행한다.
+ * 실제 알림 저장과 푸시는 커밋 후 AlarmOutboxConsumer가 모아서 처리하므로 답변 작성 응답이 느려지지 않고,
+ * 답변이 롤백되면 알림 요청도 같이 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlarmOutboxPublisher {
+
+	private static final String INSERT_SQL = "INSERT INTO alarm_outbox "
+			+ "(recipient_type, recipient_id, sender_id, type, request_num, message, created_at, processed) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, false)";
+
+	private final AlarmOutboxRepository alarmOutboxRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final JdbcTemplate jdbcTemplate;
+
+	// 요청글 작성자에게 새 답변 알림 (type: house, onestop, interiorAll)
+	public void answerCreated(String type, Integer requestNum, Integer answerNum, UUID userId, UUID companyId,
+			String boardName, String title) {
+		record(AlarmOutbox.builder()
+				.recipientType(AlarmOutbox.USER)
+				.recipientId(userId)
+				.senderId(companyId)
+				.type(type)
+				.requestNum(requestNum)
+				.answerNum(answerNum)
+				.message(boardName + " '" + title + "' 글에 새 답변이 등록되었습니다")
+				.build());
+	}
+
+	// 인테리어 업체에 상담 신청 알림
+	public void interiorRequested(Integer requestNum, UUID companyId, UUID userId) {
+		record(AlarmOutbox.builder()
+				.recipientType(AlarmOutbox.COMPANY)
+				.recipientId(companyId)
+				.senderId(userId)
+				.type("interiorRequest")
+				.requestNum(requestNum)
+				.message("새 인테리어 상담 신청이 등록되었습니다")
+				.build());
+	}
+
+	// 새 요청글을 지역이 맞는 기업들에게 알림 (type: house, onestop, interiorAll)
+	// 기업 수만큼 행이 생기므로 JDBC 배치로 기록하고 번호 없는 이벤트 하나만 발행
+	public void requestMatched(String type, Integer requestNum, UUID userId, Collection<UUID> companyIds,
+			String message) {
+		if (companyIds.isEmpty()) return;
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		List<Object[]> rows = new ArrayList<>();
+		for (UUID companyId : companyIds) {
+			rows.add(new Object[] { AlarmOutbox.COMPANY, UuidUtil.toBytes(companyId), UuidUtil.toBytes(userId), type,
+					requestNum, message, now });
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+		eventPublisher.publishEvent(new AlarmOutboxEvent(null));
+	}
+
+	private void record(AlarmOutbox outbox) {
+		if (outbox.getRecipientId() == null) return;
+		alarmOutboxRepository.save(outbox);
+		eventPublisher.publishEvent(new AlarmOutboxEvent(outbox.getOutboxNum()));
+	}
+}
@@ -0,0 +1,93 @@
+package com.kosta.geekku.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kosta.geekku.dto.AlarmDto;
+import com.kosta.geekku.repository.AlarmDslRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장된 알림을 이 서버에 SSE로 연결된 대상에게 보낸다 (개인/기업 알림 공통).
+ * 알림은 어느 서버에서든 저장될 수 있으므로 서버마다 주기적으로 마지막으로 확인한 알림 번호 이후를 읽어서
+ * 이 서버에 연결된 대상 것만 보낸다. 이 서버에서 저장한 알림은 저장 직후 poll()을 바로 호출한다.
+ * 알림 번호(IDENTITY)는 커밋 순서와 다를 수 있으므로 기준 번호는 settle-ms보다 오래 전에 저장된
+ * 알림까지만 올리고, 그 이후 알림은 보낸 번호를 기억해서 두 번 보내지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlarmPusher {
+
+	private static final int IN_SIZE = 1000;
+
+	private final AlarmDslRepository alarmDslRepository;
+	private final AlarmSseRegistry alarmSseRegistry;
+
+	// 저장 후 이 시간 안에는 커밋되는 것으로 본다
+	@Value("${alarm.push.settle-ms:10000}")
+	private long settleMs;
+
+	// 종류별 확인 상태 (USER, COMPANY)
+	private final Cursor userCursor = new Cursor(AlarmSseRegistry.USER);
+	private final Cursor companyCursor = new Cursor(AlarmSseRegistry.COMPANY);
+
+	private static class Cursor {
+		final String kind;
+		Integer watermark; // 이 번호 이하는 모두 확인함 (처음 poll 전에는 null)
+		final Set<Integer> sent = new HashSet<>(); // 기준 번호 이후 이미 보낸 알림
+
+		Cursor(String kind) {
+			this.kind = kind;
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${alarm.push.poll-interval:1000}")
+	public synchronized void poll() {
+		try {
+			poll(userCursor);
+			poll(companyCursor);
+		} catch (Exception e) {
+			// 다음 주기에 같은 기준 번호부터 다시 읽는다
+			e.printStackTrace();
+		}
+	}
+
+	private void poll(Cursor cursor) throws Exception {
+		boolean user = AlarmSseRegistry.USER.equals(cursor.kind);
+		if (cursor.watermark == null) {
+			// 기동 전 알림은 재연결(Last-Event-ID)/목록 조회로 받는다
+			cursor.watermark = user ? alarmDslRepository.maxUserAlarmNum() : alarmDslRepository.maxCompanyAlarmNum();
+			return;
+		}
+		Timestamp settled = new Timestamp(System.currentTimeMillis() - settleMs);
+		// 기준 번호를 먼저 구해두고 읽어야 그 사이 저장된 알림이 기준 번호 아래로 빠지지 않는다
+		Integer next = user ? alarmDslRepository.settledUserAlarmNum(cursor.watermark, settled)
+				: alarmDslRepository.settledCompanyAlarmNum(cursor.watermark, settled);
+
+		List<UUID> connected = alarmSseRegistry.connected(cursor.kind);
+		for (int i = 0; i < connected.size(); i += IN_SIZE) {
+			List<UUID> ids = new ArrayList<>(connected.subList(i, Math.min(i + IN_SIZE, connected.size())));
+			List<AlarmDto> alarms = user ? alarmDslRepository.userAlarmsFrom(cursor.watermark, ids)
+					: alarmDslRepository.companyAlarmsFrom(cursor.watermark, ids);
+			for (AlarmDto alarm : alarms) {
+				if (cursor.sent.add(alarm.getAlarmNum())) {
+					alarmSseRegistry.publish(cursor.kind, alarm.getRecipientId(), alarm);
+				}
+			}
+		}
+
+		if (next != null) {
+			cursor.watermark = next;
+			cursor.sent.removeIf(num -> num <= next);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.kosta.geekku.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Slice;
+
+import com.kosta.geekku.dto.AlarmDto;
+import com.kosta.geekku.dto.AlarmSummaryDto;
+
+public interface AlarmService {
+	Slice<AlarmDto> userAlarmList(UUID userId, String cursor, Integer size) throws Exception;
+
+	Integer userUnreadCount(UUID userId) throws Exception;
+
+	// alarmNums가 null이면 전체 읽음, 읽음 처리 후 안읽은 알림 수 반환
+	Integer markUserAlarmsRead(UUID userId, List<Integer> alarmNums) throws Exception;
+
+	// 보관 기간이 지나 정리된 알림의 일별 건수 (보관 기간 이전 days일)
+	List<AlarmSummaryDto> userAlarmSummary(UUID userId, Integer days) throws Exception;
+
+	// 기업 알림 (AlarmInterior) - 개인 알림과 같은 방식
+	Slice<AlarmDto> companyAlarmList(UUID companyId, String cursor, Integer size) throws Exception;
+
+	Integer companyUnreadCount(UUID companyId) throws Exception;
+
+	Integer markCompanyAlarmsRead(UUID companyId, List<Integer> alarmNums) throws Exception;
+
+	List<AlarmSummaryDto> companyAlarmSummary(UUID companyId, Integer days) throws Exception;
+}
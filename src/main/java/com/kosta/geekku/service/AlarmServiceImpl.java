@@ -0,0 +1,112 @@
+package com.kosta.geekku.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kosta.geekku.dto.AlarmDto;
+import com.kosta.geekku.dto.AlarmSummaryDto;
+import com.kosta.geekku.entity.AlarmDailySummary;
+import com.kosta.geekku.entity.AlarmOutbox;
+import com.kosta.geekku.repository.AlarmDailySummaryRepository;
+import com.kosta.geekku.repository.AlarmDslRepository;
+import com.kosta.geekku.util.KeysetCursor;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class AlarmServiceImpl implements AlarmService {
+
+	private final AlarmDslRepository alarmDslRepository;
+	private final UnreadAlarmCounter unreadAlarmCounter;
+	private final AlarmDailySummaryRepository alarmDailySummaryRepository;
+
+	@Value("${alarm.read.max-batch:1000}")
+	private int maxReadBatch;
+
+	@Value("${alarm.retention.max-age-days:90}")
+	private int retentionDays;
+
+	@Override
+	public Slice<AlarmDto> userAlarmList(UUID userId, String cursor, Integer size) throws Exception {
+		// size+1개를 읽어서 다음 페이지 여부 확인 (count 쿼리 없음)
+		return toSlice(alarmDslRepository.userAlarmList(userId, KeysetCursor.parse(cursor), size + 1), size);
+	}
+
+	@Override
+	public Integer userUnreadCount(UUID userId) throws Exception {
+		return unreadAlarmCounter.unread(AlarmOutbox.USER, userId);
+	}
+
+	@Transactional
+	@Override
+	public Integer markUserAlarmsRead(UUID userId, List<Integer> alarmNums) throws Exception {
+		checkReadBatch(alarmNums);
+		if (alarmNums != null && alarmNums.isEmpty()) return unreadAlarmCounter.unread(AlarmOutbox.USER, userId);
+		// 카운터는 변경 전 값으로 먼저 채워두고 (변경 후 DB에서 세면 이중으로 빠짐), 커밋 후 변경분을 뺀다
+		int unread = unreadAlarmCounter.unread(AlarmOutbox.USER, userId);
+		long changed = alarmDslRepository.markUserAlarmsRead(userId, alarmNums);
+		unreadAlarmCounter.add(AlarmOutbox.USER, userId, (int) -changed);
+		return Math.max(0, unread - (int) changed);
+	}
+
+	@Override
+	public List<AlarmSummaryDto> userAlarmSummary(UUID userId, Integer days) throws Exception {
+		return summary(AlarmOutbox.USER, userId, days);
+	}
+
+	@Override
+	public Slice<AlarmDto> companyAlarmList(UUID companyId, String cursor, Integer size) throws Exception {
+		return toSlice(alarmDslRepository.companyAlarmList(companyId, KeysetCursor.parse(cursor), size + 1), size);
+	}
+
+	@Override
+	public Integer companyUnreadCount(UUID companyId) throws Exception {
+		return unreadAlarmCounter.unread(AlarmOutbox.COMPANY, companyId);
+	}
+
+	@Transactional
+	@Override
+	public Integer markCompanyAlarmsRead(UUID companyId, List<Integer> alarmNums) throws Exception {
+		checkReadBatch(alarmNums);
+		if (alarmNums != null && alarmNums.isEmpty()) return unreadAlarmCounter.unread(AlarmOutbox.COMPANY, companyId);
+		int unread = unreadAlarmCounter.unread(AlarmOutbox.COMPANY, companyId);
+		long changed = alarmDslRepository.markCompanyAlarmsRead(companyId, alarmNums);
+		unreadAlarmCounter.add(AlarmOutbox.COMPANY, companyId, (int) -changed);
+		return Math.max(0, unread - (int) changed);
+	}
+
+	@Override
+	public List<AlarmSummaryDto> companyAlarmSummary(UUID companyId, Integer days) throws Exception {
+		return summary(AlarmOutbox.COMPANY, companyId, days);
+	}
+
+	private Slice<AlarmDto> toSlice(List<AlarmDto> alarmList, Integer size) {
+		boolean hasNext = alarmList.size() > size;
+		return new SliceImpl<>(hasNext ? alarmList.subList(0, size) : alarmList, PageRequest.of(0, size), hasNext);
+	}
+
+	private void checkReadBatch(List<Integer> alarmNums) throws Exception {
+		if (alarmNums != null && alarmNums.size() > maxReadBatch) {
+			throw new Exception("한 번에 읽음 처리할 수 있는 알림은 " + maxReadBatch + "개까지입니다");
+		}
+	}
+
+	private List<AlarmSummaryDto> summary(String recipientType, UUID recipientId, Integer days) {
+		// 요약은 보관 기간(alarm.retention.max-age-days)이 지난 날짜에만 있으므로 그 이전 days일을 조회
+		return alarmDailySummaryRepository
+				.findByRecipientTypeAndRecipientIdAndAlarmDateGreaterThanEqualOrderByAlarmDateDesc(recipientType,
+						recipientId, Date.valueOf(LocalDate.now().minusDays(retentionDays + days)))
+				.stream().map(AlarmDailySummary::toDto).collect(Collectors.toList());
+	}
+}
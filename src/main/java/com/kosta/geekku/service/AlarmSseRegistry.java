@@ -0,0 +1,219 @@
+package com.kosta.geekku.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.kosta.geekku.dto.AlarmDto;
+import com.kosta.geekku.repository.AlarmDslRepository;
+import com.kosta.geekku.util.KeysetCursor;
+
+/**
+ * 알림 실시간 전송 (SSE) 구독자 목록.
+ * 이 서버에 연결된 개인/기업별 SseEmitter를 메모리에 들고 있다가 새 알림을 바로 보낸다.
+ * 연결마다 크기가 정해진 버퍼를 두고 전송 스레드가 비우며, 버퍼가 차는 느린 연결은 끊는다
+ * (클라이언트가 Last-Event-ID로 다시 연결하면 그 이후 알림을 DB에서 다시 보낸다).
+ * 놓친 알림이 다시 보낼 수 있는 개수보다 많으면 일부만 보내지 않고 "resync" 이벤트 하나를 보내서
+ * 클라이언트가 알림 목록 API로 다시 읽게 한다 (오래된 알림이 조용히 빠지지 않도록).
+ * 주기적으로 heartbeat 주석을 보내서 프록시 타임아웃을 막고 끊긴 연결을 정리한다.
+ */
+@Component
+public class AlarmSseRegistry {
+
+	public static final String USER = "user";
+	public static final String COMPANY = "company";
+
+	private final AlarmDslRepository alarmDslRepository;
+	private final ThreadPoolTaskExecutor executor;
+
+	@Value("${alarm.sse.timeout:1800000}")
+	private long timeout;
+
+	@Value("${alarm.sse.buffer-size:100}")
+	private int bufferSize;
+
+	@Value("${alarm.sse.replay-limit:50}")
+	private int replayLimit;
+
+	// "user:아이디", "company:아이디" -> 연결들 (여러 탭/기기)
+	private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+	private class Subscriber {
+		final String key;
+		final SseEmitter emitter;
+		final BlockingQueue<SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+		final AtomicBoolean draining = new AtomicBoolean();
+
+		Subscriber(String key, SseEmitter emitter) {
+			this.key = key;
+			this.emitter = emitter;
+		}
+	}
+
+	public AlarmSseRegistry(AlarmDslRepository alarmDslRepository,
+			@Qualifier("alarmPushExecutor") ThreadPoolTaskExecutor executor) {
+		this.alarmDslRepository = alarmDslRepository;
+		this.executor = executor;
+	}
+
+	private static String key(String kind, UUID id) {
+		return kind + ":" + id;
+	}
+
+	/**
+	 * 구독 등록. lastEventId("작성시간(ms)_알림번호")가 있으면 그 이후 알림을 먼저 다시 보낸다.
+	 * 등록 후에 다시 보내므로 빠지는 알림은 없고, 겹치는 알림은 이벤트 id로 클라이언트에서 거른다.
+	 */
+	public SseEmitter subscribe(String kind, UUID id, String lastEventId) throws Exception {
+		KeysetCursor after = KeysetCursor.parse(lastEventId);
+		SseEmitter emitter = new SseEmitter(timeout);
+		Subscriber subscriber = new Subscriber(key(kind, id), emitter);
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> remove(subscriber));
+		emitter.onError(e -> remove(subscriber));
+		subscribers.computeIfAbsent(subscriber.key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+		// 연결 직후 응답 헤더를 바로 내려보내기 위한 첫 이벤트
+		offer(subscriber, SseEmitter.event().comment("connected"));
+		if (after != null) {
+			// 한 개 더 읽어서 놓친 알림이 한도를 넘는지 확인 (버퍼보다 많이 넣으면 연결이 끊기므로 버퍼 크기 안에서)
+			int limit = Math.min(replayLimit, bufferSize - 1);
+			List<AlarmDto> missed = USER.equals(kind) ? alarmDslRepository.userAlarmsAfter(id, after, limit + 1)
+					: alarmDslRepository.companyAlarmsAfter(id, after, limit + 1);
+			if (missed.size() > limit) {
+				offer(subscriber, SseEmitter.event().name("resync").data("resync"));
+			} else {
+				for (AlarmDto alarm : missed) {
+					offer(subscriber, toEvent(alarm));
+				}
+			}
+		}
+		return emitter;
+	}
+
+	public boolean isConnected(String kind, UUID id) {
+		Set<Subscriber> set = subscribers.get(key(kind, id));
+		return set != null && !set.isEmpty();
+	}
+
+	// 주어진 대상 중 이 서버에 연결된 대상
+	public List<UUID> connected(String kind, Collection<UUID> ids) {
+		List<UUID> result = new ArrayList<>();
+		for (UUID id : ids) {
+			if (isConnected(kind, id)) result.add(id);
+		}
+		return result;
+	}
+
+	// 이 서버에 연결된 모든 대상
+	public List<UUID> connected(String kind) {
+		List<UUID> result = new ArrayList<>();
+		String prefix = kind + ":";
+		for (String key : subscribers.keySet()) {
+			if (key.startsWith(prefix)) result.add(UUID.fromString(key.substring(prefix.length())));
+		}
+		return result;
+	}
+
+	// 새 알림 전송 (연결이 없으면 무시 - 다음 접속때 목록/재연결로 받는다)
+	public void publish(String kind, UUID id, AlarmDto alarm) {
+		Set<Subscriber> set = subscribers.get(key(kind, id));
+		if (set == null || set.isEmpty()) return;
+		for (Subscriber subscriber : set) {
+			offer(subscriber, toEvent(alarm));
+		}
+	}
+
+	private SseEventBuilder toEvent(AlarmDto alarm) {
+		return SseEmitter.event()
+				.id(KeysetCursor.of(alarm.getCreatedAt(), alarm.getAlarmNum()))
+				.name("alarm")
+				.data(alarm, MediaType.APPLICATION_JSON);
+	}
+
+	private void offer(Subscriber subscriber, SseEventBuilder event) {
+		if (!subscriber.buffer.offer(event)) {
+			// 버퍼가 찬 느린 연결은 끊는다 (재연결시 Last-Event-ID 이후부터 다시 받음)
+			remove(subscriber);
+			subscriber.emitter.complete();
+			return;
+		}
+		schedule(subscriber);
+	}
+
+	private void schedule(Subscriber subscriber) {
+		if (!subscriber.draining.compareAndSet(false, true)) return;
+		try {
+			executor.execute(() -> drain(subscriber));
+		} catch (RejectedExecutionException e) {
+			// 전송 스레드가 밀려 있으면 버퍼에 두고 다음 알림/heartbeat 때 다시 시도
+			subscriber.draining.set(false);
+		}
+	}
+
+	private void drain(Subscriber subscriber) {
+		try {
+			SseEventBuilder event;
+			while ((event = subscriber.buffer.poll()) != null) {
+				subscriber.emitter.send(event);
+			}
+		} catch (Exception e) {
+			// 클라이언트가 끊은 연결
+			remove(subscriber);
+			subscriber.buffer.clear();
+		} finally {
+			subscriber.draining.set(false);
+			if (!subscriber.buffer.isEmpty() && isRegistered(subscriber)) schedule(subscriber);
+		}
+	}
+
+	private boolean isRegistered(Subscriber subscriber) {
+		Set<Subscriber> set = subscribers.get(subscriber.key);
+		return set != null && set.contains(subscriber);
+	}
+
+	private void remove(Subscriber subscriber) {
+		subscribers.computeIfPresent(subscriber.key, (k, set) -> {
+			set.remove(subscriber);
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${alarm.sse.heartbeat-interval:15000}")
+	public void heartbeat() {
+		for (Set<Subscriber> set : subscribers.values()) {
+			for (Subscriber subscriber : set) {
+				offer(subscriber, SseEmitter.event().comment("heartbeat"));
+			}
+		}
+	}
+
+	@PreDestroy
+	public void close() {
+		for (Set<Subscriber> set : subscribers.values()) {
+			for (Subscriber subscriber : set) {
+				subscriber.emitter.complete();
+			}
+		}
+		subscribers.clear();
+	}
+}
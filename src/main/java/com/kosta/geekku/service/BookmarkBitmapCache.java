@@ -0,0 +1,117 @@
+package com.kosta.geekku.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kosta.geekku.entity.BookmarkType;
+import com.kosta.geekku.repository.BookmarkDslRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 북마크 번호 비트맵 캐시.
+ * (사용자, 타입)마다 북마크한 대상 번호를 RoaringBitmap 하나로 들고 있어서
+ * 목록 페이지의 하트 표시를 카드마다 조회하지 않고 한 번의 캐시 조회로 처리한다.
+ * 처음 조회할 때 DB에서 읽어오고, 이후에는 북마크 토글/저장 시점에 같이 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookmarkBitmapCache {
+
+	private final BookmarkDslRepository bookmarkDslRepository;
+
+	@Value("${bookmark.cache.max-users:10000}")
+	private int maxEntries;
+
+	// 접근 순서 LRU (오래 안 쓴 사용자부터 제거)
+	private final Map<Key, RoaringBitmap> cache = new LinkedHashMap<Key, RoaringBitmap>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, RoaringBitmap> eldest) {
+			return size() > maxEntries;
+		}
+	};
+	// 로딩 중에 변경이 있었는지 확인하기 위한 변경 횟수
+	private final AtomicLong modCount = new AtomicLong();
+
+	@lombok.Value
+	private static class Key {
+		BookmarkType type;
+		UUID userId;
+	}
+
+	// ids 순서대로 북마크 여부 반환
+	public boolean[] isBookmarked(BookmarkType type, UUID userId, Integer[] ids) throws Exception {
+		boolean[] result = new boolean[ids.length];
+		if (ids.length == 0) return result;
+		RoaringBitmap bitmap = get(type, userId);
+		synchronized (bitmap) {
+			for (int i = 0; i < ids.length; i++) {
+				result[i] = ids[i] != null && bitmap.contains(ids[i]);
+			}
+		}
+		return result;
+	}
+
+	// 토글/저장된 상태 반영 (아직 로딩하지 않은 사용자는 처음 조회할 때 DB에서 읽는다)
+	public void update(BookmarkType type, UUID userId, Integer targetNum, boolean bookmarked) {
+		modCount.incrementAndGet();
+		RoaringBitmap bitmap;
+		synchronized (cache) {
+			bitmap = cache.get(new Key(type, userId));
+		}
+		if (bitmap == null) return;
+		synchronized (bitmap) {
+			if (bookmarked) {
+				bitmap.add(targetNum);
+			} else {
+				bitmap.remove(targetNum);
+			}
+		}
+	}
+
+	public void evict(BookmarkType type, UUID userId) {
+		synchronized (cache) {
+			cache.remove(new Key(type, userId));
+		}
+	}
+
+	private RoaringBitmap get(BookmarkType type, UUID userId) throws Exception {
+		Key key = new Key(type, userId);
+		synchronized (cache) {
+			RoaringBitmap bitmap = cache.get(key);
+			if (bitmap != null) return bitmap;
+		}
+
+		long before = modCount.get();
+		RoaringBitmap loaded = new RoaringBitmap();
+		for (Integer num : load(type, userId)) {
+			loaded.add(num);
+		}
+		loaded.runOptimize();
+
+		// 로딩 도중 변경이 있었으면 이번 결과는 캐시하지 않는다 (다음 조회 때 다시 로딩)
+		if (modCount.get() != before) return loaded;
+		synchronized (cache) {
+			RoaringBitmap existing = cache.putIfAbsent(key, loaded);
+			return existing != null ? existing : loaded;
+		}
+	}
+
+	private List<Integer> load(BookmarkType type, UUID userId) throws Exception {
+		switch (type) {
+		case ESTATE:
+			return bookmarkDslRepository.findAllEstateNums(userId);
+		case INTERIOR:
+			return bookmarkDslRepository.findAllInteriorNums(userId);
+		default:
+			return bookmarkDslRepository.findAllCommunityNums(userId);
+		}
+	}
+}
@@ -4,6 +4,7 @@ import org.springframework.data.domain.Slice;
 
 import com.kosta.geekku.dto.EstateBookMarkDto;
 import com.kosta.geekku.dto.InteriorBookMarkDto;
+import com.kosta.geekku.entity.BookmarkType;
 
 public interface BookmarkService {
 
@@ -11,5 +12,7 @@ public interface BookmarkService {
 
 	Slice<InteriorBookMarkDto> mypageInteriorbookmarkList(Integer page, String userId) throws Exception;
 
+	boolean[] isBookmarked(BookmarkType type, String userId, Integer[] targetNums) throws Exception;
+
 	//Slice<CommunityBookMarkDto> mypageCommunitybookmarkList(Integer page, String userId) throws Exception;
 }
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 
 import com.kosta.geekku.dto.EstateBookMarkDto;
 import com.kosta.geekku.dto.InteriorBookMarkDto;
+import com.kosta.geekku.entity.BookmarkType;
 import com.kosta.geekku.entity.EstateBookmark;
 import com.kosta.geekku.entity.InteriorBookmark;
 import com.kosta.geekku.entity.User;
@@ -27,12 +28,14 @@ public class BookmarkServiceImpl implements BookmarkService {
 	private final UserRepository userRepository;
 	private final EstateBookmarkRepository estateBookmarkRepository;
 	private final InteriorBookmarkRepository interiorBookmarkRepository;
+	private final BookmarkWriteBuffer bookmarkWriteBuffer;
 
 	@Override
 	public Slice<EstateBookMarkDto> mypageEstatebookmarkList(Integer page, String userId) {
 		Optional<User> user = userRepository.findById(UUID.fromString(userId));
 		System.out.println(user);
 
+		bookmarkWriteBuffer.flushUser(UUID.fromString(userId)); // 버퍼에 남은 토글 먼저 저장
 		Pageable pageable = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "bookmarkEstateNum"));
 		System.out.println("pageable" + pageable);
 		Slice<EstateBookMarkDto> pageInfo = estateBookmarkRepository.findAllByUserId(UUID.fromString(userId), pageable)
@@ -46,6 +49,7 @@ public class BookmarkServiceImpl implements BookmarkService {
 		Optional<User> user = userRepository.findById(UUID.fromString(userId));
 		System.out.println(user);
 
+		bookmarkWriteBuffer.flushUser(UUID.fromString(userId)); // 버퍼에 남은 토글 먼저 저장
 		Pageable pageable = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "bookmarkInteriorNum"));
 		System.out.println("pageable" + pageable);
 		Slice<InteriorBookMarkDto> pageInfo = interiorBookmarkRepository
@@ -54,4 +58,9 @@ public class BookmarkServiceImpl implements BookmarkService {
 		return pageInfo;
 	}
 
+	@Override
+	public boolean[] isBookmarked(BookmarkType type, String userId, Integer[] targetNums) throws Exception {
+		return bookmarkWriteBuffer.isBookmarked(type, UUID.fromString(userId), targetNums);
+	}
+
 }
@@ -0,0 +1,256 @@
+package com.kosta.geekku.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kosta.geekku.entity.BookmarkType;
+import com.kosta.geekku.repository.BookmarkDslRepository;
+import com.kosta.geekku.service.CounterDeltaApplier.Counter;
+import com.kosta.geekku.util.UuidUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * 북마크 토글 쓰기 버퍼.
+ * 클릭마다 INSERT/DELETE 하지 않고 (타입, 사용자, 대상)별 최종 상태만 메모리에 모아두었다가
+ * 주기적으로 타입/사용자 단위로 묶어서 저장/삭제한다.
+ * 같은 키의 토글은 compute로 직렬화되므로 연속 클릭으로 중복 북마크가 생기지 않는다.
+ * 저장은 사용자 구간별 락으로 직렬화하므로, 한 사용자의 즉시 저장이 다른 사용자의 저장을 기다리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookmarkWriteBuffer {
+
+	private static final int LOCK_STRIPES = 64;
+
+	private final BookmarkDslRepository bookmarkDslRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final BookmarkBitmapCache bookmarkBitmapCache;
+	private final CounterDeltaApplier counterDeltaApplier;
+
+	// 아직 저장되지 않은 최종 상태 (true: 북마크, false: 해제)
+	private final Map<Key, Boolean> pending = new ConcurrentHashMap<>();
+	// 저장 중인 상태 (flush가 끝나기 전까지 읽기에 사용)
+	private final Map<Key, Boolean> inFlight = new ConcurrentHashMap<>();
+	// 사용자별 저장 락 (사용자 해시로 나눈 구간, 같은 키의 저장이 겹치지 않게 한다)
+	private final ReentrantLock[] locks = newLocks();
+
+	@Value
+	public static class Key {
+		BookmarkType type;
+		UUID userId;
+		Integer targetNum;
+	}
+
+	// 토글 후 상태 반환
+	public boolean toggle(BookmarkType type, UUID userId, Integer targetNum) throws Exception {
+		Key key = new Key(type, userId, targetNum);
+		Boolean current = bufferedState(key);
+		boolean stored = current != null ? current : loadState(key);
+		boolean state = pending.compute(key, (k, v) -> !(v != null ? v : stored));
+		bookmarkBitmapCache.update(type, userId, targetNum, state);
+		return state;
+	}
+
+	// 버퍼 기준 상태 (저장 전 변경이 없으면 null)
+	public Boolean pendingState(BookmarkType type, UUID userId, Integer targetNum) {
+		return bufferedState(new Key(type, userId, targetNum));
+	}
+
+	public boolean isBookmarked(BookmarkType type, UUID userId, Integer targetNum) throws Exception {
+		return isBookmarked(type, userId, new Integer[] { targetNum })[0];
+	}
+
+	// 목록용 일괄 확인: 비트맵 한 번 조회 + 아직 저장 안 된 토글 덮어쓰기
+	public boolean[] isBookmarked(BookmarkType type, UUID userId, Integer[] targetNums) throws Exception {
+		boolean[] result = bookmarkBitmapCache.isBookmarked(type, userId, targetNums);
+		for (int i = 0; i < targetNums.length; i++) {
+			Boolean state = bufferedState(new Key(type, userId, targetNums[i]));
+			if (state != null) result[i] = state;
+		}
+		return result;
+	}
+
+	private Boolean bufferedState(Key key) {
+		Boolean state = pending.get(key);
+		return state != null ? state : inFlight.get(key);
+	}
+
+	private boolean loadState(Key key) throws Exception {
+		List<Integer> nums = Collections.singletonList(key.getTargetNum());
+		switch (key.getType()) {
+		case ESTATE:
+			return !bookmarkDslRepository.findEstateNums(key.getUserId(), nums).isEmpty();
+		case INTERIOR:
+			return !bookmarkDslRepository.findInteriorNums(key.getUserId(), nums).isEmpty();
+		default:
+			return !bookmarkDslRepository.findCommunityNums(key.getUserId(), nums).isEmpty();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${bookmark.flush-interval:1000}")
+	public synchronized void flush() {
+		// 다른 요청이 저장 중인 구간은 건너뛴다 (그 요청이 저장하거나 다음 주기에 저장)
+		boolean[] held = new boolean[LOCK_STRIPES];
+		try {
+			for (int i = 0; i < LOCK_STRIPES; i++) {
+				held[i] = locks[i].tryLock();
+			}
+			write(drain(key -> held[stripe(key.getUserId())]));
+		} finally {
+			for (int i = 0; i < LOCK_STRIPES; i++) {
+				if (held[i]) locks[i].unlock();
+			}
+		}
+	}
+
+	// 해당 사용자의 변경만 바로 저장 (마이페이지 목록 조회 전)
+	public void flushUser(UUID userId) {
+		ReentrantLock lock = locks[stripe(userId)];
+		lock.lock();
+		try {
+			write(drain(key -> userId.equals(key.getUserId())));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void close() {
+		flush();
+	}
+
+	private static ReentrantLock[] newLocks() {
+		ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		return locks;
+	}
+
+	private static int stripe(UUID userId) {
+		return Math.floorMod(userId.hashCode(), LOCK_STRIPES);
+	}
+
+	private Map<Key, Boolean> drain(Predicate<Key> filter) {
+		Map<Key, Boolean> drained = new HashMap<>();
+		for (Key key : new ArrayList<>(pending.keySet())) {
+			if (!filter.test(key)) continue;
+			Boolean state = pending.get(key);
+			if (state == null) continue;
+			inFlight.put(key, state); // 버퍼에서 빼기 전에 먼저 넣어야 읽기 공백이 없다
+			pending.remove(key, state);
+			drained.put(key, state);
+		}
+		return drained;
+	}
+
+	private void write(Map<Key, Boolean> drained) {
+		if (drained.isEmpty()) return;
+
+		Map<Key, List<Integer>> adds = new HashMap<>();
+		Map<Key, List<Integer>> removes = new HashMap<>();
+		drained.forEach((key, state) -> {
+			Key group = new Key(key.getType(), key.getUserId(), null);
+			(state ? adds : removes).computeIfAbsent(group, g -> new ArrayList<>()).add(key.getTargetNum());
+		});
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				try {
+					for (Map.Entry<Key, List<Integer>> e : removes.entrySet()) {
+						delete(e.getKey(), e.getValue());
+					}
+					for (Map.Entry<Key, List<Integer>> e : adds.entrySet()) {
+						insert(e.getKey(), e.getValue());
+					}
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
+			// 저장이 끝난 상태를 비트맵에 다시 반영 (로딩과 겹친 경우 대비)
+			drained.forEach((key, state) -> bookmarkBitmapCache.update(key.getType(), key.getUserId(),
+					key.getTargetNum(), state));
+		} catch (Exception e) {
+			e.printStackTrace();
+			// 저장 실패시 그 사이 새 토글이 없던 키만 다시 버퍼에 넣는다
+			drained.forEach((key, state) -> pending.putIfAbsent(key, state));
+		} finally {
+			drained.keySet().forEach(inFlight::remove);
+		}
+	}
+
+	// 실제로 있던 북마크만 북마크 수를 줄인다
+	private void delete(Key group, List<Integer> targetNums) throws Exception {
+		UUID userId = group.getUserId();
+		List<Integer> existing;
+		switch (group.getType()) {
+		case ESTATE:
+			existing = bookmarkDslRepository.findEstateNums(userId, targetNums);
+			bookmarkDslRepository.deleteEstateBookmarks(userId, targetNums);
+			break;
+		case INTERIOR:
+			existing = bookmarkDslRepository.findInteriorNums(userId, targetNums);
+			bookmarkDslRepository.deleteInteriorBookmarks(userId, targetNums);
+			break;
+		default:
+			existing = bookmarkDslRepository.findCommunityNums(userId, targetNums);
+			bookmarkDslRepository.deleteCommunityBookmarks(userId, targetNums);
+		}
+		existing.forEach(num -> counterDeltaApplier.add(counterOf(group.getType()), num, -1));
+	}
+
+	// 이미 있는 북마크는 건너뛰고 나머지만 JDBC 배치 INSERT로 저장 (IDENTITY 키는 JPA saveAll이 배치되지 않음)
+	private void insert(Key group, List<Integer> targetNums) throws Exception {
+		UUID userId = group.getUserId();
+		List<Integer> newNums = new ArrayList<>(targetNums);
+		String sql;
+		switch (group.getType()) {
+		case ESTATE:
+			newNums.removeAll(bookmarkDslRepository.findEstateNums(userId, targetNums));
+			sql = "INSERT INTO estate_bookmark (user_id, estate_num) VALUES (?, ?)";
+			break;
+		case INTERIOR:
+			newNums.removeAll(bookmarkDslRepository.findInteriorNums(userId, targetNums));
+			sql = "INSERT INTO interior_bookmark (user_id, interior_num) VALUES (?, ?)";
+			break;
+		default:
+			newNums.removeAll(bookmarkDslRepository.findCommunityNums(userId, targetNums));
+			sql = "INSERT INTO community_bookmark (user_id, community_num) VALUES (?, ?)";
+		}
+		if (newNums.isEmpty()) return;
+		byte[] userBytes = UuidUtil.toBytes(userId);
+		jdbcTemplate.batchUpdate(sql, newNums, newNums.size(), (ps, num) -> {
+			ps.setBytes(1, userBytes);
+			ps.setInt(2, num);
+		});
+		newNums.forEach(num -> counterDeltaApplier.add(counterOf(group.getType()), num, 1));
+	}
+
+	private Counter counterOf(BookmarkType type) {
+		switch (type) {
+		case ESTATE:
+			return Counter.ESTATE_BOOKMARK;
+		case INTERIOR:
+			return Counter.INTERIOR_BOOKMARK;
+		default:
+			return Counter.COMMUNITY_BOOKMARK;
+		}
+	}
+}
@@ -5,11 +5,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.kosta.geekku.dto.CommunityCommentDto;
 import com.kosta.geekku.dto.CommunityDto;
 import com.kosta.geekku.dto.CommunityFilterDto;
+import com.kosta.geekku.dto.CommunitySummaryDto;
 import com.kosta.geekku.entity.Community;
 import com.kosta.geekku.entity.Estate;
 import com.kosta.geekku.entity.User;
+import com.kosta.geekku.util.PageInfo;
 
 public interface CommunityService {
     // 커뮤니티 리스트 조회 + 페이징
@@ -30,14 +33,16 @@ public interface CommunityService {
     // 커뮤니티 북마크 등록
     boolean toggleCommunityBookmark(String userId, Integer communityNum) throws Exception;
     
-    // 커뮤니티 댓글 작성
-    void createComment(Integer communityId, String userId, String content) throws Exception;
-    // 커뮤니티 댓글 삭제
+    // 커뮤니티 댓글 작성 (parentNum이 있으면 답글)
+    void createComment(Integer communityId, String userId, String content, Integer parentNum) throws Exception;
+    // 커뮤니티 댓글 삭제 (답글 포함)
     void deleteComment(Integer commentId) throws Exception;
+    // 커뮤니티 댓글 트리 조회 + 페이징
+    List<CommunityCommentDto> getCommentList(PageInfo pageInfo, Integer communityNum) throws Exception;
     
     User getUserProfile(String user) throws Exception;
     
-    List<Community> getUserCommunities(String userId) throws Exception;
+    Page<CommunitySummaryDto> getUserCommunities(String userId, Pageable pageable) throws Exception;
 
     // 메인화면 - 집들이 조회수 순 3개
     List<CommunityDto> getCommunityListForMain() throws Exception;
@@ -2,7 +2,10 @@ package com.kosta.geekku.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -17,17 +20,22 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.kosta.geekku.dto.CommunityCommentDto;
 import com.kosta.geekku.dto.CommunityDto;
 import com.kosta.geekku.dto.CommunityFilterDto;
+import com.kosta.geekku.dto.CommunitySummaryDto;
+import com.kosta.geekku.entity.BookmarkType;
 import com.kosta.geekku.entity.Community;
-import com.kosta.geekku.entity.CommunityBookmark;
 import com.kosta.geekku.entity.CommunityComment;
 import com.kosta.geekku.entity.User;
 import com.kosta.geekku.repository.CommunityBookmarkRepository;
+import com.kosta.geekku.repository.CommunityCommentDslRepository;
 import com.kosta.geekku.repository.CommunityCommentRepository;
 import com.kosta.geekku.repository.CommunityRepository;
 import com.kosta.geekku.repository.UserRepository;
+import com.kosta.geekku.service.CounterDeltaApplier.Counter;
 import com.kosta.geekku.util.CommunitySpecification;
+import com.kosta.geekku.util.PageInfo;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +47,9 @@ public class CommunityServiceImpl implements CommunityService {
 	private final CommunityBookmarkRepository communityBookmarkRepository;
 	private final UserRepository userRepository;
 	private final CommunityCommentRepository communityCommentRepository;
+	private final CommunityCommentDslRepository communityCommentDslRepository;
+	private final CounterDeltaApplier counterDeltaApplier;
+	private final BookmarkWriteBuffer bookmarkWriteBuffer;
 
 	@Value("${upload.path}")
 	private String uploadPath;
@@ -161,40 +172,48 @@ public class CommunityServiceImpl implements CommunityService {
 	}
 
 	@Override
-	@Transactional
 	public boolean toggleCommunityBookmark(String userId, Integer communityNum) throws Exception {
-		CommunityBookmark existingBookmark = communityBookmarkRepository
-				.findByUserUserIdAndCommunityCommunityNum(UUID.fromString(userId), communityNum);
-		if (existingBookmark == null) {
-		//	User user = userRepository.findById(UUID.fromString(userId))
-		//			.orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
-
-			User user = userRepository.findByUserId(UUID.fromString(userId));
-//					.orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다.")); <- 수정함
-
-			Community community = communityRepository.findByCommunityNum(communityNum)
-					.orElseThrow(() -> new IllegalArgumentException("해당 커뮤니티를 찾을 수 없습니다."));
-			communityBookmarkRepository.save(CommunityBookmark.builder().user(user).community(community).build());
-			return true; // 북마크 활성화
-		} else {
-			communityBookmarkRepository.delete(existingBookmark);
-			return false; // 북마크 비활성화
+		if (!communityRepository.existsById(communityNum)) {
+			throw new IllegalArgumentException("해당 커뮤니티를 찾을 수 없습니다.");
 		}
+		// 쓰기 버퍼에 상태만 반영하고 저장은 모아서 처리
+		return bookmarkWriteBuffer.toggle(BookmarkType.COMMUNITY, UUID.fromString(userId), communityNum);
 	}
 
 	@Transactional
 	@Override
-	public void createComment(Integer communityId, String userId, String content) throws Exception {
+	public void createComment(Integer communityId, String userId, String content, Integer parentNum) throws Exception {
 		// 커뮤니티 게시글 확인
 		Community community = communityRepository.findById(communityId)
 				.orElseThrow(() -> new Exception("해당 커뮤니티 글을 찾을 수 없습니다."));
 		// 사용자 확인
 		User user = userRepository.findById(UUID.fromString(userId))
 				.orElseThrow(() -> new Exception("해당 사용자를 찾을 수 없습니다."));
-		// 댓글 엔티티 생성 및 저장
-		CommunityComment comment = CommunityComment.builder().community(community).user(user).content(content).build();
 
+		// 답글이면 부모 댓글 확인
+		CommunityComment parent = null;
+		if (parentNum != null) {
+			parent = communityCommentRepository.findById(parentNum)
+					.orElseThrow(() -> new Exception("부모 댓글을 찾을 수 없습니다."));
+			if (!parent.getCommunity().getCommunityNum().equals(communityId)) {
+				throw new Exception("다른 게시글의 댓글에는 답글을 달 수 없습니다.");
+			}
+			if (parent.getDepth() != null && parent.getDepth() >= CommunityComment.MAX_DEPTH) {
+				throw new Exception("더 이상 답글을 달 수 없습니다.");
+			}
+		}
+
+		// 댓글 엔티티 생성 및 저장
+		CommunityComment comment = CommunityComment.builder().community(community).user(user).content(content)
+				.parentNum(parentNum).depth(parent == null || parent.getDepth() == null ? 0 : parent.getDepth() + 1)
+				.build();
 		communityCommentRepository.save(comment);
+
+		// 번호가 생성된 후 경로 지정 (트랜잭션 종료시 반영)
+		String parentPath = parent == null ? "" : parent.treePath();
+		comment.setPath(parentPath + CommunityComment.pathSegment(comment.getCommentNum()));
+
+		counterDeltaApplier.add(Counter.COMMUNITY_COMMENT, communityId, 1);
 	}
 
 	@Transactional
@@ -203,8 +222,42 @@ public class CommunityServiceImpl implements CommunityService {
 		// 댓글 존재 여부 확인
 		CommunityComment comment = communityCommentRepository.findById(commentId)
 				.orElseThrow(() -> new Exception("해당 댓글을 찾을 수 없습니다."));
-		// 댓글 삭제
-		communityCommentRepository.delete(comment);
+		Integer communityNum = comment.getCommunity().getCommunityNum();
+		// 댓글 + 답글 삭제
+		Long deleted = communityCommentDslRepository.deleteCommentTree(communityNum, comment.treePath());
+		counterDeltaApplier.add(Counter.COMMUNITY_COMMENT, communityNum, -deleted);
+	}
+
+	@Override
+	public List<CommunityCommentDto> getCommentList(PageInfo pageInfo, Integer communityNum) throws Exception {
+		Community community = communityRepository.findById(communityNum)
+				.orElseThrow(() -> new Exception("해당 커뮤니티 글을 찾을 수 없습니다."));
+		PageRequest pageRequest = PageRequest.of(pageInfo.getCurPage() - 1, pageInfo.getPageSize());
+
+		// path 순서로 정렬된 한 페이지를 트리로 조립
+		List<CommunityCommentDto> commentList = communityCommentDslRepository.commentTreeByPaging(communityNum,
+				pageRequest);
+		Map<Integer, CommunityCommentDto> commentMap = new HashMap<>();
+		List<CommunityCommentDto> tree = new ArrayList<>();
+		for (CommunityCommentDto comment : commentList) {
+			commentMap.put(comment.getCommentNum(), comment);
+			CommunityCommentDto parent = comment.getParentNum() == null ? null
+					: commentMap.get(comment.getParentNum());
+			if (parent == null) {
+				tree.add(comment); // 최상위 댓글 또는 부모가 이전 페이지에 있는 답글
+			} else {
+				parent.getChildren().add(comment);
+			}
+		}
+
+		// 전체 개수는 게시글의 댓글 수로 계산 (count 쿼리 없음)
+		Long allCnt = community.getCommentCount() == null ? 0L : community.getCommentCount().longValue();
+		Integer allPage = (int) (Math.ceil(allCnt.doubleValue() / pageRequest.getPageSize()));
+		pageInfo.setAllPage(allPage);
+		pageInfo.setTotalCount(allCnt);
+		pageInfo.calculatePages();
+
+		return tree;
 	}
 
 	@Override
@@ -213,10 +266,13 @@ public class CommunityServiceImpl implements CommunityService {
 	}
 
 	@Override
-	public List<Community> getUserCommunities(String userId) throws Exception {
-		List<Community> communities = communityRepository.findAllByUser_UserId(UUID.fromString(userId));
-		return communities.stream().map(community -> Community.builder().title(community.getTitle())
-				.viewCount(community.getViewCount()).build()).collect(Collectors.toList());
+	public Page<CommunitySummaryDto> getUserCommunities(String userId, Pageable pageable) throws Exception {
+		// 최신 글부터 (정렬 지정이 없을 때)
+		if (pageable.getSort().isUnsorted()) {
+			pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+					Sort.by(Sort.Direction.DESC, "createdAt"));
+		}
+		return communityRepository.findSummaryByUserId(UUID.fromString(userId), pageable);
 	}
 
 
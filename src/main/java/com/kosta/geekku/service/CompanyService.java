@@ -5,9 +5,12 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.kosta.geekku.dto.CompanyDto;
+import com.kosta.geekku.dto.InboxItemDto;
+import com.kosta.geekku.dto.MyAnswerItemDto;
 import com.kosta.geekku.entity.Estate;
 import com.kosta.geekku.entity.HouseAnswer;
 import com.kosta.geekku.entity.OnestopAnswer;
@@ -22,4 +25,7 @@ public interface CompanyService {
 	void deleteEstateCommunity(Integer estateId) throws Exception;
 	Page<HouseAnswer> getAnswersByCompanyId(UUID companyId, Pageable pageable) throws Exception;
 	Page<OnestopAnswer> getOnestopAnswersByCompanyId(UUID companyId, Pageable pageable) throws Exception;
+	Slice<InboxItemDto> companyInbox(UUID companyId, String cursor, Integer size) throws Exception;
+
+	Slice<MyAnswerItemDto> companyAnswers(UUID companyId, String cursor, Integer size) throws Exception;
 }
@@ -2,27 +2,41 @@ package com.kosta.geekku.service;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.kosta.geekku.config.auth.PrincipalCache;
 import com.kosta.geekku.dto.CompanyDto;
+import com.kosta.geekku.dto.InboxItemDto;
+import com.kosta.geekku.dto.MyAnswerItemDto;
 import com.kosta.geekku.entity.Company;
 import com.kosta.geekku.entity.Estate;
 import com.kosta.geekku.entity.HouseAnswer;
 import com.kosta.geekku.entity.OnestopAnswer;
 import com.kosta.geekku.entity.UFile;
+import com.kosta.geekku.repository.CompanyAnswerDslRepository;
 import com.kosta.geekku.repository.CompanyRepository;
 import com.kosta.geekku.repository.EstateRepository;
 import com.kosta.geekku.repository.HouseAnswerRepository;
+import com.kosta.geekku.repository.InboxDslRepository;
+import com.kosta.geekku.repository.InteriorRepository;
 import com.kosta.geekku.repository.OnestopAnswerRepository;
 import com.kosta.geekku.repository.UFileRepository;
+import com.kosta.geekku.util.FeedCursor;
+import com.kosta.geekku.util.FeedMerger;
+import com.kosta.geekku.util.RegionUtil;
 
 @Service
 public class CompanyServiceImpl implements CompanyService {
@@ -37,6 +51,16 @@ public class CompanyServiceImpl implements CompanyService {
 	private OnestopAnswerRepository onestopAnswerRepository;
 	@Autowired
 	private UFileRepository uFileRepository;
+	@Autowired
+	private InteriorRepository interiorRepository;
+	@Autowired
+	private InboxDslRepository inboxDslRepository;
+	@Autowired
+	private CompanyAnswerDslRepository companyAnswerDslRepository;
+	@Autowired
+	private RequestMatchingEngine requestMatchingEngine;
+	@Autowired
+	private PrincipalCache principalCache;
 	
 	@Value("${upload.path}")
 	private String uploadPath;
@@ -67,6 +91,7 @@ public class CompanyServiceImpl implements CompanyService {
 		}
 
 		companyRepository.save(company);
+		requestMatchingEngine.refresh(company.getCompanyId());
 	}
 
 	private boolean isNullOrEmpty(String str) {
@@ -96,6 +121,8 @@ public class CompanyServiceImpl implements CompanyService {
 		if(companyDto.getEmail() != null) company.setEmail(companyDto.getEmail());
 		if(companyDto.getCompanyCertificationImage() != null) company.setCompanyCertificationImage(companyDto.getCompanyCertificationImage());
 		companyRepository.save(company);
+		principalCache.evict(companyId);
+		if (companyDto.getCompanyAddress() != null) requestMatchingEngine.refresh(companyId);
 	}
 
 	@Override 
@@ -132,5 +159,94 @@ public class CompanyServiceImpl implements CompanyService {
         return onestopAnswerRepository.findByCompanyId(companyId, pageable);
     }
 
+	@Override
+	public Slice<InboxItemDto> companyInbox(UUID companyId, String cursor, Integer size) throws Exception {
+		Company company = companyRepository.findById(companyId).orElseThrow(() -> new Exception("기업 정보 없음"));
+		List<String> regions = companyRegions(company);
+		FeedCursor feedCursor = FeedCursor.parse(cursor);
+
+		// 게시판별로 size+1개씩 (인덱스 seek 한번) 읽어서 작성시간 순으로 합친다
+		int limit = size + 1;
+		List<List<InboxItemDto>> sources = new ArrayList<>();
+		sources.add(tag(inboxDslRepository.houseInbox(regions, feedCursor, limit), "house", InboxDslRepository.HOUSE));
+		sources.add(tag(inboxDslRepository.onestopInbox(regions, feedCursor, limit), "onestop",
+				InboxDslRepository.ONESTOP));
+		sources.add(tag(inboxDslRepository.interiorAllInbox(regions, feedCursor, limit), "interiorAll",
+				InboxDslRepository.INTERIOR_ALL));
+
+		// (작성시간 desc, 출처 desc, 글번호 desc) - FeedCursor와 같은 순서
+		Comparator<InboxItemDto> order = Comparator.comparing(InboxItemDto::getCreatedAt)
+				.thenComparing(item -> sourceOrder(item.getSource())).thenComparing(InboxItemDto::getNum).reversed();
+		List<InboxItemDto> inbox = FeedMerger.merge(sources, order, limit);
+
+		boolean hasNext = inbox.size() > size;
+		if (hasNext) inbox.remove(inbox.size() - 1);
+		return new SliceImpl<>(inbox, PageRequest.of(0, size), hasNext);
+	}
+
+	@Override
+	public Slice<MyAnswerItemDto> companyAnswers(UUID companyId, String cursor, Integer size) throws Exception {
+		FeedCursor feedCursor = FeedCursor.parse(cursor);
+
+		// 답변 테이블별로 (companyId, createdAt) 인덱스에서 size+1개씩만 읽고 합친다 (count 쿼리 없음)
+		int limit = size + 1;
+		List<List<MyAnswerItemDto>> sources = new ArrayList<>();
+		sources.add(tagAnswers(companyAnswerDslRepository.houseAnswers(companyId, feedCursor, limit), "house",
+				InboxDslRepository.HOUSE));
+		sources.add(tagAnswers(companyAnswerDslRepository.onestopAnswers(companyId, feedCursor, limit), "onestop",
+				InboxDslRepository.ONESTOP));
+		sources.add(tagAnswers(companyAnswerDslRepository.interiorAllAnswers(companyId, feedCursor, limit),
+				"interiorAll", InboxDslRepository.INTERIOR_ALL));
+
+		Comparator<MyAnswerItemDto> order = Comparator.comparing(MyAnswerItemDto::getCreatedAt)
+				.thenComparing(item -> sourceOrder(item.getSource())).thenComparing(MyAnswerItemDto::getAnswerNum)
+				.reversed();
+		List<MyAnswerItemDto> answers = FeedMerger.merge(sources, order, limit);
+
+		boolean hasNext = answers.size() > size;
+		if (hasNext) answers.remove(answers.size() - 1);
+		return new SliceImpl<>(answers, PageRequest.of(0, size), hasNext);
+	}
+
+	private List<MyAnswerItemDto> tagAnswers(List<MyAnswerItemDto> items, String source, int sourceOrder) {
+		for (MyAnswerItemDto item : items) {
+			item.setSource(source);
+			item.setCursor(FeedCursor.of(item.getCreatedAt(), sourceOrder, item.getAnswerNum()));
+		}
+		return items;
+	}
+
+	// 인테리어 업체는 시공 가능 지역, 중개업체는 사무소 주소 기준 (정보가 없으면 전체)
+	private List<String> companyRegions(Company company) {
+		List<String> regions;
+		if ("interior".equals(company.getType()) || "인테리어".equals(company.getType())) {
+			regions = interiorRepository.findByCompany_CompanyId(company.getCompanyId())
+					.map(interior -> RegionUtil.regionsOf(interior.getPossibleLocation()))
+					.orElse(new ArrayList<>());
+		} else {
+			regions = RegionUtil.regionsOf(company.getCompanyAddress());
+		}
+		return regions.isEmpty() ? null : regions;
+	}
+
+	private List<InboxItemDto> tag(List<InboxItemDto> items, String source, int sourceOrder) {
+		for (InboxItemDto item : items) {
+			item.setSource(source);
+			item.setCursor(FeedCursor.of(item.getCreatedAt(), sourceOrder, item.getNum()));
+		}
+		return items;
+	}
+
+	private int sourceOrder(String source) {
+		switch (source) {
+		case "house":
+			return InboxDslRepository.HOUSE;
+		case "onestop":
+			return InboxDslRepository.ONESTOP;
+		default:
+			return InboxDslRepository.INTERIOR_ALL;
+		}
+	}
+
 
 }
@@ -0,0 +1,136 @@
+package com.kosta.geekku.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kosta.geekku.scheduler.JobLock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비정규화 카운터(북마크 수, 댓글 수) 증감 적용기.
+ * 북마크 토글/댓글 작성 트랜잭션에서는 증감값만 메모리에 더해두고,
+ * 주기적으로 대상별로 합쳐진 값을 UPDATE 배치 한 번으로 반영한다.
+ * 트랜잭션 안에서 호출되면 커밋된 뒤에만 반영된다 (롤백시 버림).
+ * 어느 서버에서든 야간 정합성 작업(CounterReconcileJob)이 실행중이면 증감을 더하지 않고 해당 대상만 원본 테이블에서 다시 센다
+ * (정합성 작업이 센 값에 이미 들어간 증감을 한 번 더 더하지 않게).
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterDeltaApplier {
+
+	@Getter
+	@RequiredArgsConstructor
+	public enum Counter {
+		// (카운터 테이블, PK, 카운터 컬럼, 원본 테이블, 원본 FK)
+		ESTATE_BOOKMARK("estate", "estate_num", "bookmark_count", "estate_bookmark", "estate_num"),
+		INTERIOR_BOOKMARK("interior", "interior_num", "bookmark_count", "interior_bookmark", "interior_num"),
+		COMMUNITY_BOOKMARK("community", "community_num", "bookmark_count", "community_bookmark", "community_num"),
+		COMMUNITY_COMMENT("community", "community_num", "comment_count", "community_comment", "community_num"),
+		// 답변 수는 답변 작성/삭제 트랜잭션에서 바로 갱신하고, 야간 정합성 작업만 같이 사용
+		HOUSE_ANSWER("house", "house_num", "answer_count", "house_answer", "house_num"),
+		ONESTOP_ANSWER("onestop", "onestop_num", "answer_count", "onestop_answer", "one_stop_num"),
+		INTERIOR_ALL_ANSWER("interior_all_request", "request_all_num", "answer_count", "interior_all_answer",
+				"request_all_num");
+
+		private final String table;
+		private final String idColumn;
+		private final String countColumn;
+		private final String sourceTable;
+		private final String sourceColumn;
+	}
+
+	// 정합성 작업 잠금 이름 (JobLock)
+	public static final String RECONCILE_LOCK = "counter_reconcile";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final JobLock jobLock;
+
+	private final Map<Counter, Map<Integer, Long>> deltas = new ConcurrentHashMap<>();
+
+	public void add(Counter counter, Integer targetNum, long delta) {
+		if (delta == 0) return;
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					accumulate(counter, targetNum, delta);
+				}
+			});
+		} else {
+			accumulate(counter, targetNum, delta);
+		}
+	}
+
+	private void accumulate(Counter counter, Integer targetNum, long delta) {
+		deltas.computeIfAbsent(counter, c -> new ConcurrentHashMap<>()).merge(targetNum, delta, Long::sum);
+	}
+
+	@Scheduled(fixedDelayString = "${counter.flush-interval:5000}")
+	public synchronized void flush() {
+		if (deltas.values().stream().allMatch(Map::isEmpty)) return;
+		boolean recount;
+		try {
+			recount = jobLock.isRunning(RECONCILE_LOCK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return;
+		}
+		for (Counter counter : Counter.values()) {
+			Map<Integer, Long> byTarget = deltas.get(counter);
+			if (byTarget == null || byTarget.isEmpty()) continue;
+
+			List<Object[]> batch = new ArrayList<>();
+			for (Integer targetNum : new ArrayList<>(byTarget.keySet())) {
+				// 꺼내면서 지우므로 그 사이 들어온 증감은 다음 flush에 반영된다
+				Long delta = byTarget.remove(targetNum);
+				if (delta != null && delta != 0) batch.add(new Object[] { delta, targetNum });
+			}
+			if (batch.isEmpty()) continue;
+
+			try {
+				if (recount) {
+					List<Object[]> targets = new ArrayList<>();
+					batch.forEach(row -> targets.add(new Object[] { row[1] }));
+					jdbcTemplate.batchUpdate(recountSql(counter), targets);
+				} else {
+					jdbcTemplate.batchUpdate("UPDATE " + counter.getTable() + " SET " + counter.getCountColumn() + " = "
+							+ counter.getCountColumn() + " + ? WHERE " + counter.getIdColumn() + " = ?", batch);
+				}
+			} catch (Exception e) {
+				e.printStackTrace();
+				// 실패한 증감은 다시 쌓아둔다
+				batch.forEach(row -> accumulate(counter, (Integer) row[1], (Long) row[0]));
+			}
+		}
+	}
+
+	// 대상 하나를 원본 테이블 개수로 다시 세는 UPDATE (파라미터: 대상 번호), 쓰는 시점의 개수라 동시에 실행돼도 정확하다
+	public static String recountSql(Counter counter) {
+		return "UPDATE " + counter.getTable() + " t SET t." + counter.getCountColumn() + " = (SELECT COUNT(*) FROM "
+				+ counter.getSourceTable() + " s WHERE s." + counter.getSourceColumn() + " = t." + counter.getIdColumn()
+				+ ") WHERE t." + counter.getIdColumn() + " = ?";
+	}
+
+	// 정합성 작업 중에는 증감 반영을 멈추기 위해 같은 락에서 실행
+	public synchronized void runExclusive(Runnable task) {
+		flush();
+		task.run();
+	}
+
+	@PreDestroy
+	public void close() {
+		flush();
+	}
+}
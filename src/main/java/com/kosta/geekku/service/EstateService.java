@@ -15,7 +15,7 @@ public interface EstateService {
 	List<EstateDto> estateList(PageInfo page, String type, String keyword) throws Exception;
 	List<EstateDto> estateListForMain() throws Exception;
 	void estateDelete(Integer estateNum) throws Exception;
-	Integer checkBookmark(String userId, Integer estateNum) throws Exception;
+	boolean checkBookmark(String userId, Integer estateNum) throws Exception;
 	boolean toggleBookmark(String userId, Integer estateNum) throws Exception;
 	
 	// 마이페이지 - 중개업자 매물 등록 내역
@@ -11,8 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.kosta.geekku.dto.EstateDto;
+import com.kosta.geekku.entity.BookmarkType;
 import com.kosta.geekku.entity.Estate;
-import com.kosta.geekku.entity.EstateBookmark;
 import com.kosta.geekku.entity.EstateImage;
 import com.kosta.geekku.repository.EstateBookmarkRepository;
 import com.kosta.geekku.repository.EstateDslRepository;
@@ -30,6 +30,7 @@ public class EstateServiceImpl implements EstateService {
 	private final EstateImageRepository estateImageRepository;
 	private final EstateBookmarkRepository estateBookmarkRepository;
 	private final EstateDslRepository estateDslRepository;
+	private final BookmarkWriteBuffer bookmarkWriteBuffer;
 
 	@Value("${upload.path}")
 	private String uploadPath;
@@ -112,25 +113,18 @@ public class EstateServiceImpl implements EstateService {
 	}
 
 	@Override
-	public Integer checkBookmark(String userId, Integer estateNum) throws Exception {
-		EstateBookmark estateBookmark = estateBookmarkRepository.findByEstateNumAndUserId(estateNum,
-				UUID.fromString(userId));
-		return estateBookmark.getBookmarkEstateNum();
+	public boolean checkBookmark(String userId, Integer estateNum) throws Exception {
+		UUID uuid = UUID.fromString(userId);
+		// 조회만 한다 (저장 전 버퍼 상태가 있으면 그 상태)
+		Boolean pending = bookmarkWriteBuffer.pendingState(BookmarkType.ESTATE, uuid, estateNum);
+		if (pending != null) return pending;
+		return estateBookmarkRepository.findByEstateNumAndUserId(estateNum, uuid) != null;
 	}
 
 	@Override
 	public boolean toggleBookmark(String userId, Integer estateNum) throws Exception {
-		EstateBookmark estateBookmark = estateBookmarkRepository.findByEstateNumAndUserId(estateNum,
-				UUID.fromString(userId));
-
-		if (estateBookmark == null) {
-			estateBookmarkRepository
-					.save(EstateBookmark.builder().userId(UUID.fromString(userId)).estateNum(estateNum).build());
-			return true;
-		} else {
-			estateBookmarkRepository.deleteById(estateBookmark.getBookmarkEstateNum());
-			return false;
-		}
+		// 쓰기 버퍼에 상태만 반영하고 저장은 모아서 처리
+		return bookmarkWriteBuffer.toggle(BookmarkType.ESTATE, UUID.fromString(userId), estateNum);
 	}
 
 	@Override
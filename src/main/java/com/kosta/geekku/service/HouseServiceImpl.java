@@ -19,10 +19,12 @@ import com.kosta.geekku.entity.Company;
 import com.kosta.geekku.entity.House;
 import com.kosta.geekku.entity.HouseAnswer;
 import com.kosta.geekku.entity.User;
+import com.kosta.geekku.repository.BoardQueryEngine;
 import com.kosta.geekku.repository.CompanyRepository;
 import com.kosta.geekku.repository.HouseAnswerRepository;
 import com.kosta.geekku.repository.HouseDslRepository;
 import com.kosta.geekku.repository.HouseRepository;
+import com.kosta.geekku.repository.RequestArchiveRepository;
 import com.kosta.geekku.repository.UserRepository;
 import com.kosta.geekku.util.PageInfo;
 
@@ -37,25 +39,35 @@ public class HouseServiceImpl implements HouseService {
 	private final UserRepository userRepository;
 	private final HouseAnswerRepository houseAnswerRepository;
 	private final CompanyRepository companyRepository;
+	private final BoardQueryEngine boardQueryEngine;
+	private final RequestMatchingEngine requestMatchingEngine;
+	private final AlarmOutboxPublisher alarmOutboxPublisher;
+	private final RequestArchiveRepository requestArchiveRepository;
 
+	@Transactional
 	@Override
 	public Integer houseWrite(HouseDto houseDto) throws Exception {
-		House house = houseDto.toEntity();
-
 		User user = userRepository.findById(houseDto.getUserId())
 				.orElseThrow(() -> new RuntimeException("User not found"));
-		House house = houseDto.toEntity(user);
-
+		House house = houseDto.toEntity();
+		house.setUser(user);
 
 		houseRepository.save(house);
-		
+		boardQueryEngine.evictCounts(HouseDslRepository.HOUSE_BOARD.getName());
+		requestMatchingEngine.notifyNewRequest("house", house.getHouseNum(), user.getUserId(), house.getAddress1(),
+				house.getTitle());
+
 		return house.getHouseNum();
 	}
 
 	@Transactional
 	@Override
 	public HouseDto houseDetail(Integer houseNum) throws Exception {
-		House house = houseRepository.findById(houseNum).orElseThrow(() -> new Exception("집꾸 글번호 오류"));
+		House house = houseRepository.findById(houseNum).orElse(null);
+		if (house == null) {
+			// 보관된 글은 조회수 갱신 없이 보관 테이블에서 읽는다
+			return requestArchiveRepository.findHouse(houseNum).orElseThrow(() -> new Exception("집꾸 글번호 오류"));
+		}
 		houseDslRepository.updateHouseViewCount(houseNum, house.getViewCount() + 1);
 		return house.toDto();
 	}
@@ -63,18 +75,11 @@ public class HouseServiceImpl implements HouseService {
 	@Override
 	public List<HouseDto> houseList(PageInfo pageInfo, String type, String keyword) throws Exception {
 		PageRequest pageRequest = PageRequest.of(pageInfo.getCurPage() - 1, 10);
-		List<HouseDto> houseDtoList = null;
-		Long allCnt = 0L;
-
-		if (keyword == null || keyword.trim().equals("")) {
-			houseDtoList = houseDslRepository.findHouseListByPaging(pageRequest).stream().map(h -> h.toDto())
-					.collect(Collectors.toList());
-			allCnt = houseDslRepository.findHouseCount();
-		} else {
-			houseDtoList = houseDslRepository.searchHouseListByPaging(pageRequest, type, keyword).stream()
-					.map(h -> h.toDto()).collect(Collectors.toList());
-			allCnt = houseDslRepository.searchHouseCount(type, keyword);
-		}
+		// 검색어가 없으면 전체 목록
+		Page<House> housePage = houseDslRepository.searchHouseList(pageRequest, type, keyword);
+		List<HouseDto> houseDtoList = housePage.getContent().stream().map(h -> h.toDto())
+				.collect(Collectors.toList());
+		Long allCnt = housePage.getTotalElements();
 
 		Integer allPage = (int) (Math.ceil(allCnt.doubleValue() / pageRequest.getPageSize()));
 		Integer startPage = (pageInfo.getCurPage() - 1) / 10 * 10 + 1;
@@ -91,25 +96,41 @@ public class HouseServiceImpl implements HouseService {
 	public void houseDelete(Integer houseNum) throws Exception {
 		houseRepository.findById(houseNum).orElseThrow(() -> new Exception("집꾸 글번호 오류"));
 		houseRepository.deleteById(houseNum);
+		boardQueryEngine.evictCounts(HouseDslRepository.HOUSE_BOARD.getName());
 	}
 
+	@Transactional
 	@Override
 	public Integer houseAnswerWrite(HouseAnswerDto houseAnswerDto) throws Exception {
 		House house = houseRepository.findById(houseAnswerDto.getHouseNum()).orElseThrow(() -> new Exception("집꾸 글번호 오류"));
 		HouseAnswer houseAnswer = houseAnswerDto.toEntity();
+		houseAnswer.setHouse(house);
 		houseAnswerRepository.save(houseAnswer);
+		houseDslRepository.updateHouseAnswerCount(house.getHouseNum(), 1);
+		alarmOutboxPublisher.answerCreated("house", house.getHouseNum(), houseAnswer.getAnswerHouseNum(),
+				house.getUser().getUserId(), houseAnswerDto.getCompanyId(), "집꾸", house.getTitle());
 		return houseAnswer.getAnswerHouseNum();
 	}
 
 	@Transactional
 	@Override
 	public List<HouseAnswerDto> houseAnswerList(PageInfo pageInfo, Integer houseNum) throws Exception {
-		House house = houseRepository.findById(houseNum).orElseThrow(() -> new Exception("집꾸 글번호 오류"));
 		PageRequest pageRequest = PageRequest.of(pageInfo.getCurPage() - 1, 10);
-
-		List<HouseAnswerDto> houseAnswerDtoList = houseDslRepository.houseAnswerListByPaging(pageRequest).stream()
-				.map(a -> a.toDto()).collect(Collectors.toList());
-		Long cnt = houseDslRepository.houseAnswerCount();
+		House house = houseRepository.findById(houseNum).orElse(null);
+		List<HouseAnswerDto> houseAnswerDtoList;
+		Integer answerCount;
+		if (house != null) {
+			houseAnswerDtoList = houseDslRepository.houseAnswerListByPaging(houseNum, pageRequest).stream()
+					.map(a -> a.toDto()).collect(Collectors.toList());
+			answerCount = house.getAnswerCount();
+		} else {
+			// 보관된 글이면 답변도 보관 테이블에서
+			answerCount = requestArchiveRepository.findHouse(houseNum)
+					.orElseThrow(() -> new Exception("집꾸 글번호 오류")).getAnswerCount();
+			houseAnswerDtoList = requestArchiveRepository.findHouseAnswers(houseNum, pageRequest.getPageSize(),
+					pageRequest.getOffset());
+		}
+		Long cnt = answerCount == null ? 0L : answerCount.longValue();
 
 		Integer allPage = (int) (Math.ceil(cnt.doubleValue() / pageRequest.getPageSize()));
 		Integer startPage = (pageInfo.getCurPage() - 1) / 10 * 10 + 1;
@@ -118,6 +139,7 @@ public class HouseServiceImpl implements HouseService {
 		pageInfo.setAllPage(allPage);
 		pageInfo.setStartPage(startPage);
 		pageInfo.setEndPage(endPage);
+		pageInfo.setTotalCount(cnt);
 
 		return houseAnswerDtoList;
 	}
@@ -125,8 +147,10 @@ public class HouseServiceImpl implements HouseService {
 	@Transactional
 	@Override
 	public void houseAnswerDelete(Integer houseAnswerNum, Integer houseNum) throws Exception {
-		houseAnswerRepository.findById(houseAnswerNum).orElseThrow(() -> new Exception("답변이 존재하지 않습니다."));
-		houseAnswerRepository.deleteById(houseAnswerNum);
+		HouseAnswer houseAnswer = houseAnswerRepository.findById(houseAnswerNum)
+				.orElseThrow(() -> new Exception("답변이 존재하지 않습니다."));
+		houseAnswerRepository.delete(houseAnswer);
+		houseDslRepository.updateHouseAnswerCount(houseAnswer.getHouse().getHouseNum(), -1);
 	}
 
 	public Page<HouseAnswerDto> houseAnswerListForMypage(int page, int size, String companyId) {
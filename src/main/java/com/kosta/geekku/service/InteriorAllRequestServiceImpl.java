@@ -1,5 +1,6 @@
 package com.kosta.geekku.service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,10 +23,13 @@ import com.kosta.geekku.entity.InteriorAllAnswer;
 import com.kosta.geekku.entity.InteriorAllRequest;
 import com.kosta.geekku.entity.User;
 import com.kosta.geekku.entity.OnestopAnswer;
+import com.kosta.geekku.repository.BoardQueryEngine;
 import com.kosta.geekku.repository.CompanyRepository;
 import com.kosta.geekku.repository.InteriorAllAnswerRepository;
 import com.kosta.geekku.repository.InteriorAllRequestDslRepository;
 import com.kosta.geekku.repository.InteriorAllRequestRepository;
+import com.kosta.geekku.repository.RequestArchiveRepository;
+import com.kosta.geekku.repository.TextSearchIndex;
 import com.kosta.geekku.repository.UserRepository;
 import com.kosta.geekku.util.PageInfo;
 
@@ -40,18 +44,33 @@ public class InteriorAllRequestServiceImpl implements InteriorAllRequestService
 	private final InteriorAllAnswerRepository interiorAllAnswerRepository;
 	private final UserRepository userRepository;
 	private final CompanyRepository companyRepository;
+	private final BoardQueryEngine boardQueryEngine;
+	private final RequestMatchingEngine requestMatchingEngine;
+	private final TextSearchIndex textSearchIndex;
+	private final AlarmOutboxPublisher alarmOutboxPublisher;
+	private final RequestArchiveRepository requestArchiveRepository;
 
+	@Transactional
 	@Override
 	public Integer interiorAllWrite(InteriorAllDto interiorAllDto) throws Exception {
 		InteriorAllRequest interiorAll = interiorAllDto.toEntity();
 		interiorAllRepository.save(interiorAll);
+		boardQueryEngine.evictCounts(InteriorAllRequestDslRepository.INTERIOR_ALL_BOARD.getName());
+		textSearchIndex.indexInteriorAll(interiorAll.getRequestAllNum(), interiorAll.getTitle(),
+				interiorAll.getAddContent(), interiorAll.getAddress1());
+		requestMatchingEngine.notifyNewRequest("interiorAll", interiorAll.getRequestAllNum(),
+				interiorAll.getUser() != null ? interiorAll.getUser().getUserId() : null, interiorAll.getAddress1(),
+				interiorAll.getTitle());
 		return interiorAll.getRequestAllNum();
 	}
 
 	@Override
 	public InteriorAllDto interiorDetail(Integer num) throws Exception {
-		InteriorAllRequest interiorAll = interiorAllRepository.findById(num).orElseThrow(() -> new Exception("글번호 오류"));
-		System.out.println("service" + num);
+		// 보관된 글이면 보관 테이블에서 읽는다
+		InteriorAllRequest interiorAll = interiorAllRepository.findById(num).orElse(null);
+		if (interiorAll == null) {
+			return requestArchiveRepository.findInteriorAll(num).orElseThrow(() -> new Exception("글번호 오류"));
+		}
 		// interiorAllDslRepository.updateInteriorAllViewCount(num,
 		// interiorAll.getViewCount() + 1);
 		return interiorAll.toDto();
@@ -66,18 +85,12 @@ public class InteriorAllRequestServiceImpl implements InteriorAllRequestService
 	@Override
 	public List<InteriorAllDto> interiorAllList(PageInfo pageInfo, String type, String word) throws Exception {
 		PageRequest pageRequest = PageRequest.of(pageInfo.getCurPage() - 1, 10);
-		List<InteriorAllDto> interiorAllDtoList = null;
-		Long allCnt = 0L;
-		if (word == null || word.trim().equals("")) { // 전체 목록
-			interiorAllDtoList = interiorAllRequestDslRepository.findInteriorAllListByPaging(pageRequest).stream()
-					.map(b -> b.toDto()).collect(Collectors.toList());
-			System.out.println(interiorAllDtoList);
-			allCnt = interiorAllRequestDslRepository.findInteriorAllCount();
-		} else { // 검색
-			interiorAllDtoList = interiorAllRequestDslRepository.searchInteriorAllListByPaging(pageRequest, type, word)
-					.stream().map(b -> b.toDto()).collect(Collectors.toList());
-			allCnt = interiorAllRequestDslRepository.searchInteriorAllCount(type, word);
-		}
+		// 검색어가 없으면 전체 목록
+		Page<InteriorAllRequest> interiorAllPage = interiorAllRequestDslRepository.searchInteriorAllList(pageRequest,
+				type, word);
+		List<InteriorAllDto> interiorAllDtoList = interiorAllPage.getContent().stream().map(b -> b.toDto())
+				.collect(Collectors.toList());
+		Long allCnt = interiorAllPage.getTotalElements();
 
 		Integer allPage = (int) (Math.ceil(allCnt.doubleValue() / pageRequest.getPageSize()));
 		Integer startPage = (pageInfo.getCurPage() - 1) / 10 * 10 + 1;
@@ -93,27 +106,45 @@ public class InteriorAllRequestServiceImpl implements InteriorAllRequestService
 	@Transactional
 	public void interiorAllDelete(Integer num) throws Exception {
 		interiorAllRepository.deleteById(num);
+		boardQueryEngine.evictCounts(InteriorAllRequestDslRepository.INTERIOR_ALL_BOARD.getName());
+		textSearchIndex.removeAll(TextSearchIndex.INTERIOR_ALL, Collections.singletonList(num));
 
 	}
 
+	@Transactional
 	@Override
 	public Integer interiorAnswerWrite(InteriorAnswerDto interiorAnswerDto, Integer requestAllNum) throws Exception {
 		InteriorAllRequest interiorAllRequest = interiorAllRepository.findById(requestAllNum)
 				.orElseThrow(() -> new Exception("방꾸 글번호 오류"));
 		InteriorAllAnswer interiorAllAnswer = interiorAnswerDto.toEntity();
+		interiorAllAnswer.setInteriorAllRequest(interiorAllRequest);
 		interiorAllAnswerRepository.save(interiorAllAnswer);
+		interiorAllRequestDslRepository.updateInteriorAllAnswerCount(requestAllNum, 1);
+		alarmOutboxPublisher.answerCreated("interiorAll", requestAllNum, interiorAllAnswer.getAnswerAllNum(),
+				interiorAllRequest.getUser().getUserId(), interiorAnswerDto.getCompanyId(), "방꾸",
+				interiorAllRequest.getTitle());
 		return interiorAllAnswer.getAnswerAllNum();
 	}
 
+	@Transactional
 	@Override
 	public List<InteriorAnswerDto> interiorAnswerList(PageInfo pageInfo, Integer requestAllNum) throws Exception {
-		InteriorAllRequest interiorAll = interiorAllRepository.findById(requestAllNum)
-				.orElseThrow(() -> new Exception("방꾸 글번호 오류"));
 		PageRequest pageRequest = PageRequest.of(pageInfo.getCurPage() - 1, 10);
-
-		List<InteriorAnswerDto> interiorAnswerDtoList = interiorAllRequestDslRepository
-				.interiorAllAnswerListByPaging(pageRequest).stream().map(a -> a.toDto()).collect(Collectors.toList());
-		Long cnt = interiorAllRequestDslRepository.interiorAllAnswerCount();
+		InteriorAllRequest interiorAll = interiorAllRepository.findById(requestAllNum).orElse(null);
+		List<InteriorAnswerDto> interiorAnswerDtoList;
+		Integer answerCount;
+		if (interiorAll != null) {
+			interiorAnswerDtoList = interiorAllRequestDslRepository.interiorAllAnswerListByPaging(requestAllNum, pageRequest)
+					.stream().map(a -> a.toDto()).collect(Collectors.toList());
+			answerCount = interiorAll.getAnswerCount();
+		} else {
+			// 보관된 글이면 답변도 보관 테이블에서
+			answerCount = requestArchiveRepository.findInteriorAll(requestAllNum)
+					.orElseThrow(() -> new Exception("방꾸 글번호 오류")).getAnswerCount();
+			interiorAnswerDtoList = requestArchiveRepository.findInteriorAllAnswers(requestAllNum,
+					pageRequest.getPageSize(), pageRequest.getOffset());
+		}
+		Long cnt = answerCount == null ? 0L : answerCount.longValue();
 
 		Integer allPage = (int) (Math.ceil(cnt.doubleValue() / pageRequest.getPageSize()));
 		Integer startPage = (pageInfo.getCurPage() - 1) / 10 * 10 + 1;
@@ -122,6 +153,7 @@ public class InteriorAllRequestServiceImpl implements InteriorAllRequestService
 		pageInfo.setAllPage(allPage);
 		pageInfo.setStartPage(startPage);
 		pageInfo.setEndPage(endPage);
+		pageInfo.setTotalCount(cnt);
 
 		return interiorAnswerDtoList;
 	}
@@ -129,9 +161,11 @@ public class InteriorAllRequestServiceImpl implements InteriorAllRequestService
 	@Transactional
 	@Override
 	public void interiorAnswerDelete(Integer answerAllNum, Integer requestAllNum) throws Exception {
-		interiorAllAnswerRepository.findById(answerAllNum).orElseThrow(() -> new Exception("답변이 존재하지 않습니다."));
-		System.out.println(answerAllNum);
-		interiorAllAnswerRepository.deleteById(answerAllNum);
+		InteriorAllAnswer interiorAllAnswer = interiorAllAnswerRepository.findById(answerAllNum)
+				.orElseThrow(() -> new Exception("답변이 존재하지 않습니다."));
+		interiorAllAnswerRepository.delete(interiorAllAnswer);
+		interiorAllRequestDslRepository.updateInteriorAllAnswerCount(
+				interiorAllAnswer.getInteriorAllRequest().getRequestAllNum(), -1);
 
 	}
 
@@ -140,8 +174,12 @@ public class InteriorAllRequestServiceImpl implements InteriorAllRequestService
 		Optional<User> user = userRepository.findById(UUID.fromString(userId));
 		
 		Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createAt"));
-		Page<InteriorAllDto> pageInfo = interiorAllRequestRepository.findAllByUser(user, pageable).map(InteriorAllRequest::toDto);
+		Page<InteriorAllDto> pageInfo = interiorAllRepository.findAllByUser(user, pageable).map(InteriorAllRequest::toDto);
+
+		return pageInfo;
+	}
 
+	@Override
 	public Slice<InteriorAnswerDto> interiorAnswerListForMypage(Integer page, String companyId) throws Exception {
 
 		Optional<Company> company = companyRepository.findById(UUID.fromString(companyId));
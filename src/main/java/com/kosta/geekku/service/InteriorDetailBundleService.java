@@ -0,0 +1,150 @@
+package com.kosta.geekku.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kosta.geekku.dto.InteriorDto;
+import com.kosta.geekku.dto.ReviewDto;
+import com.kosta.geekku.dto.SampleDto;
+import com.kosta.geekku.entity.InteriorReview;
+import com.kosta.geekku.entity.InteriorSample;
+import com.kosta.geekku.repository.InteriorDslRepository;
+import com.kosta.geekku.repository.InteriorReviewRepository;
+import com.kosta.geekku.repository.InteriorSampleRepository;
+
+/**
+ * 인테리어 업체 상세 (업체 정보 + 시공사례 + 리뷰) 조회.
+ * 세 부분을 별도 스레드에서 각자 읽기 트랜잭션으로 동시에 조회해서 합치고,
+ * 합친 결과를 (업체번호, 페이지)별로 잠깐 캐시한다. 시공사례/리뷰가 바뀌면 해당 업체 캐시를 지운다.
+ */
+@Service
+public class InteriorDetailBundleService {
+
+	private static final int MAX_CACHED_INTERIORS = 1000;
+
+	private final InteriorDslRepository interiorDslRepository;
+	private final InteriorSampleRepository interiorSampleRepository;
+	private final InteriorReviewRepository interiorReviewRepository;
+	private final TransactionTemplate readTransaction;
+	private final ThreadPoolTaskExecutor executor;
+
+	@Value("${interior.detail.cache-ttl:60000}")
+	private long cacheTtl;
+
+	// 업체번호 -> (페이지 키 -> 결과)
+	private final Map<Integer, Map<String, CachedBundle>> cache = new ConcurrentHashMap<>();
+
+	private static class CachedBundle {
+		final Map<String, Object> bundle;
+		final long expiresAt;
+
+		CachedBundle(Map<String, Object> bundle, long expiresAt) {
+			this.bundle = bundle;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	public InteriorDetailBundleService(InteriorDslRepository interiorDslRepository,
+			InteriorSampleRepository interiorSampleRepository, InteriorReviewRepository interiorReviewRepository,
+			PlatformTransactionManager transactionManager,
+			@Qualifier("interiorDetailExecutor") ThreadPoolTaskExecutor executor) {
+		this.interiorDslRepository = interiorDslRepository;
+		this.interiorSampleRepository = interiorSampleRepository;
+		this.interiorReviewRepository = interiorReviewRepository;
+		this.readTransaction = new TransactionTemplate(transactionManager);
+		this.readTransaction.setReadOnly(true);
+		this.executor = executor;
+	}
+
+	public Map<String, Object> interiorDetail(Integer interiorNum, int samplePage, int reviewPage, int size)
+			throws Exception {
+		String pageKey = samplePage + "|" + reviewPage + "|" + size;
+		Map<String, CachedBundle> pages = cache.get(interiorNum);
+		CachedBundle cached = pages == null ? null : pages.get(pageKey);
+		if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+			return cached.bundle;
+		}
+
+		CompletableFuture<InteriorDto> interiorFuture = async(() -> {
+			try {
+				return interiorDslRepository.findInteriorDto(interiorNum);
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		});
+		CompletableFuture<Slice<SampleDto>> sampleFuture = async(() -> interiorSampleRepository
+				.findSliceByInterior_InteriorNum(interiorNum,
+						PageRequest.of(samplePage - 1, size, Sort.by(Sort.Direction.DESC, "createdAt")))
+				.map(InteriorSample::toDto));
+		CompletableFuture<Slice<ReviewDto>> reviewFuture = async(() -> interiorReviewRepository
+				.findSliceByInterior_interiorNum(interiorNum,
+						PageRequest.of(reviewPage - 1, size, Sort.by(Sort.Direction.DESC, "createdAt")))
+				.map(InteriorReview::toDto));
+
+		InteriorDto interiorInfo;
+		Slice<SampleDto> samples;
+		Slice<ReviewDto> reviews;
+		try {
+			interiorInfo = interiorFuture.join();
+			samples = sampleFuture.join();
+			reviews = reviewFuture.join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+		if (interiorInfo == null) {
+			throw new Exception("인테리어 업체 번호 오류");
+		}
+
+		Map<String, Object> detailInfo = new HashMap<>();
+		detailInfo.put("interiorDetail", interiorInfo);
+		detailInfo.put("sampleDetail", samples.getContent());
+		detailInfo.put("sampleHasNext", samples.hasNext());
+		detailInfo.put("reviewDetail", reviews.getContent());
+		detailInfo.put("reviewHasNext", reviews.hasNext());
+
+		if (cache.size() >= MAX_CACHED_INTERIORS && !cache.containsKey(interiorNum)) {
+			cache.clear();
+		}
+		cache.computeIfAbsent(interiorNum, n -> new ConcurrentHashMap<>()).put(pageKey,
+				new CachedBundle(detailInfo, System.currentTimeMillis() + cacheTtl));
+		return detailInfo;
+	}
+
+	// 시공사례/리뷰 등록, 수정, 삭제시 호출
+	// 트랜잭션 안이면 커밋 후 제거 (커밋 전 값이 다시 캐시되지 않게)
+	public void evict(Integer interiorNum) {
+		if (interiorNum == null) return;
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					cache.remove(interiorNum);
+				}
+			});
+		} else {
+			cache.remove(interiorNum);
+		}
+	}
+
+	// 각 조회는 작업 스레드에서 자기 읽기 트랜잭션 안에서 DTO 변환까지 끝낸다 (지연 로딩 때문)
+	private <T> CompletableFuture<T> async(Supplier<T> query) {
+		return CompletableFuture.supplyAsync(() -> readTransaction.execute(status -> query.get()), executor);
+	}
+}
@@ -4,20 +4,24 @@ import java.util.List;
 
 import java.util.Map;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import com.kosta.geekku.dto.InteriorDto;
 import com.kosta.geekku.dto.InteriorRequestDto;
 import com.kosta.geekku.dto.ReviewDto;
+import com.kosta.geekku.dto.SampleCardDto;
 import com.kosta.geekku.dto.SampleDto;
-import com.kosta.geekku.entity.InteriorSample;
+import com.kosta.geekku.entity.InteriorStats;
 
 public interface InteriorService {
 	List<InteriorDto> interiorListForMain() throws Exception;
   
 	List<SampleDto> sampleListForMain() throws Exception;
 
-	List<InteriorDto> interiorList(String possibleLocation) throws Exception;
+	Slice<InteriorDto> interiorList(String possibleLocation, String sort, String cursor, Integer size) throws Exception;
 
-	Integer checkBookmark(String userId, Integer interiorNum) throws Exception;
+	InteriorStats interiorStats(Integer interiorNum) throws Exception;
+
+	boolean checkBookmark(String userId, Integer interiorNum) throws Exception;
 
 	boolean toggleBookmark(String userId, Integer interiorNum) throws Exception;
 
@@ -33,9 +37,10 @@ public interface InteriorService {
 
 	Integer interiorRequest(InteriorRequestDto requestDto) throws Exception;
 	InteriorRequestDto requestDetail(Integer num) throws Exception;
-	List<InteriorSample> sampleList(String date, String type, String style, Integer size,
-			String location) throws Exception;
-	Map<String,Object> interiorDetail(Integer interiorNum) throws Exception;
+	Slice<SampleCardDto> sampleGallery(String date, String type, String style, Integer size, String location,
+			String cursor, Integer pageSize) throws Exception;
+	Map<String, Object> interiorDetail(Integer interiorNum, Integer samplePage, Integer reviewPage, Integer size)
+			throws Exception;
 	
 	// 마이페이지 - 개인회원 인테리어 문의 내역
 	Page<InteriorRequestDto> interiorRequestListForUserMypage(int page, int size, String userId) throws Exception;
@@ -50,11 +55,12 @@ public interface InteriorService {
 
 	InteriorRequestDto requestDetail(Integer num) throws Exception;
 
-	List<ReviewDto> interiorReviewList(PageInfo pageInfo, String companyId) throws Exception;
+	// 기업 마이페이지 목록 (cursor: 이전 페이지 마지막 항목 "작성시간(ms)_글번호")
+	Slice<ReviewDto> interiorReviewList(String companyId, String cursor, Integer size) throws Exception;
 
-	List<InteriorRequestDto> interiorRequestList(PageInfo pageInfo, String companyId) throws Exception;
+	Slice<InteriorRequestDto> interiorRequestList(String companyId, String cursor, Integer size) throws Exception;
 
-	List<SampleDto> interiorSampleList(PageInfo pageInfo, String companyId) throws Exception;
+	Slice<SampleDto> interiorSampleList(String companyId, String cursor, Integer size) throws Exception;
 
 
 }
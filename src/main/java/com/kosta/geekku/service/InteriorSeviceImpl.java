@@ -1,5 +1,6 @@
 package com.kosta.geekku.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +14,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import org.springframework.stereotype.Service;
@@ -20,22 +23,30 @@ import org.springframework.stereotype.Service;
 import com.kosta.geekku.dto.InteriorDto;
 import com.kosta.geekku.dto.InteriorRequestDto;
 import com.kosta.geekku.dto.ReviewDto;
+import com.kosta.geekku.dto.SampleCardDto;
 import com.kosta.geekku.dto.SampleDto;
+import com.kosta.geekku.entity.BookmarkType;
 import com.kosta.geekku.entity.Interior;
-import com.kosta.geekku.entity.InteriorBookmark;
 import com.kosta.geekku.entity.InteriorRequest;
 import com.kosta.geekku.entity.InteriorReview;
 import com.kosta.geekku.entity.InteriorSample;
+import com.kosta.geekku.entity.InteriorServiceArea;
+import com.kosta.geekku.entity.InteriorStats;
 import com.kosta.geekku.entity.User;
 import com.kosta.geekku.repository.InteriorBookmarkRepository;
 import com.kosta.geekku.repository.InteriorDslRepository;
+import com.kosta.geekku.repository.InteriorRegionIndex;
 import com.kosta.geekku.repository.InteriorRepository;
-import com.kosta.geekku.repository.InteriorRequestDslRepository;
 import com.kosta.geekku.repository.InteriorRequestRepository;
 import com.kosta.geekku.repository.InteriorReviewRepository;
 import com.kosta.geekku.repository.InteriorSampleDslRepository;
 import com.kosta.geekku.repository.InteriorSampleRepository;
+import com.kosta.geekku.repository.InteriorServiceAreaRepository;
+import com.kosta.geekku.repository.InteriorStatsRepository;
+import com.kosta.geekku.repository.SampleGalleryIndex;
 import com.kosta.geekku.repository.UserRepository;
+import com.kosta.geekku.util.KeysetCursor;
+import com.kosta.geekku.util.RegionUtil;
 
 import lombok.RequiredArgsConstructor;
 
@@ -51,7 +62,14 @@ public class InteriorSeviceImpl implements InteriorService {
 	private final InteriorSampleDslRepository interiorSampleDslRepository;
 	private final InteriorReviewRepository interiorReviewRepository;
 	private final InteriorRequestRepository interiorRequestRepository;
-	private final InteriorRequestDslRepository interiorRequestDslRepository;
+	private final BookmarkWriteBuffer bookmarkWriteBuffer;
+	private final RequestMatchingEngine requestMatchingEngine;
+	private final InteriorDetailBundleService interiorDetailBundleService;
+	private final InteriorStatsRepository interiorStatsRepository;
+	private final SampleGalleryIndex sampleGalleryIndex;
+	private final InteriorServiceAreaRepository interiorServiceAreaRepository;
+	private final InteriorRegionIndex interiorRegionIndex;
+	private final AlarmOutboxPublisher alarmOutboxPublisher;
 
 	@Value("${upload.path}")
 	private String uploadPath;
@@ -72,50 +90,75 @@ public class InteriorSeviceImpl implements InteriorService {
 	}
 
 	@Override
-	public List<InteriorDto> interiorList(String possibleLocation) throws Exception {
-		List<InteriorDto> interiorDtoList = null;
-		Long allCnt = 0L;
-		if (possibleLocation == null) {
-			interiorDtoList = interiorDslRepository.interiorListAll().stream().map(i -> i.toDto())
-					.collect(Collectors.toList());
-			allCnt = interiorDslRepository.interiorCountAll();
+	public Slice<InteriorDto> interiorList(String possibleLocation, String sort, String cursor, Integer size)
+			throws Exception {
+		// size+1개를 읽어서 다음 페이지 여부 확인 (count 쿼리 없음)
+		List<InteriorDto> interiorDtoList;
+		if (possibleLocation != null && possibleLocation.trim().equals("")) possibleLocation = null;
+		if ("rating".equals(sort)) {
+			// 지역 후보 업체 안에서 평점순
+			List<Integer> interiorNums = possibleLocation != null ? interiorRegionIndex.candidates(possibleLocation)
+					: null;
+			interiorDtoList = interiorNums != null && interiorNums.isEmpty() ? new ArrayList<>()
+					: interiorDslRepository.interiorDirectoryByRating(possibleLocation, interiorNums, cursor, size + 1);
 		} else {
-			interiorDtoList = interiorDslRepository.interiorListByLoc(possibleLocation).stream().map(i -> i.toDto())
-					.collect(Collectors.toList());
-			allCnt = interiorDslRepository.interiorCountByLoc(possibleLocation);
+			Integer cursorNum = cursor == null || cursor.trim().equals("") ? null : Integer.valueOf(cursor);
+			// 최신순은 업체 번호 역순이므로 지역 색인에서 이번 페이지 번호까지 바로 구한다
+			List<Integer> interiorNums = possibleLocation != null
+					? interiorRegionIndex.page(possibleLocation, cursorNum, size + 1)
+					: null;
+			interiorDtoList = interiorNums != null && interiorNums.isEmpty() ? new ArrayList<>()
+					: interiorDslRepository.interiorDirectory(possibleLocation, interiorNums, cursorNum, size + 1);
 		}
-		return interiorDtoList;
+		boolean hasNext = interiorDtoList.size() > size;
+		if (hasNext) interiorDtoList.remove(interiorDtoList.size() - 1);
+		return new SliceImpl<>(interiorDtoList, PageRequest.of(0, size), hasNext);
 	}
 
 	@Override
-	public Integer checkBookmark(String userId, Integer interiorNum) throws Exception {
-		return interiorDslRepository.findInteriorBookmark(UUID.fromString(userId), interiorNum);
+	public InteriorStats interiorStats(Integer interiorNum) throws Exception {
+		return interiorStatsRepository.findById(interiorNum).orElseThrow(() -> new Exception("인테리어 업체 번호 오류"));
+	}
+
+	@Override
+	public boolean checkBookmark(String userId, Integer interiorNum) throws Exception {
+		UUID uuid = UUID.fromString(userId);
+		// 조회만 한다 (저장 전 버퍼 상태가 있으면 그 상태)
+		Boolean pending = bookmarkWriteBuffer.pendingState(BookmarkType.INTERIOR, uuid, interiorNum);
+		if (pending != null) return pending;
+		return interiorDslRepository.findInteriorBookmark(uuid, interiorNum) != null;
 	}
 
 	@Override
-	@Transactional
 	public boolean toggleBookmark(String userId, Integer interiorNum) throws Exception {
-		InteriorBookmark interiorBookmark = interiorBookmarkRepository.findByInteriorNumAndUserId(interiorNum,
-				UUID.fromString(userId));
-		System.out.println(interiorBookmark);
-
-		if (interiorBookmark == null) {
-			interiorBookmarkRepository
-					.save(InteriorBookmark.builder().userId(UUID.fromString(userId)).interiorNum(interiorNum).build());
-			return true;
-		} else {
-			interiorBookmarkRepository.deleteById(interiorBookmark.getBookmarkInteriorNum());
-			return false;
-		}
+		// 쓰기 버퍼에 상태만 반영하고 저장은 모아서 처리
+		return bookmarkWriteBuffer.toggle(BookmarkType.INTERIOR, UUID.fromString(userId), interiorNum);
 	}
 
 	@Override
+	@Transactional
 	public Integer interiorRegister(InteriorDto interiorDto) throws Exception {
 		Interior interior = interiorDto.toEntity();
 		interiorRepository.save(interior);
+		interiorStatsRepository.createEmpty(interior.getInteriorNum());
+		saveServiceAreas(interior);
+		// 시공 가능 지역이 바뀌었으므로 요청글 매칭 색인 갱신
+		if (interior.getCompany() != null) requestMatchingEngine.refresh(interior.getCompany().getCompanyId());
 		return interior.getInteriorNum();
 	}
 
+	// 시공 가능 지역 문자열 -> 지역 코드 행 + 지역 색인 (색인은 커밋 후 반영)
+	private void saveServiceAreas(Interior interior) {
+		List<String> codes = RegionUtil.areaCodesOf(interior.getPossibleLocation());
+		interiorServiceAreaRepository.deleteByInteriorNum(interior.getInteriorNum());
+		interiorServiceAreaRepository.saveAll(codes.stream()
+				.map(code -> InteriorServiceArea.builder().interiorNum(interior.getInteriorNum()).regionCode(code).build())
+				.collect(Collectors.toList()));
+		if (interior.getCompany() != null) {
+			interiorRegionIndex.put(interior.getInteriorNum(), interior.getCompany().getCompanyId(), codes);
+		}
+	}
+
 	@Override
 	public InteriorDto interiorCompanyDetail(Integer num) throws Exception {
 		Interior interior = interiorRepository.findById(num).orElseThrow(() -> new Exception("글번호 오류"));
@@ -124,30 +167,49 @@ public class InteriorSeviceImpl implements InteriorService {
 		return interior.toDto();
 	}
 
+	@Transactional
 	public Integer sampleRegister(SampleDto sampleDto) throws Exception {
 		InteriorSample sample = sampleDto.toEntity();
 		interiorSampleRepository.save(sample);
+		sampleGalleryIndex.add(sample);
+		interiorStatsRepository.applySample(sampleDto.getInteriorNum(), 1);
+		interiorDetailBundleService.evict(sampleDto.getInteriorNum());
 //		if(sampleDto.getInteriorNum() ==  )	//사례 인테리어번호와 작성자 인테리어번호가 같을경우만 작성
 		return sample.getSampleNum();
 	}
 
+	@Transactional
 	@Override
 	public Integer reviewRegister(ReviewDto reviewDto) throws Exception {
+		checkScore(reviewDto.getScore());
 		InteriorReview review = reviewDto.toEntity();
 		interiorReviewRepository.save(review);
+		interiorStatsRepository.applyReview(reviewDto.getInteriorNum(), review.getScore(), 1);
+		interiorDetailBundleService.evict(reviewDto.getInteriorNum());
 		return review.getReviewNum();
 	}
 
+	private void checkScore(Integer score) throws Exception {
+		if (score != null && (score < 1 || score > 5)) {
+			throw new Exception("평점은 1~5점");
+		}
+	}
+
 	@Override
 	public SampleDto sampleDetail(Integer num) throws Exception {
 		InteriorSample sample = interiorSampleRepository.findById(num).orElseThrow(() -> new Exception("글 번호 오류"));
 		return sample.toDto();
 	}
 
+	@Transactional
 	@Override
 	public Integer interiorRequest(InteriorRequestDto requestDto) throws Exception {
+		Interior interior = interiorRepository.findById(requestDto.getInteriorNum())
+				.orElseThrow(() -> new Exception("인테리어 업체 번호 오류"));
 		InteriorRequest request = requestDto.toEntity();
 		interiorRequestRepository.save(request);
+		alarmOutboxPublisher.interiorRequested(request.getRequestNum(), interior.getCompany().getCompanyId(),
+				requestDto.getUserId());
 		return request.getRequestNum();
 	}
 
@@ -158,30 +220,39 @@ public class InteriorSeviceImpl implements InteriorService {
 	}
 
 	@Override
-	public List<InteriorSample> sampleList(String date, String type, String style, Integer size, String location)
-			throws Exception {
-		List<InteriorSample> sampleDtoList = null;
-		Long allCnt = 0L;
-		sampleDtoList = interiorDslRepository.sampleListByFilter(date, type, style, size, location);
-		allCnt = interiorDslRepository.sampleCountByFilter(date, type, style, size, location);
-		return sampleDtoList;
+	public Slice<SampleCardDto> sampleGallery(String date, String type, String style, Integer size, String location,
+			String cursor, Integer pageSize) throws Exception {
+		boolean oldest = "oldest".equalsIgnoreCase(date);
+		Map<String, String> filters = new HashMap<>();
+		filters.put(SampleGalleryIndex.TYPE, type);
+		filters.put(SampleGalleryIndex.STYLE, style);
+		filters.put(SampleGalleryIndex.SIZE, size == null ? null : String.valueOf(size));
+		filters.put(SampleGalleryIndex.LOCATION, location);
+
+		// 필터/정렬은 색인에서 번호만 구하고 카드 내용은 해당 번호만 조회 (size+1개로 다음 페이지 여부 확인)
+		List<SampleCardDto> cards;
+		List<Integer> sampleNums = sampleGalleryIndex.page(filters, cursor, oldest, pageSize + 1);
+		if (sampleNums != null) {
+			cards = interiorDslRepository.sampleCards(sampleNums);
+		} else {
+			KeysetCursor keyset = KeysetCursor.parse(cursor);
+			cards = interiorDslRepository.sampleGallery(type, style, size, location,
+					keyset == null ? null : keyset.getTimestamp(), keyset == null ? null : keyset.getNum(), oldest,
+					pageSize + 1);
+		}
+		boolean hasNext = cards.size() > pageSize;
+		if (hasNext) {
+			cards = cards.subList(0, pageSize);
+		}
+		cards.forEach(card -> card.setCursor(SampleGalleryIndex.cursorOf(card.getCreatedAt(), card.getSampleNum())));
+		return new SliceImpl<>(cards, PageRequest.of(0, pageSize), hasNext);
 	}
 
 	@Override
-	public Map<String, Object> interiorDetail(Integer interiorNum) throws Exception {
-		Map<String,Object> detailInfo = new HashMap<>();
-		Interior interiorDetail = interiorRepository.findById(interiorNum).orElseThrow(()->new Exception("인테리어 업체 번호 오류"));
-		List<InteriorSample> sampleDetail = interiorSampleRepository.findByInterior_InteriorNum(interiorNum);
-		List<InteriorReview> reviewDetail = interiorReviewRepository.findByInterior_interiorNum(interiorNum);
-		
-		InteriorDto interiorInfo = interiorDetail.toDto();
-		List<SampleDto> sampleInfo = sampleDetail.stream().map(s->s.toDto()).collect(Collectors.toList());
-		List<ReviewDto> reviewInfo = reviewDetail.stream().map(r->r.toDto()).collect(Collectors.toList());				
-		
-		detailInfo.put("interiorDetail", interiorInfo);
-		detailInfo.put("sampleDetail", sampleInfo);
-		detailInfo.put("reviewDetail", reviewInfo);
-		return detailInfo;
+	public Map<String, Object> interiorDetail(Integer interiorNum, Integer samplePage, Integer reviewPage,
+			Integer size) throws Exception {
+		// 업체 정보/시공사례/리뷰를 동시에 조회하고 결과는 캐시
+		return interiorDetailBundleService.interiorDetail(interiorNum, samplePage, reviewPage, size);
 	}
 
 
@@ -207,72 +278,70 @@ public class InteriorSeviceImpl implements InteriorService {
 	}
 
 	@Override
+	@Transactional
 	public void updateReview(ReviewDto reviewDto, Integer num) throws Exception {
 		InteriorReview review = interiorReviewRepository.findById(num).orElseThrow(() -> new Exception("리뷰 글번호 오류"));
 
 		review.setContent(reviewDto.getContent());
+		Integer oldScore = review.getScore();
+		if (reviewDto.getScore() != null && !reviewDto.getScore().equals(oldScore)) {
+			checkScore(reviewDto.getScore());
+			review.setScore(reviewDto.getScore());
+			// 이전 평점 빼고 새 평점 더하기 (리뷰 수는 그대로)
+			Integer interiorNum = review.getInterior().getInteriorNum();
+			interiorStatsRepository.applyReview(interiorNum, oldScore, -1);
+			interiorStatsRepository.applyReview(interiorNum, reviewDto.getScore(), 1);
+		}
 		// 이미지 수정 필요함
 		interiorReviewRepository.save(review);
+		interiorDetailBundleService.evict(review.getInterior().getInteriorNum());
 	}
 
 	@Override
+	@Transactional
 	public void deleteReview(Integer num) throws Exception {
 		InteriorReview review = interiorReviewRepository.findById(num).orElseThrow(() -> new Exception("리뷰 글번호 오류"));
 		interiorReviewRepository.deleteById(num);
-	}	
-=======
-	public List<ReviewDto> interiorReviewList(PageInfo pageInfo, String companyId) throws Exception {
-		// TODO Auto-generated method stub
-		return null;
+		interiorStatsRepository.applyReview(review.getInterior().getInteriorNum(), review.getScore(), -1);
+		interiorDetailBundleService.evict(review.getInterior().getInteriorNum());
 	}
 
 	@Override
-	public List<InteriorRequestDto> interiorRequestList(PageInfo pageInfo, String companyId) throws Exception {
-		PageRequest pageRequest = PageRequest.of(pageInfo.getCurPage() - 1, 10);
-		/*
-		 * InteriorRequest interiorRequest =
-		 * interiorRequestRepository.findById(companyId) .orElseThrow(() -> new
-		 * Exception("방꾸 글번호 오류"));
-		 */
-
-		/*
-		 * List<InteriorRequestDto> interiorRequestDtoList = interiorDslRepository
-		 * .interiorSampleListmypage(pageRequest,
-		 * UUID.fromString(companyId)).stream().map(e -> e.toDto())
-		 * .collect(Collectors.toList());
-		 */
-		Long cnt = interiorRequestDslRepository.interiorRequestCount();
-
-		Integer allPage = (int) (Math.ceil(cnt.doubleValue() / pageRequest.getPageSize()));
-		Integer startPage = (pageInfo.getCurPage() - 1) / 10 * 10 + 1;
-		Integer endPage = Math.min(startPage + 10 - 1, allPage);
-
-		pageInfo.setAllPage(allPage);
-		pageInfo.setStartPage(startPage);
-		pageInfo.setEndPage(endPage);
-		return null;
-
-		/* return interiorRequestDtoList; */
+	public Slice<ReviewDto> interiorReviewList(String companyId, String cursor, Integer size) throws Exception {
+		Optional<Interior> interior = interiorRepository.findByCompany_CompanyId(UUID.fromString(companyId));
+		if (!interior.isPresent()) {
+			return new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, size), false);
+		}
+		// size+1개를 읽어서 다음 페이지 여부 확인 (count 쿼리 없음)
+		List<ReviewDto> reviewDtoList = interiorDslRepository
+				.interiorReviewListmypage(interior.get().getInteriorNum(), KeysetCursor.parse(cursor), size + 1)
+				.stream().map(InteriorReview::toDto).collect(Collectors.toList());
+		return toSlice(reviewDtoList, size);
 	}
 
 	@Override
-	public List<SampleDto> interiorSampleList(PageInfo pageInfo, String companyId) throws Exception {
-		PageRequest pageRequest = PageRequest.of(pageInfo.getCurPage() - 1, 10);
-		List<SampleDto> interiorSampleDtoList = interiorDslRepository
-				.interiorSampleListmypage(pageRequest, UUID.fromString(companyId)).stream().map(e -> e.toDto())
-				.collect(Collectors.toList());
-		Long allCnt = interiorDslRepository.findMypageEstateCount(UUID.fromString(companyId));
-
-		Integer allPage = (int) (Math.ceil(allCnt.doubleValue() / pageRequest.getPageSize()));
-		Integer startPage = (pageInfo.getCurPage() - 1) / 10 * 10 + 1;
-		Integer endPage = Math.min(startPage + 10 - 1, allPage);
-
-		pageInfo.setAllPage(allPage);
-		pageInfo.setStartPage(startPage);
-		pageInfo.setEndPage(endPage);
-
-		return interiorSampleDtoList;
+	public Slice<InteriorRequestDto> interiorRequestList(String companyId, String cursor, Integer size)
+			throws Exception {
+		Optional<Interior> interior = interiorRepository.findByCompany_CompanyId(UUID.fromString(companyId));
+		if (!interior.isPresent()) {
+			return new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, size), false);
+		}
+		List<InteriorRequestDto> requestDtoList = interiorDslRepository
+				.interiorRequestListmypage(interior.get().getInteriorNum(), KeysetCursor.parse(cursor), size + 1)
+				.stream().map(InteriorRequest::toDto).collect(Collectors.toList());
+		return toSlice(requestDtoList, size);
 	}
 
+	@Override
+	public Slice<SampleDto> interiorSampleList(String companyId, String cursor, Integer size) throws Exception {
+		List<SampleDto> interiorSampleDtoList = interiorDslRepository
+				.interiorSampleListmypage(UUID.fromString(companyId), KeysetCursor.parse(cursor), size + 1)
+				.stream().map(InteriorSample::toDto).collect(Collectors.toList());
+		return toSlice(interiorSampleDtoList, size);
+	}
 
+	private <T> Slice<T> toSlice(List<T> list, Integer size) {
+		boolean hasNext = list.size() > size;
+		return new SliceImpl<>(hasNext ? list.subList(0, size) : list, PageRequest.of(0, size), hasNext);
+	}
 }
@@ -1,5 +1,6 @@
 package com.kosta.geekku.service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,10 +28,13 @@ import com.kosta.geekku.entity.HouseAnswer;
 import com.kosta.geekku.entity.InteriorAllRequest;
 import com.kosta.geekku.entity.Onestop;
 import com.kosta.geekku.entity.OnestopAnswer;
+import com.kosta.geekku.repository.BoardQueryEngine;
 import com.kosta.geekku.repository.CompanyRepository;
 import com.kosta.geekku.repository.OnestopAnswerRepository;
 import com.kosta.geekku.repository.OnestopDslRepository;
 import com.kosta.geekku.repository.OnestopRepository;
+import com.kosta.geekku.repository.RequestArchiveRepository;
+import com.kosta.geekku.repository.TextSearchIndex;
 import com.kosta.geekku.repository.UserRepository;
 import com.kosta.geekku.util.PageInfo;
 
@@ -45,21 +49,20 @@ public class OnestopServiceImpl implements OnestopService {
 	private final UserRepository userRepository;
 	private final OnestopAnswerRepository onestopAnswerRepository;
 	private final CompanyRepository companyRepository;
+	private final AlarmOutboxPublisher alarmOutboxPublisher;
+	private final BoardQueryEngine boardQueryEngine;
+	private final RequestMatchingEngine requestMatchingEngine;
+	private final TextSearchIndex textSearchIndex;
+	private final RequestArchiveRepository requestArchiveRepository;
 
 	@Override
 	public List<OnestopDto> onestopList(PageInfo pageInfo, String type, String word) throws Exception {
 		PageRequest pageRequest = PageRequest.of(pageInfo.getCurPage() - 1, 10);
-		List<OnestopDto> onestopDtoList = null;
-		Long allCnt = 0L;
-		if (word == null || word.trim().equals("")) { // 전체 목록
-			onestopDtoList = onestopDslRepository.findOnestopListByPaging(pageRequest).stream().map(b -> b.toDto())
-					.collect(Collectors.toList());
-			allCnt = onestopDslRepository.findOnestopCount();
-		} else { // 검색
-			onestopDtoList = onestopDslRepository.searchOnestopListByPaging(pageRequest, type, word).stream()
-					.map(b -> b.toDto()).collect(Collectors.toList());
-			allCnt = onestopDslRepository.searchOnestopCount(type, word);
-		}
+		// 검색어가 없으면 전체 목록
+		Page<Onestop> onestopPage = onestopDslRepository.searchOnestopList(pageRequest, type, word);
+		List<OnestopDto> onestopDtoList = onestopPage.getContent().stream().map(b -> b.toDto())
+				.collect(Collectors.toList());
+		Long allCnt = onestopPage.getTotalElements();
 
 		Integer allPage = (int) (Math.ceil(allCnt.doubleValue() / pageRequest.getPageSize()));
 		Integer startPage = (pageInfo.getCurPage() - 1) / 10 * 10 + 1;
@@ -76,14 +79,23 @@ public class OnestopServiceImpl implements OnestopService {
 	public Integer onestopWrite(OnestopDto onestopDto) throws Exception {
 		Onestop onestop = onestopDto.toEntity();
 		onestopRepository.save(onestop);
+		boardQueryEngine.evictCounts(OnestopDslRepository.ONESTOP_BOARD.getName());
+		textSearchIndex.indexOnestop(onestop.getOnestopNum(), onestop.getTitle(), onestop.getContent(),
+				onestop.getAddress1());
+		requestMatchingEngine.notifyNewRequest("onestop", onestop.getOnestopNum(),
+				onestop.getUser() != null ? onestop.getUser().getUserId() : null, onestop.getAddress1(),
+				onestop.getTitle());
 
 		return onestop.getOnestopNum();
 	}
 
 	@Override
 	public OnestopDto onestopDetail(Integer num) throws Exception {
-		Onestop onestop = onestopRepository.findById(num).orElseThrow(() -> new Exception("글번호 오류"));
-		System.out.println("service" + num);
+		// 보관된 글이면 보관 테이블에서 읽는다
+		Onestop onestop = onestopRepository.findById(num).orElse(null);
+		if (onestop == null) {
+			return requestArchiveRepository.findOnestop(num).orElseThrow(() -> new Exception("글번호 오류"));
+		}
 		// onestopDslRepository.updateOnestopViewCount(num, onestop.getViewCount() + 1);
 		return onestop.toDto();
 	}
@@ -104,26 +116,44 @@ public class OnestopServiceImpl implements OnestopService {
 	public void onestopDelete(Integer num) throws Exception {
 		// boardLikeRepository.deleteByBoardNum(num);
 		onestopRepository.deleteById(num);
+		boardQueryEngine.evictCounts(OnestopDslRepository.ONESTOP_BOARD.getName());
+		textSearchIndex.removeAll(TextSearchIndex.ONESTOP, Collections.singletonList(num));
 
 	}
 
+	@Transactional
 	@Override
 	public Integer onestopAnswerWrite(OnestopAnswerDto onestopAnswerDto, Integer onestopNum) throws Exception {
 		Onestop onestop = onestopRepository.findById(onestopNum).orElseThrow(() -> new Exception("한번에꾸하기 글 번호 오류"));
 		OnestopAnswer onestopAnswer = onestopAnswerDto.toEntity();
+		onestopAnswer.setOnestop(onestop);
 		onestopAnswerRepository.save(onestopAnswer);
+		onestopDslRepository.updateOnestopAnswerCount(onestopNum, 1);
+		alarmOutboxPublisher.answerCreated("onestop", onestopNum, onestopAnswer.getAnswerOnestopNum(),
+				onestop.getUser().getUserId(), onestopAnswerDto.getCompanyId(), "한번에 꾸하기", onestop.getTitle());
 		return onestopAnswer.getAnswerOnestopNum();
 
 	}
 
+	@Transactional
 	@Override
 	public List<OnestopAnswerDto> onestopAnswerList(PageInfo pageInfo, Integer onestopNum) throws Exception {
-		Onestop onestop = onestopRepository.findById(onestopNum).orElseThrow(() -> new Exception("집꾸 글번호 오류"));
 		PageRequest pageRequest = PageRequest.of(pageInfo.getCurPage() - 1, 10);
-
-		List<OnestopAnswerDto> onestopAnswerDtoList = onestopDslRepository.onestopAnswerListByPaging(pageRequest)
-				.stream().map(a -> a.toDto()).collect(Collectors.toList());
-		Long cnt = onestopDslRepository.findOnestopCount();
+		Onestop onestop = onestopRepository.findById(onestopNum).orElse(null);
+		List<OnestopAnswerDto> onestopAnswerDtoList;
+		Integer answerCount;
+		if (onestop != null) {
+			onestopAnswerDtoList = onestopDslRepository.onestopAnswerListByPaging(onestopNum, pageRequest).stream()
+					.map(a -> a.toDto()).collect(Collectors.toList());
+			answerCount = onestop.getAnswerCount();
+		} else {
+			// 보관된 글이면 답변도 보관 테이블에서
+			answerCount = requestArchiveRepository.findOnestop(onestopNum)
+					.orElseThrow(() -> new Exception("집꾸 글번호 오류")).getAnswerCount();
+			onestopAnswerDtoList = requestArchiveRepository.findOnestopAnswers(onestopNum, pageRequest.getPageSize(),
+					pageRequest.getOffset());
+		}
+		Long cnt = answerCount == null ? 0L : answerCount.longValue();
 
 		Integer allPage = (int) (Math.ceil(cnt.doubleValue() / pageRequest.getPageSize()));
 		Integer startPage = (pageInfo.getCurPage() - 1) / 10 * 10 + 1;
@@ -132,6 +162,7 @@ public class OnestopServiceImpl implements OnestopService {
 		pageInfo.setAllPage(allPage);
 		pageInfo.setStartPage(startPage);
 		pageInfo.setEndPage(endPage);
+		pageInfo.setTotalCount(cnt);
 
 		return onestopAnswerDtoList;
 	}
@@ -139,8 +170,10 @@ public class OnestopServiceImpl implements OnestopService {
 	@Transactional
 	@Override
 	public void onestopAnswerDelete(Integer onestopAnswerNum, Integer onestopNum) throws Exception {
-		onestopAnswerRepository.findById(onestopAnswerNum).orElseThrow(() -> new Exception("답변이 존재하지 않습니다."));
-		onestopAnswerRepository.deleteById(onestopAnswerNum);
+		OnestopAnswer onestopAnswer = onestopAnswerRepository.findById(onestopAnswerNum)
+				.orElseThrow(() -> new Exception("답변이 존재하지 않습니다."));
+		onestopAnswerRepository.delete(onestopAnswer);
+		onestopDslRepository.updateOnestopAnswerCount(onestopAnswer.getOnestop().getOnestopNum(), -1);
 
 	}
 
@@ -0,0 +1,173 @@
+package com.kosta.geekku.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kosta.geekku.dto.CompanyRegionDto;
+import com.kosta.geekku.repository.CompanyDslRepository;
+import com.kosta.geekku.repository.InteriorRegionIndex;
+import com.kosta.geekku.util.RegionUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 새 요청글 -> 알림 받을 기업 매칭.
+ * 기업을 (기업 타입, 지역)별로 메모리에 색인해두고, 요청글이 등록되면
+ * 주소의 시/도로 바로 찾아서 글 저장 트랜잭션 안에서 alarm_outbox에 기록한다 (기업 조회는 DB 없이 메모리에서).
+ * 지역 정보가 없는 기업은 모든 지역 요청을 받는다.
+ * 인테리어 업체를 등록한 기업은 시공 가능 지역 색인(InteriorRegionIndex)에서 시/군/구 단위로 찾는다
+ * (다른 서버에서 등록된 업체는 그 색인이 같은 갱신 주기로 보충한다).
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMatchingEngine {
+
+	public static final String ESTATE = "estate";
+	public static final String INTERIOR = "interior";
+
+	private final CompanyDslRepository companyDslRepository;
+	private final AlarmOutboxPublisher alarmOutboxPublisher;
+	private final InteriorRegionIndex interiorRegionIndex;
+
+	// 기업 타입 -> 시/도 -> 기업들 (지역 없는 기업은 ""), 변경시 통째로 교체
+	private volatile Map<String, Map<String, Set<UUID>>> index = new HashMap<>();
+	// 기업별 현재 색인 정보 (부분 갱신용)
+	private final Map<UUID, CompanyRegionDto> companies = new HashMap<>();
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${match.refresh-interval:600000}", initialDelayString = "${match.refresh-interval:600000}")
+	public void reload() {
+		try {
+			List<CompanyRegionDto> all = companyDslRepository.findCompanyRegions(null);
+			synchronized (companies) {
+				companies.clear();
+				for (CompanyRegionDto dto : all) {
+					merge(dto);
+				}
+				rebuild();
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	// 기업 가입/정보 수정/인테리어 업체 등록 후 호출, 트랜잭션 안이면 커밋된 뒤에 다시 읽는다 (롤백된 정보가 색인에 남지 않게)
+	public void refresh(UUID companyId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					reloadCompany(companyId);
+				}
+			});
+		} else {
+			reloadCompany(companyId);
+		}
+	}
+
+	private void reloadCompany(UUID companyId) {
+		try {
+			List<CompanyRegionDto> rows = companyDslRepository.findCompanyRegions(companyId);
+			synchronized (companies) {
+				companies.remove(companyId);
+				for (CompanyRegionDto dto : rows) {
+					merge(dto);
+				}
+				rebuild();
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	// 인테리어 업체 정보가 여러 행이면 시공 가능 지역을 합친다
+	private void merge(CompanyRegionDto dto) {
+		CompanyRegionDto existing = companies.get(dto.getCompanyId());
+		if (existing != null && dto.getPossibleLocation() != null) {
+			existing.setPossibleLocation(existing.getPossibleLocation() == null ? dto.getPossibleLocation()
+					: existing.getPossibleLocation() + "," + dto.getPossibleLocation());
+		} else if (existing == null) {
+			companies.put(dto.getCompanyId(), dto);
+		}
+	}
+
+	private void rebuild() {
+		Map<String, Map<String, Set<UUID>>> built = new HashMap<>();
+		for (CompanyRegionDto dto : companies.values()) {
+			String kind = kindOf(dto.getType());
+			if (kind == null) continue;
+			// 인테리어 업체 등록 기업은 시공 가능 지역 색인에서 찾는다 (색인 준비 전에는 여기서 시/도 단위로)
+			if (INTERIOR.equals(kind) && dto.getInteriorNum() != null && interiorRegionIndex.isReady()) continue;
+			List<String> regions = INTERIOR.equals(kind) && dto.getPossibleLocation() != null
+					? RegionUtil.regionsOf(dto.getPossibleLocation())
+					: RegionUtil.regionsOf(dto.getCompanyAddress());
+			if (regions.isEmpty()) regions = Collections.singletonList("");
+			Map<String, Set<UUID>> byRegion = built.computeIfAbsent(kind, k -> new HashMap<>());
+			for (String region : regions) {
+				byRegion.computeIfAbsent(region, r -> new HashSet<>()).add(dto.getCompanyId());
+			}
+		}
+		index = built;
+	}
+
+	// "부동산"/"estate", "인테리어"/"interior" 둘 다 사용중
+	public static String kindOf(String type) {
+		if (ESTATE.equals(type) || "부동산".equals(type)) return ESTATE;
+		if (INTERIOR.equals(type) || "인테리어".equals(type)) return INTERIOR;
+		return null;
+	}
+
+	public Set<UUID> match(String kind, String address1) {
+		Map<String, Set<UUID>> byRegion = index.getOrDefault(kind, new HashMap<>());
+		Set<UUID> matched = new HashSet<>();
+		String region = RegionUtil.regionOf(address1);
+		if (region != null && byRegion.containsKey(region)) matched.addAll(byRegion.get(region));
+		if (byRegion.containsKey("")) matched.addAll(byRegion.get(""));
+		if (INTERIOR.equals(kind)) {
+			Set<UUID> byArea = interiorRegionIndex.matchCompanies(address1);
+			if (byArea != null) matched.addAll(byArea);
+		}
+		return matched;
+	}
+
+	// 요청글 등록 알림 (source: house, onestop, interiorAll)
+	public void notifyNewRequest(String source, Integer requestNum, UUID userId, String address1, String title) {
+		List<String> kinds = new ArrayList<>();
+		String board;
+		switch (source) {
+		case "house": // 집 구해요 -> 중개업체
+			kinds.add(ESTATE);
+			board = "집꾸";
+			break;
+		case "onestop": // 집 + 인테리어 -> 둘 다
+			kinds.add(ESTATE);
+			kinds.add(INTERIOR);
+			board = "한번에 꾸하기";
+			break;
+		default: // 방꾸 -> 인테리어 업체
+			kinds.add(INTERIOR);
+			board = "방꾸";
+		}
+
+		Set<UUID> targets = new HashSet<>();
+		for (String kind : kinds) {
+			targets.addAll(match(kind, address1));
+		}
+		String message = "새 " + board + " 요청이 등록되었습니다: " + title;
+		// 글이 롤백되면 알림 요청도 같이 사라지고, 저장/푸시는 커밋 후 AlarmOutboxConsumer가 한다
+		alarmOutboxPublisher.requestMatched(source, requestNum, userId, targets, message);
+	}
+}
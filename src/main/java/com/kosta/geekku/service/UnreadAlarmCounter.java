@@ -0,0 +1,95 @@
+package com.kosta.geekku.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kosta.geekku.entity.AlarmOutbox;
+import com.kosta.geekku.repository.AlarmDslRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 받는 사람별 안읽은 알림 수 (헤더 알림 배지용), 개인(AlarmOutbox.USER)/기업(AlarmOutbox.COMPANY) 따로 센다.
+ * 처음 조회할 때 한 번만 DB에서 세고, 이후 알림 저장/읽음 처리 때 메모리 값을 같이 증감한다.
+ * 다른 서버에서 저장/읽음 처리된 알림은 여기 반영되지 않으므로 ttl이 지난 값은 다시 센다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadAlarmCounter {
+
+	private final AlarmDslRepository alarmDslRepository;
+
+	@Value("${alarm.unread.ttl:300000}")
+	private long ttl;
+
+	@Value("${alarm.unread.max-entries:100000}")
+	private int maxEntries;
+
+	private static class Entry {
+		final AtomicInteger count;
+		final long loadedAt = System.currentTimeMillis();
+
+		Entry(int count) {
+			this.count = new AtomicInteger(count);
+		}
+	}
+
+	private final Map<UUID, Entry> userCounts = new ConcurrentHashMap<>();
+	private final Map<UUID, Entry> companyCounts = new ConcurrentHashMap<>();
+
+	// recipientType: AlarmOutbox.USER / AlarmOutbox.COMPANY
+	public int unread(String recipientType, UUID recipientId) throws Exception {
+		Map<UUID, Entry> counts = countsOf(recipientType);
+		Entry entry = counts.get(recipientId);
+		if (entry != null && !expired(entry, System.currentTimeMillis())) return Math.max(0, entry.count.get());
+		int count = (int) (AlarmOutbox.USER.equals(recipientType) ? alarmDslRepository.countUnreadUserAlarms(recipientId)
+				: alarmDslRepository.countUnreadCompanyAlarms(recipientId));
+		if (userCounts.size() + companyCounts.size() >= maxEntries) evictExpired();
+		if (userCounts.size() + companyCounts.size() < maxEntries) counts.put(recipientId, new Entry(count));
+		return count;
+	}
+
+	// 알림 저장(+)/읽음 처리(-) 후 호출. 트랜잭션 안이면 커밋된 뒤에 반영 (롤백시 버림)
+	// 아직 센 적 없는 사용자는 다음 조회때 DB에서 센다
+	public void add(String recipientType, UUID recipientId, int delta) {
+		if (delta == 0) return;
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply(recipientType, recipientId, delta);
+				}
+			});
+		} else {
+			apply(recipientType, recipientId, delta);
+		}
+	}
+
+	private void apply(String recipientType, UUID recipientId, int delta) {
+		Entry entry = countsOf(recipientType).get(recipientId);
+		if (entry != null) entry.count.addAndGet(delta);
+	}
+
+	private Map<UUID, Entry> countsOf(String recipientType) {
+		return AlarmOutbox.USER.equals(recipientType) ? userCounts : companyCounts;
+	}
+
+	private boolean expired(Entry entry, long now) {
+		return now - entry.loadedAt >= ttl;
+	}
+
+	@Scheduled(fixedDelayString = "${alarm.unread.cleanup-interval:60000}")
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		userCounts.values().removeIf(entry -> expired(entry, now));
+		companyCounts.values().removeIf(entry -> expired(entry, now));
+	}
+}
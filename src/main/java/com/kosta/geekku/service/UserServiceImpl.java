@@ -7,6 +7,7 @@ import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.kosta.geekku.config.auth.PrincipalCache;
 import com.kosta.geekku.dto.UserDto;
 import com.kosta.geekku.entity.User;
 import com.kosta.geekku.repository.CompanyRepository;
@@ -21,6 +22,9 @@ public class UserServiceImpl implements UserService {
 	@Autowired
 	private CompanyRepository companyRepository;
 
+	@Autowired
+	private PrincipalCache principalCache;
+
 	@Override
 	public void joinPerson(UserDto userDto) throws Exception {
 		User user = userDto.toEntity();
@@ -73,13 +77,15 @@ public class UserServiceImpl implements UserService {
 		if(userDto.getPhone() != null) user.setPhone(userDto.getPhone());
 		if(userDto.getEmail() != null) user.setEmail(userDto.getEmail());
 		userRepository.save(user);
+		principalCache.evict(userId);
 	}
 
 	@Override
 	public void changePassword(UUID userId, String newPassword) throws Exception {
 		User user = userRepository.findById(userId).orElseThrow(() -> new Exception("사용자를 찾을 수 없습니다"));
 		user.setPassword(newPassword);
-		userRepository.save(user);		
+		userRepository.save(user);
+		principalCache.evict(userId);
 	}
 
 	@Override
@@ -0,0 +1,36 @@
+package com.kosta.geekku.util;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여러 게시판을 합친 피드의 커서.
+ * 정렬 기준 (작성시간 desc, 출처 desc, 글번호 desc) 의 마지막 항목을 "작성시간(ms)_출처순서_글번호" 문자열로 주고받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedCursor {
+
+	private final long createdAt;
+	private final int source;
+	private final int num;
+
+	public static FeedCursor parse(String cursor) {
+		if (cursor == null || cursor.trim().equals("")) return null;
+		String[] parts = cursor.split("_");
+		if (parts.length != 3) {
+			throw new IllegalArgumentException("커서 형식 오류: " + cursor);
+		}
+		return new FeedCursor(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+	}
+
+	public static String of(Timestamp createdAt, int source, int num) {
+		return createdAt.getTime() + "_" + source + "_" + num;
+	}
+
+	public Timestamp getTimestamp() {
+		return new Timestamp(createdAt);
+	}
+}
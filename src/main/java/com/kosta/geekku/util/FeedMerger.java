@@ -0,0 +1,40 @@
+package com.kosta.geekku.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 이미 같은 순서로 정렬된 여러 목록을 하나로 합친다 (k-way merge).
+ * 목록마다 맨 앞 항목만 힙에 올려두므로 limit개를 뽑는 데 O(limit log k).
+ */
+public class FeedMerger {
+
+	public static <T> List<T> merge(List<List<T>> sources, Comparator<T> order, int limit) {
+		PriorityQueue<Head<T>> heap = new PriorityQueue<>((a, b) -> order.compare(a.item, b.item));
+		for (List<T> source : sources) {
+			Iterator<T> it = source.iterator();
+			if (it.hasNext()) heap.add(new Head<>(it.next(), it));
+		}
+
+		List<T> merged = new ArrayList<>();
+		while (!heap.isEmpty() && merged.size() < limit) {
+			Head<T> head = heap.poll();
+			merged.add(head.item);
+			if (head.rest.hasNext()) heap.add(new Head<>(head.rest.next(), head.rest));
+		}
+		return merged;
+	}
+
+	private static class Head<T> {
+		private final T item;
+		private final Iterator<T> rest;
+
+		private Head(T item, Iterator<T> rest) {
+			this.item = item;
+			this.rest = rest;
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.kosta.geekku.util;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 단일 게시판 목록의 커서.
+ * 정렬 기준 (작성시간 desc, 글번호 desc) 의 마지막 항목을 "작성시간(ms)_글번호" 문자열로 주고받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+	private final long createdAt;
+	private final int num;
+
+	public static KeysetCursor parse(String cursor) {
+		if (cursor == null || cursor.trim().equals("")) return null;
+		String[] parts = cursor.split("_");
+		if (parts.length != 2) {
+			throw new IllegalArgumentException("커서 형식 오류: " + cursor);
+		}
+		return new KeysetCursor(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+	}
+
+	public static String of(Timestamp createdAt, Integer num) {
+		return createdAt.getTime() + "_" + num;
+	}
+
+	public Timestamp getTimestamp() {
+		return new Timestamp(createdAt);
+	}
+}
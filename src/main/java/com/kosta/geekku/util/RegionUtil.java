@@ -0,0 +1,103 @@
+package com.kosta.geekku.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지역 문자열 정규화.
+ * "서울특별시 강남구 ...", "전남 순천시" 같은 주소나 "서울,경기" 같은 시공 가능 지역에서
+ * 시/도를 지역 코드("서울", "전남")로 바꾼다. 정식 이름, 줄임말 모두 별칭 표로 찾는다.
+ * 요청글 주소와는 namesOf()의 이름들과 앞부분 일치로 비교한다.
+ * 시공 가능 지역 코드는 시/도 또는 "시/도 시/군/구" ("서울", "서울 강남구") 단위로 만든다.
+ */
+public class RegionUtil {
+
+	// 시/도 코드 -> 쓰이는 이름들 (첫번째가 코드, 정식 이름, 그 외 별칭 순)
+	private static final String[][] PROVINCES = {
+			{ "서울", "서울특별시", "서울시" },
+			{ "부산", "부산광역시", "부산시" },
+			{ "대구", "대구광역시", "대구시" },
+			{ "인천", "인천광역시", "인천시" },
+			{ "광주", "광주광역시" },
+			{ "대전", "대전광역시", "대전시" },
+			{ "울산", "울산광역시", "울산시" },
+			{ "세종", "세종특별자치시", "세종시" },
+			{ "경기", "경기도" },
+			{ "강원", "강원특별자치도", "강원도" },
+			{ "충북", "충청북도", "충청북" },
+			{ "충남", "충청남도", "충청남" },
+			{ "전북", "전북특별자치도", "전라북도", "전라북" },
+			{ "전남", "전라남도", "전라남" },
+			{ "경북", "경상북도", "경상북" },
+			{ "경남", "경상남도", "경상남" },
+			{ "제주", "제주특별자치도", "제주도" } };
+
+	// 이름 -> 시/도 코드
+	private static final Map<String, String> CODES = new HashMap<>();
+	// 시/도 코드 -> 이름들
+	private static final Map<String, List<String>> NAMES = new HashMap<>();
+
+	static {
+		for (String[] province : PROVINCES) {
+			for (String name : province) {
+				CODES.put(name, province[0]);
+			}
+			NAMES.put(province[0], Arrays.asList(province));
+		}
+	}
+
+	// 주소의 첫 단어 -> 시/도 코드 (표에 없는 이름은 그대로)
+	public static String regionOf(String address) {
+		if (address == null || address.trim().equals("")) return null;
+		String first = address.trim().split("\\s+")[0];
+		return CODES.getOrDefault(first, first);
+	}
+
+	// 시/도 코드로 주소를 앞부분 일치 비교할 때 쓸 이름들 (표에 없으면 코드 그대로)
+	public static List<String> namesOf(String region) {
+		return NAMES.getOrDefault(region, Collections.singletonList(region));
+	}
+
+	// 콤마/슬래시로 구분된 여러 지역
+	public static List<String> regionsOf(String locations) {
+		List<String> regions = new ArrayList<>();
+		if (locations == null) return regions;
+		for (String location : locations.split("[,/]")) {
+			String region = regionOf(location);
+			if (region != null && !regions.contains(region)) regions.add(region);
+		}
+		return regions;
+	}
+
+	// 주소/지역 -> 지역 코드 ("서울" 또는 "서울 강남구")
+	public static String areaCodeOf(String location) {
+		String sido = regionOf(location);
+		if (sido == null) return null;
+		String[] words = location.trim().split("\\s+");
+		if (words.length > 1 && words[1].length() > 1 && words[1].matches(".+[시군구]")) {
+			return sido + " " + words[1];
+		}
+		return sido;
+	}
+
+	// 콤마/슬래시로 구분된 여러 지역 -> 지역 코드
+	public static List<String> areaCodesOf(String locations) {
+		List<String> codes = new ArrayList<>();
+		if (locations == null) return codes;
+		for (String location : locations.split("[,/]")) {
+			String code = areaCodeOf(location);
+			if (code != null && !codes.contains(code)) codes.add(code);
+		}
+		return codes;
+	}
+
+	// 지역 코드의 시/도 부분
+	public static String sidoOf(String areaCode) {
+		int space = areaCode.indexOf(' ');
+		return space < 0 ? areaCode : areaCode.substring(0, space);
+	}
+}
@@ -0,0 +1,24 @@
+package com.kosta.geekku.util;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID <-> BINARY(16) 변환 (JdbcTemplate으로 직접 쓰는 쿼리용, JPA 매핑과 같은 바이트 순서)
+ */
+public class UuidUtil {
+
+	public static byte[] toBytes(UUID uuid) {
+		if (uuid == null) return null;
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		buffer.putLong(uuid.getMostSignificantBits());
+		buffer.putLong(uuid.getLeastSignificantBits());
+		return buffer.array();
+	}
+
+	public static UUID fromBytes(byte[] bytes) {
+		if (bytes == null) return null;
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		return new UUID(buffer.getLong(), buffer.getLong());
+	}
+}
@@ -0,0 +1,142 @@
+package com.kosta.geekku.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kosta.geekku.entity.QCompany;
+import com.kosta.geekku.entity.QInterior;
+import com.kosta.geekku.entity.QInteriorServiceArea;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+// 시/도, 시/군/구 검색 범위와 전국 업체 포함, 다른 서버 등록/탈퇴 보충이 업체 목록(DB) 기준과 같은지 확인
+class InteriorRegionIndexTest {
+
+	private static final UUID C1 = UUID.randomUUID();
+	private static final UUID C2 = UUID.randomUUID();
+	private static final UUID C3 = UUID.randomUUID();
+	private static final UUID C4 = UUID.randomUUID();
+	private static final UUID C6 = UUID.randomUUID();
+
+	private final QInterior interior = QInterior.interior;
+	private final QCompany company = QCompany.company;
+	private final QInteriorServiceArea area = QInteriorServiceArea.interiorServiceArea;
+	private QTuple interiorRow;
+	private QTuple areaRow;
+
+	// 가짜 DB (탈퇴하지 않은 기업의 업체 행, 지역 행, 새로 등록된 업체/지역 번호, 탈퇴한 기업의 업체 번호)
+	private List<Tuple> interiors;
+	private List<Tuple> areas;
+	private List<Integer> newInteriors;
+	private List<Integer> withdrawn;
+	private InteriorRegionIndex index;
+
+	@BeforeEach
+	void setUp() {
+		interiorRow = Projections.tuple(interior.interiorNum, company.companyId, interior.possibleLocation);
+		areaRow = Projections.tuple(area.interiorNum, area.regionCode);
+		interiors = new ArrayList<>(Arrays.asList(interiorRow.newInstance(1, C1, "서울 강남구"),
+				interiorRow.newInstance(2, C2, "서울"), interiorRow.newInstance(3, C3, null),
+				interiorRow.newInstance(4, C4, "부산")));
+		areas = new ArrayList<>(Arrays.asList(areaRow.newInstance(1, "서울 강남구"), areaRow.newInstance(2, "서울"),
+				areaRow.newInstance(4, "부산")));
+		newInteriors = new ArrayList<>();
+		withdrawn = new ArrayList<>();
+
+		// select한 컬럼과 where 조건으로 어떤 조회인지 구분하는 가짜 JPAQueryFactory
+		JPAQueryFactory jpaQueryFactory = mock(JPAQueryFactory.class, inv -> {
+			if (!inv.getMethod().getName().equals("select")) return Answers.RETURNS_DEFAULTS.answer(inv);
+			List<Object> selected = Arrays.asList(inv.getArguments());
+			StringBuilder where = new StringBuilder();
+			return mock(JPAQuery.class, q -> {
+				switch (q.getMethod().getName()) {
+				case "where":
+					where.append(Arrays.toString(q.getArguments()));
+					return q.getMock();
+				case "fetchOne":
+					return 0;
+				case "fetch":
+					return fetch(selected, where.toString());
+				default:
+					return Answers.RETURNS_SELF.answer(q);
+				}
+			});
+		});
+
+		index = new InteriorRegionIndex();
+		ReflectionTestUtils.setField(index, "jpaQueryFactory", jpaQueryFactory);
+		index.rebuild();
+	}
+
+	private List<?> fetch(List<Object> selected, String where) {
+		if (selected.size() == 3) return interiors;
+		if (selected.size() == 2) return areas;
+		Expression<?> column = (Expression<?>) selected.get(0);
+		if (column.equals(area.interiorNum)) return newInteriors;
+		return where.contains("status") ? withdrawn : newInteriors;
+	}
+
+	private List<Integer> page(String location) {
+		return index.page(location, null, 10);
+	}
+
+	@Test
+	void sidoIncludesDistrictsAndDistrictIncludesWholeSido() {
+		assertEquals(Arrays.asList(3, 2, 1), page("서울"));
+		assertEquals(Arrays.asList(3, 2, 1), page("서울특별시 강남구"));
+		assertEquals(Arrays.asList(3, 2), page("서울 서초구"));
+		assertEquals(Arrays.asList(4, 3), page("부산광역시"));
+		// 지역 정보가 없는 업체는 모든 지역에 나온다
+		assertEquals(Collections.singletonList(3), page("전라남도 순천시"));
+		assertEquals(Collections.singletonList(2), index.page("서울", 3, 1));
+	}
+
+	@Test
+	void matchesCompaniesByRequestAddress() {
+		assertEquals(new HashSet<>(Arrays.asList(C1, C2, C3)), index.matchCompanies("서울특별시 강남구 역삼동"));
+		assertEquals(new HashSet<>(Arrays.asList(C2, C3)), index.matchCompanies("서울 마포구"));
+	}
+
+	@Test
+	void putReplacesPreviousAreas() {
+		index.put(1, C1, Collections.singletonList("부산"));
+		assertEquals(Arrays.asList(3, 2), page("서울 강남구"));
+		assertEquals(Arrays.asList(3, 2), page("서울"));
+		assertEquals(Arrays.asList(4, 3, 1), page("부산"));
+
+		index.put(5, C1, Collections.singletonList("전남 순천시"));
+		assertEquals(Arrays.asList(5, 3), page("전남"));
+	}
+
+	@Test
+	void catchUpAddsInteriorsFromOtherNodesAndDropsWithdrawnCompanies() {
+		interiors.add(interiorRow.newInstance(6, C6, "전라남도 순천시"));
+		areas.add(areaRow.newInstance(6, "전남 순천시"));
+		newInteriors.add(6);
+		interiors.removeIf(row -> row.get(interior.interiorNum) == 2);
+		withdrawn.add(2);
+
+		index.catchUp();
+
+		assertEquals(Arrays.asList(6, 3), page("전남 순천시"));
+		assertEquals(Arrays.asList(3, 1), page("서울"));
+		assertEquals(new HashSet<>(Arrays.asList(C1, C3)), index.matchCompanies("서울 강남구"));
+		assertEquals(Arrays.asList(3, 4), index.candidates("부산"));
+	}
+}
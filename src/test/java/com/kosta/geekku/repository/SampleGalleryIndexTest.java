@@ -0,0 +1,106 @@
+package com.kosta.geekku.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kosta.geekku.entity.QInteriorSample;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+// 같은 초에 등록된 시공사례를 커서로 넘길 때 빠지거나 순서가 DB 조회와 달라지지 않는지 확인
+class SampleGalleryIndexTest {
+
+	private static final long SECOND = Timestamp.valueOf("2024-05-01 12:00:00").getTime();
+
+	private final QInteriorSample sample = QInteriorSample.interiorSample;
+	private SampleGalleryIndex index;
+	private Map<Integer, Timestamp> createdAt;
+	private QTuple row;
+	private List<Tuple> rows;
+
+	@BeforeEach
+	void setUp() {
+		row = Projections.tuple(sample.sampleNum, sample.createdAt, sample.type, sample.style, sample.size,
+				sample.location);
+		createdAt = new HashMap<>();
+		createdAt.put(1, new Timestamp(SECOND + 100));
+		createdAt.put(2, new Timestamp(SECOND + 900));
+		createdAt.put(3, new Timestamp(SECOND + 500));
+		createdAt.put(4, new Timestamp(SECOND + 1000));
+		createdAt.put(5, new Timestamp(SECOND - 1));
+		createdAt.put(6, new Timestamp(SECOND + 500));
+		rows = new ArrayList<>();
+		createdAt.forEach((num, ts) -> rows.add(row.newInstance(num, ts, "아파트", "모던", 20, "서울")));
+
+		// 색인 로딩 쿼리(select ... fetch) 결과만 돌려주는 가짜 JPAQueryFactory
+		JPAQuery<?> query = mock(JPAQuery.class,
+				inv -> inv.getMethod().getName().equals("fetch") ? rows : Answers.RETURNS_SELF.answer(inv));
+		JPAQueryFactory jpaQueryFactory = mock(JPAQueryFactory.class,
+				inv -> JPAQuery.class.isAssignableFrom(inv.getMethod().getReturnType()) ? query
+						: Answers.RETURNS_DEFAULTS.answer(inv));
+
+		index = new SampleGalleryIndex();
+		ReflectionTestUtils.setField(index, "jpaQueryFactory", jpaQueryFactory);
+		index.rebuild();
+	}
+
+	@Test
+	void pagesNewestAcrossSameSecond() {
+		assertEquals(Arrays.asList(4, 2, 6, 3, 1, 5), pageAll(new HashMap<>(), false, 1));
+		assertEquals(Arrays.asList(4, 2, 6, 3, 1, 5), pageAll(new HashMap<>(), false, 2));
+	}
+
+	@Test
+	void pagesOldestAcrossSameSecond() {
+		assertEquals(Arrays.asList(5, 1, 3, 6, 2, 4), pageAll(new HashMap<>(), true, 1));
+	}
+
+	@Test
+	void pagesFilteredAcrossSameSecond() {
+		Map<String, String> filters = new HashMap<>();
+		filters.put(SampleGalleryIndex.LOCATION, "서울");
+		assertEquals(Arrays.asList(4, 2, 6, 3, 1, 5), pageAll(filters, false, 1));
+	}
+
+	// 다른 서버에서 등록된 시공사례 (DB에만 있음) 도 다음 목록 조회에 나온다
+	@Test
+	void catchesUpRowsAddedOnOtherNodes() {
+		createdAt.put(7, new Timestamp(SECOND + 2000));
+		rows.add(row.newInstance(7, createdAt.get(7), "아파트", "모던", 20, "서울"));
+		assertEquals(Arrays.asList(7, 4, 2, 6, 3, 1, 5), pageAll(new HashMap<>(), false, 2));
+	}
+
+	@Test
+	void cursorKeepsMilliseconds() {
+		assertEquals((SECOND + 900) + "_2", SampleGalleryIndex.cursorOf(createdAt.get(2), 2));
+	}
+
+	// 마지막 항목의 커서로 다음 페이지를 계속 읽는다
+	private List<Integer> pageAll(Map<String, String> filters, boolean oldest, int pageSize) {
+		List<Integer> all = new ArrayList<>();
+		String cursor = null;
+		while (true) {
+			List<Integer> page = index.page(filters, cursor, oldest, pageSize);
+			if (page.isEmpty()) break;
+			all.addAll(page);
+			Integer last = page.get(page.size() - 1);
+			cursor = SampleGalleryIndex.cursorOf(createdAt.get(last), last);
+		}
+		return all;
+	}
+}
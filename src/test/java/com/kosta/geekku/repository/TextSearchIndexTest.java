@@ -0,0 +1,114 @@
+package com.kosta.geekku.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kosta.geekku.entity.QOnestop;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+// 역색인 검색 결과가 LIKE '%word%' (대소문자 무시) 결과와 같은지 확인
+class TextSearchIndexTest {
+
+	private static final List<String> WORDS = Arrays.asList("서울", "서울 강남", "강남 서울", "가나다", "가", "나다",
+			"Apple", "apple pie", "pie", " 강남구 ", "없는말", "a", "p");
+
+	private final QOnestop onestop = QOnestop.onestop;
+	private TextSearchIndex index;
+	// 글번호 -> 제목 (LIKE 비교용)
+	private Map<Integer, String> titles;
+
+	@BeforeEach
+	void setUp() {
+		titles = new TreeMap<>();
+		titles.put(1, "서울 강남 아파트");
+		titles.put(2, "강남 서울 빌라");
+		titles.put(3, "가나 나다 라마");
+		titles.put(4, "가나다라");
+		titles.put(5, "APPLE PIE 주방");
+		titles.put(6, "apple 과 pie");
+		titles.put(7, "서울특별시 강남구");
+		titles.put(8, "가");
+		QTuple row = Projections.tuple(onestop.onestopNum, onestop.title, onestop.content, onestop.address1);
+		List<Tuple> rows = new ArrayList<>();
+		titles.forEach((num, title) -> rows.add(row.newInstance(num, title, "내용", "서울")));
+
+		// 첫 로딩 쿼리(한번에꾸하기)만 행을 돌려주는 가짜 JPAQueryFactory
+		AtomicInteger fetches = new AtomicInteger();
+		JPAQuery<?> query = mock(JPAQuery.class, inv -> inv.getMethod().getName().equals("fetch")
+				? (fetches.getAndIncrement() == 0 ? rows : Collections.emptyList())
+				: Answers.RETURNS_SELF.answer(inv));
+		JPAQueryFactory jpaQueryFactory = mock(JPAQueryFactory.class,
+				inv -> JPAQuery.class.isAssignableFrom(inv.getMethod().getReturnType()) ? query
+						: Answers.RETURNS_DEFAULTS.answer(inv));
+
+		index = new TextSearchIndex();
+		ReflectionTestUtils.setField(index, "jpaQueryFactory", jpaQueryFactory);
+		index.rebuild();
+	}
+
+	private TreeSet<Integer> like(String word) {
+		String needle = word.trim().toLowerCase();
+		TreeSet<Integer> nums = new TreeSet<>();
+		titles.forEach((num, title) -> {
+			if (title.toLowerCase().contains(needle)) nums.add(num);
+		});
+		return nums;
+	}
+
+	private TreeSet<Integer> search(String word) {
+		RoaringBitmap hits = index.search(TextSearchIndex.ONESTOP, "title", word);
+		TreeSet<Integer> nums = new TreeSet<>();
+		hits.forEach((int num) -> nums.add(num));
+		return nums;
+	}
+
+	private void assertSameAsLike() {
+		for (String word : WORDS) {
+			assertEquals(like(word), search(word), "검색어: [" + word + "]");
+		}
+	}
+
+	@Test
+	void matchesLike() {
+		assertSameAsLike();
+		assertEquals(8, index.watermark(TextSearchIndex.ONESTOP));
+	}
+
+	@Test
+	void matchesLikeAfterUpdateAndRemove() {
+		titles.put(4, "강남 가나다");
+		index.indexOnestop(4, "강남 가나다", "내용", "서울");
+		titles.put(9, "새 글 Apple");
+		index.indexOnestop(9, "새 글 Apple", "내용", "서울");
+		titles.remove(1);
+		titles.remove(5);
+		index.removeAll(TextSearchIndex.ONESTOP, Arrays.asList(1, 5));
+
+		assertSameAsLike();
+	}
+
+	@Test
+	void blankWordIsNotSearchedByIndex() {
+		assertNull(index.search(TextSearchIndex.ONESTOP, "title", "  "));
+	}
+}
@@ -0,0 +1,168 @@
+package com.kosta.geekku.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kosta.geekku.entity.AlarmOutbox;
+import com.kosta.geekku.util.UuidUtil;
+
+// 커밋된 알림 요청(번호 이벤트, 배치 기록)이 한 번씩만 알림으로 저장되고 안읽은 수/푸시로 이어지는지 확인
+class AlarmOutboxConsumerTest {
+
+	private static final UUID USER = UUID.randomUUID();
+	private static final UUID COMPANY1 = UUID.randomUUID();
+	private static final UUID COMPANY2 = UUID.randomUUID();
+
+	// 가짜 alarm_outbox (번호 -> 행), 처리된 번호
+	private Map<Integer, Object[]> outbox;
+	private Set<Integer> processed;
+	// INSERT 배치 (테이블 -> 행들)
+	private Map<String, List<Object[]>> inserted;
+	private AlarmPusher alarmPusher;
+	private UnreadAlarmCounter unreadAlarmCounter;
+	private AlarmOutboxConsumer consumer;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		outbox = new HashMap<>();
+		processed = new HashSet<>();
+		inserted = new HashMap<>();
+
+		// 처리기가 쓰는 SQL만 흉내내는 가짜 JdbcTemplate
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class, inv -> {
+			Object[] args = inv.getRawArguments();
+			switch (inv.getMethod().getName()) {
+			case "queryForList":
+				return outbox.keySet().stream().filter(num -> !processed.contains(num)).sorted()
+						.collect(Collectors.toList());
+			case "query":
+				List<Object[]> rows = new ArrayList<>();
+				for (Object num : (Object[]) args[2]) {
+					if (outbox.containsKey(num) && !processed.contains(num)) rows.add(outbox.get(num));
+				}
+				return rows;
+			case "batchUpdate":
+				String table = ((String) args[0]).split("\\s+")[2];
+				inserted.computeIfAbsent(table, t -> new ArrayList<>()).addAll((List<Object[]>) args[1]);
+				return new int[0];
+			case "update":
+				if (((String) args[0]).contains("processed = true WHERE")) {
+					for (Object num : (Object[]) args[1]) {
+						processed.add((Integer) num);
+					}
+				}
+				return 1;
+			default:
+				return Answers.RETURNS_DEFAULTS.answer(inv);
+			}
+		});
+		TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+		when(transactionTemplate.execute(any()))
+				.thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+		alarmPusher = mock(AlarmPusher.class);
+		unreadAlarmCounter = mock(UnreadAlarmCounter.class);
+
+		consumer = new AlarmOutboxConsumer(jdbcTemplate, transactionTemplate, alarmPusher, unreadAlarmCounter);
+		ReflectionTestUtils.setField(consumer, "batchSize", 500);
+		ReflectionTestUtils.setField(consumer, "retryAfter", 30000L);
+	}
+
+	private void company(int num, UUID companyId) {
+		outbox.put(num, new Object[] { num, AlarmOutbox.COMPANY, UuidUtil.toBytes(companyId), UuidUtil.toBytes(USER),
+				"house", 7, null, "새 요청" });
+	}
+
+	private void user(int num, UUID userId) {
+		outbox.put(num, new Object[] { num, AlarmOutbox.USER, UuidUtil.toBytes(userId), UuidUtil.toBytes(COMPANY1),
+				"house", 7, 3, "새 답변" });
+	}
+
+	@Test
+	void batchRecordedAlarmsAreStoredCountedAndPushed() {
+		company(1, COMPANY1);
+		company(2, COMPANY1);
+		company(3, COMPANY2);
+
+		consumer.onOutbox(new AlarmOutboxEvent(null));
+		consumer.flush();
+
+		assertEquals(3, inserted.get("alarm_interior").size());
+		assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), processed);
+		verify(unreadAlarmCounter).add(AlarmOutbox.COMPANY, COMPANY1, 2);
+		verify(unreadAlarmCounter).add(AlarmOutbox.COMPANY, COMPANY2, 1);
+		verify(alarmPusher).poll();
+
+		// 한 번 처리된 요청은 다시 flush해도 저장되지 않는다
+		consumer.onOutbox(new AlarmOutboxEvent(null));
+		consumer.flush();
+		assertEquals(3, inserted.get("alarm_interior").size());
+	}
+
+	@Test
+	void numberedEventOnlyStoresThatRow() {
+		user(1, USER);
+		company(2, COMPANY1);
+
+		consumer.onOutbox(new AlarmOutboxEvent(1));
+		consumer.flush();
+
+		assertEquals(1, inserted.get("alarm_user").size());
+		assertNull(inserted.get("alarm_interior"));
+		assertTrue(processed.contains(1));
+		assertFalse(processed.contains(2));
+		verify(unreadAlarmCounter).add(AlarmOutbox.USER, USER, 1);
+		verify(unreadAlarmCounter, never()).add(eq(AlarmOutbox.COMPANY), any(), anyInt());
+	}
+
+	@Test
+	void rowsProcessedByAnotherNodeAreSkipped() {
+		company(1, COMPANY1);
+		processed.add(1);
+
+		consumer.onOutbox(new AlarmOutboxEvent(1));
+		consumer.flush();
+
+		assertTrue(inserted.isEmpty());
+		verifyNoInteractions(unreadAlarmCounter);
+		verifyNoInteractions(alarmPusher);
+	}
+
+	@Test
+	void sweepPicksUpRowsWhoseEventWasMissed() {
+		company(1, COMPANY2);
+
+		consumer.sweep();
+
+		assertEquals(1, inserted.get("alarm_interior").size());
+		verify(unreadAlarmCounter).add(AlarmOutbox.COMPANY, COMPANY2, 1);
+	}
+}
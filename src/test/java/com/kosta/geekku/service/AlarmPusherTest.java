@@ -0,0 +1,100 @@
+package com.kosta.geekku.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kosta.geekku.dto.AlarmDto;
+import com.kosta.geekku.repository.AlarmDslRepository;
+
+// 다른 서버에서 저장된 알림도 이 서버에 연결된 대상에게 한 번씩만 보내는지 확인
+class AlarmPusherTest {
+
+	private static final UUID CONNECTED = UUID.randomUUID();
+
+	private AlarmDslRepository alarmDslRepository;
+	private AlarmSseRegistry alarmSseRegistry;
+	private AlarmPusher alarmPusher;
+	// 가짜 alarm_interior (이 서버에 연결된 기업 것만)
+	private List<AlarmDto> alarms;
+	private Integer settled;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		alarms = new ArrayList<>();
+		alarmDslRepository = mock(AlarmDslRepository.class);
+		alarmSseRegistry = mock(AlarmSseRegistry.class);
+		when(alarmDslRepository.maxUserAlarmNum()).thenReturn(0);
+		when(alarmDslRepository.maxCompanyAlarmNum()).thenReturn(5);
+		when(alarmDslRepository.settledCompanyAlarmNum(anyInt(), any())).thenAnswer(inv -> settled);
+		when(alarmDslRepository.companyAlarmsFrom(anyInt(), any())).thenAnswer(inv -> {
+			int after = inv.getArgument(0);
+			return alarms.stream().filter(a -> a.getAlarmNum() > after).collect(Collectors.toList());
+		});
+		when(alarmSseRegistry.connected(AlarmSseRegistry.USER)).thenReturn(Collections.emptyList());
+		when(alarmSseRegistry.connected(AlarmSseRegistry.COMPANY)).thenReturn(Arrays.asList(CONNECTED));
+
+		alarmPusher = new AlarmPusher(alarmDslRepository, alarmSseRegistry);
+		ReflectionTestUtils.setField(alarmPusher, "settleMs", 10000L);
+		// 첫 poll은 기동 시점의 마지막 번호만 기억한다
+		alarmPusher.poll();
+	}
+
+	private AlarmDto alarm(int num) {
+		AlarmDto alarm = AlarmDto.builder().alarmNum(num).recipientId(CONNECTED).build();
+		alarms.add(alarm);
+		return alarm;
+	}
+
+	@Test
+	void pushesAlarmsStoredAfterStartOnce() throws Exception {
+		AlarmDto sixth = alarm(6);
+		alarmPusher.poll();
+		alarmPusher.poll();
+
+		verify(alarmSseRegistry, times(1)).publish(AlarmSseRegistry.COMPANY, CONNECTED, sixth);
+	}
+
+	@Test
+	void alarmCommittedOutOfOrderIsNotSkipped() throws Exception {
+		// 8번이 먼저 커밋되고 7번은 나중에 커밋된 경우
+		AlarmDto eighth = alarm(8);
+		alarmPusher.poll();
+		AlarmDto seventh = alarm(7);
+		alarmPusher.poll();
+
+		verify(alarmSseRegistry, times(1)).publish(AlarmSseRegistry.COMPANY, CONNECTED, eighth);
+		verify(alarmSseRegistry, times(1)).publish(AlarmSseRegistry.COMPANY, CONNECTED, seventh);
+
+		// 충분히 지나서 기준 번호가 올라가면 그 이하는 다시 읽지 않는다
+		settled = 8;
+		alarmPusher.poll();
+		alarmPusher.poll();
+		verify(alarmDslRepository, times(1)).companyAlarmsFrom(eq(8), any());
+		verify(alarmSseRegistry, times(2)).publish(eq(AlarmSseRegistry.COMPANY), eq(CONNECTED), any());
+	}
+
+	@Test
+	void alarmsBeforeStartAreNotPushed() throws Exception {
+		alarm(3);
+		alarmPusher.poll();
+
+		verify(alarmSseRegistry, never()).publish(any(), any(), any());
+	}
+}
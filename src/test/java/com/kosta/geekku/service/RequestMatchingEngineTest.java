@@ -0,0 +1,114 @@
+package com.kosta.geekku.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.kosta.geekku.dto.CompanyRegionDto;
+import com.kosta.geekku.repository.CompanyDslRepository;
+import com.kosta.geekku.repository.InteriorRegionIndex;
+
+// 요청글 주소로 기업 타입/지역이 맞는 기업만 한 번씩 알림 대상으로 찾는지 확인
+class RequestMatchingEngineTest {
+
+	private static final UUID USER = UUID.randomUUID();
+	private static final UUID ESTATE_SEOUL = UUID.randomUUID();
+	private static final UUID ESTATE_JEONNAM = UUID.randomUUID();
+	private static final UUID ESTATE_ANYWHERE = UUID.randomUUID();
+	private static final UUID INTERIOR_INDEXED = UUID.randomUUID();
+	private static final UUID INTERIOR_BUSAN = UUID.randomUUID();
+
+	private CompanyDslRepository companyDslRepository;
+	private AlarmOutboxPublisher alarmOutboxPublisher;
+	private InteriorRegionIndex interiorRegionIndex;
+	private RequestMatchingEngine engine;
+	private List<CompanyRegionDto> companies;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		companies = new ArrayList<>(Arrays.asList(
+				CompanyRegionDto.builder().companyId(ESTATE_SEOUL).type("estate").companyAddress("서울특별시 강남구").build(),
+				CompanyRegionDto.builder().companyId(ESTATE_JEONNAM).type("부동산").companyAddress("전라남도 순천시").build(),
+				CompanyRegionDto.builder().companyId(ESTATE_ANYWHERE).type("estate").build(),
+				CompanyRegionDto.builder().companyId(INTERIOR_INDEXED).type("interior").possibleLocation("서울 강남구,경기")
+						.interiorNum(10).build(),
+				CompanyRegionDto.builder().companyId(INTERIOR_BUSAN).type("인테리어").companyAddress("부산광역시 해운대구")
+						.build()));
+		companyDslRepository = mock(CompanyDslRepository.class);
+		when(companyDslRepository.findCompanyRegions(null)).thenAnswer(inv -> companies);
+		alarmOutboxPublisher = mock(AlarmOutboxPublisher.class);
+		interiorRegionIndex = mock(InteriorRegionIndex.class);
+		when(interiorRegionIndex.isReady()).thenReturn(true);
+		when(interiorRegionIndex.matchCompanies(anyString())).thenReturn(Collections.emptySet());
+		when(interiorRegionIndex.matchCompanies("서울 강남구 역삼동"))
+				.thenReturn(Collections.singleton(INTERIOR_INDEXED));
+
+		engine = new RequestMatchingEngine(companyDslRepository, alarmOutboxPublisher, interiorRegionIndex);
+		engine.reload();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<UUID> notified(String source, String address1) {
+		engine.notifyNewRequest(source, 7, USER, address1, "제목");
+		ArgumentCaptor<Collection<UUID>> targets = ArgumentCaptor.forClass(Collection.class);
+		verify(alarmOutboxPublisher).requestMatched(eq(source), eq(7), eq(USER), targets.capture(), any());
+		return new HashSet<>(targets.getValue());
+	}
+
+	@Test
+	void houseGoesToEstateCompaniesInTheSameProvince() {
+		assertEquals(new HashSet<>(Arrays.asList(ESTATE_SEOUL, ESTATE_ANYWHERE)), notified("house", "서울 강남구 역삼동"));
+	}
+
+	@Test
+	void shortProvinceNameMatchesFullName() {
+		assertEquals(new HashSet<>(Arrays.asList(ESTATE_JEONNAM, ESTATE_ANYWHERE)), notified("house", "전남 순천시"));
+	}
+
+	@Test
+	void onestopGoesToEstateAndInteriorCompanies() {
+		assertEquals(new HashSet<>(Arrays.asList(ESTATE_SEOUL, ESTATE_ANYWHERE, INTERIOR_INDEXED)),
+				notified("onestop", "서울 강남구 역삼동"));
+	}
+
+	@Test
+	void registeredInteriorsAreMatchedThroughRegionIndex() {
+		// 색인이 준비되면 등록된 업체는 시/도 색인에서 빠지고 InteriorRegionIndex로만 찾는다
+		assertEquals(Collections.singleton(INTERIOR_BUSAN), notified("interiorAll", "부산 해운대구"));
+	}
+
+	@Test
+	void withoutRegionIndexInteriorsAreMatchedByProvince() {
+		when(interiorRegionIndex.isReady()).thenReturn(false);
+		when(interiorRegionIndex.matchCompanies(anyString())).thenReturn(null);
+		engine.reload();
+
+		assertEquals(Collections.singleton(INTERIOR_INDEXED), notified("interiorAll", "경기도 성남시"));
+	}
+
+	@Test
+	void refreshReplacesCompanyRegions() throws Exception {
+		when(companyDslRepository.findCompanyRegions(ESTATE_SEOUL)).thenReturn(Collections.singletonList(
+				CompanyRegionDto.builder().companyId(ESTATE_SEOUL).type("estate").companyAddress("부산 해운대구").build()));
+		engine.refresh(ESTATE_SEOUL);
+
+		assertEquals(Collections.singleton(ESTATE_ANYWHERE), notified("house", "서울 마포구"));
+	}
+}
@@ -0,0 +1,36 @@
+package com.kosta.geekku.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.Test;
+
+// 응답으로 내려준 커서가 같은 (작성시간, 글번호)로 돌아오는지, 잘못된 커서는 거부하는지 확인
+class KeysetCursorTest {
+
+	@Test
+	void roundTrip() {
+		Timestamp createdAt = Timestamp.valueOf("2024-05-01 12:00:00.123");
+		KeysetCursor cursor = KeysetCursor.parse(KeysetCursor.of(createdAt, 42));
+
+		assertEquals(createdAt.getTime(), cursor.getCreatedAt());
+		assertEquals(42, cursor.getNum());
+		assertEquals(createdAt, cursor.getTimestamp());
+	}
+
+	@Test
+	void blankCursorIsFirstPage() {
+		assertNull(KeysetCursor.parse(null));
+		assertNull(KeysetCursor.parse(" "));
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> KeysetCursor.parse("1714532400000"));
+		assertThrows(IllegalArgumentException.class, () -> KeysetCursor.parse("1714532400000_1_2"));
+		assertThrows(IllegalArgumentException.class, () -> KeysetCursor.parse("abc_1"));
+	}
+}
@@ -0,0 +1,40 @@
+package com.kosta.geekku.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+// 정식 이름/줄임말로 적힌 같은 시/도가 같은 지역 코드가 되는지 확인
+class RegionUtilTest {
+
+	@Test
+	void fullAndShortNamesMapToSameCode() {
+		assertEquals("전남", RegionUtil.regionOf("전라남도 순천시 조례동"));
+		assertEquals("전남", RegionUtil.regionOf("전남 순천시"));
+		assertEquals("충북", RegionUtil.regionOf("충청북도 청주시"));
+		assertEquals("충북", RegionUtil.regionOf("충북"));
+		assertEquals("서울", RegionUtil.regionOf("서울특별시 강남구"));
+		assertEquals("강원", RegionUtil.regionOf("강원특별자치도 춘천시"));
+		assertEquals("강원", RegionUtil.regionOf("강원도 춘천시"));
+		assertEquals("전북", RegionUtil.regionOf("전라북도 전주시"));
+		assertEquals("제주", RegionUtil.regionOf("제주특별자치도 제주시"));
+		assertNull(RegionUtil.regionOf(" "));
+	}
+
+	@Test
+	void areaCodesUseProvinceCode() {
+		assertEquals("전남 순천시", RegionUtil.areaCodeOf("전라남도 순천시"));
+		assertEquals(Arrays.asList("충북", "경기 성남시"), RegionUtil.areaCodesOf("충청북도,경기도 성남시"));
+		assertEquals(Arrays.asList("서울", "부산"), RegionUtil.regionsOf("서울/부산광역시/서울특별시"));
+	}
+
+	@Test
+	void namesCoverFullAndShortNames() {
+		assertTrue(RegionUtil.namesOf("전남").containsAll(Arrays.asList("전남", "전라남도")));
+		assertEquals(Arrays.asList("전국"), RegionUtil.namesOf("전국"));
+	}
+}